@@ -10,6 +10,7 @@ import org.springframework.data.domain.Sort;
 
 import com.petcare.admin.dto.AdminBookingStats;
 import com.petcare.admin.dto.AdminServiceStats;
+import com.petcare.admin.dto.CacheRegionStats;
 import com.petcare.domain.booking.Booking;
 import com.petcare.domain.booking.dto.BookingMapper;
 import com.petcare.domain.booking.dto.BookingResponse;
@@ -220,6 +221,19 @@ public class AdminController {
 		return ResponseEntity.ok(stats);
 	}
 
+	/**
+	 * Devuelve las métricas de cada región de la caché de segundo nivel (empleados, productos y
+	 * consultas del catálogo): ocupación, aciertos, fallos y porcentaje de lecturas servidas desde memoria.
+	 *
+	 * @return Lista de métricas por región, ordenada por nombre.
+	 */
+	@GetMapping("/cache/entities")
+	@PreAuthorize("hasRole('ADMIN')")
+	public ResponseEntity<List<CacheRegionStats>> getEntityCacheStats() {
+		List<CacheRegionStats> stats = adminService.getEntityCacheStats();
+		return ResponseEntity.ok(stats);
+	}
+
 	/**
 	 * Devuelve una lista paginada de citas recientes, con opción de filtrado por
 	 * días.
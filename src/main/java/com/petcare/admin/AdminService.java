@@ -5,6 +5,7 @@ import java.util.List;
 
 import com.petcare.admin.dto.AdminBookingStats;
 import com.petcare.admin.dto.AdminServiceStats;
+import com.petcare.admin.dto.CacheRegionStats;
 import com.petcare.domain.booking.Booking;
 import com.petcare.domain.client.Client;
 import com.petcare.domain.employee.Employee;
@@ -58,6 +59,7 @@ public interface AdminService {
 
     AdminBookingStats getBookingStats();
     AdminServiceStats getServiceStats();
+    List<CacheRegionStats> getEntityCacheStats();
     Page<Booking> getBookingsFromLastDays(Integer days, Pageable pageable);
 	List<User> getAllUsers();
 }
\ No newline at end of file
@@ -2,7 +2,10 @@ package com.petcare.admin;
 
 import com.petcare.admin.dto.AdminBookingStats;
 import com.petcare.admin.dto.AdminServiceStats;
+import com.petcare.admin.dto.CacheRegionStats;
+import com.petcare.auth.security.TokenRevocationList;
 import com.petcare.domain.booking.Booking;
+import com.petcare.domain.booking.BookingCount;
 import com.petcare.domain.booking.BookingRepository;
 import com.petcare.domain.client.Client;
 import com.petcare.domain.client.ClientRepository;
@@ -21,13 +24,18 @@ import com.petcare.enums.BookingStatus;
 import com.petcare.enums.BookingType;
 import com.petcare.enums.Role;
 import com.petcare.exceptions.*;
+import com.petcare.utils.BookingStats;
 import com.petcare.validators.ProductValidator;
 import com.petcare.validators.UserValidator;
 
+import jakarta.persistence.EntityManagerFactory;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -48,6 +56,9 @@ public class AdminServiceImpl implements AdminService {
     private final UserService userService;
     private final EmployeeService employeeService;
     private final ProductService productService;
+    private final TokenRevocationList revocationList;
+    private final BookingStatsCache bookingStatsCache;
+    private final EntityManagerFactory entityManagerFactory;
 
 	// ╔════════════════════════════════════════════════════╗
 	// ║ GESTIÓN DE USUARIOS								║
@@ -66,6 +77,7 @@ public class AdminServiceImpl implements AdminService {
         User user = UserValidator.requireUserById(userRepository, userId);
         user.setAccountStatus(AccountStatus.BLOQUEADA);
         userService.saveForUserType(user);
+        revocationList.revokeUser(user.getUsername());
         log.info("Cuenta bloqueada para el usuario con ID: {}", userId);
     }
 
@@ -79,6 +91,7 @@ public class AdminServiceImpl implements AdminService {
 
         User user = optionalUser.get();
         Role role = user.getRole();
+        revocationList.revokeUser(user.getUsername());
 
         if (role == Role.CLIENTE) {
             clientRepository.deleteById(userId);
@@ -179,48 +192,18 @@ public class AdminServiceImpl implements AdminService {
      
     @Override
     public AdminBookingStats getBookingStats() {
-        List<Booking> allBookings = bookingRepository.findAll();
-
-        int totalBookings = allBookings.size();
-        int confirmed = 0;
-        int cancelled = 0;
-        int aborted = 0;
-        int completed = 0;
-
-        Map<BookingType, Integer> bookingsByType = new HashMap<>();
-        Map<BookingStatus, Integer> bookingsByStatus = new HashMap<>();
-
-        for (Booking booking : allBookings) {
-            BookingStatus status = booking.getStatus();
-            BookingType type = booking.getType();
-
-            if (status == BookingStatus.CONFIRMADA) confirmed++;
-            if (status == BookingStatus.CANCELADA) cancelled++;
-            if (status == BookingStatus.ANULADA) aborted++;
-            if (status == BookingStatus.COMPLETADA) completed++;
-
-            if (bookingsByStatus.containsKey(status)) {
-                bookingsByStatus.put(status, bookingsByStatus.get(status) + 1);
-            } else {
-                bookingsByStatus.put(status, 1);
-            }
-
-            if (bookingsByType.containsKey(type)) {
-                bookingsByType.put(type, bookingsByType.get(type) + 1);
-            } else {
-                bookingsByType.put(type, 1);
-            }
-        }
+        List<BookingCount> counts = bookingStatsCache.getCounts();
+        Map<BookingStatus, Integer> bookingsByStatus = BookingStats.countByStatus(counts);
 
         AdminBookingStats stats = new AdminBookingStats();
-        stats.setTotalBookings(totalBookings);
-        stats.setConfirmedBookings(confirmed);
-        stats.setCancelledBookings(cancelled);
-        stats.setAbortedBookings(aborted);
-        stats.setCompletedBookings(completed);
-        stats.setTotalClients(clientRepository.findAll().size());
-        stats.setTotalEmployees(employeeRepository.findAll().size());
-        stats.setBookingsByType(bookingsByType);
+        stats.setTotalBookings(BookingStats.total(counts));
+        stats.setConfirmedBookings(bookingsByStatus.getOrDefault(BookingStatus.CONFIRMADA, 0));
+        stats.setCancelledBookings(bookingsByStatus.getOrDefault(BookingStatus.CANCELADA, 0));
+        stats.setAbortedBookings(bookingsByStatus.getOrDefault(BookingStatus.ANULADA, 0));
+        stats.setCompletedBookings(bookingsByStatus.getOrDefault(BookingStatus.COMPLETADA, 0));
+        stats.setTotalClients((int) clientRepository.count());
+        stats.setTotalEmployees((int) employeeRepository.count());
+        stats.setBookingsByType(BookingStats.countByType(counts));
         stats.setBookingsByStatus(bookingsByStatus);
 
         log.info("Estadísticas de citas generadas correctamente.");
@@ -229,60 +212,43 @@ public class AdminServiceImpl implements AdminService {
 
     @Override
     public AdminServiceStats getServiceStats() {
-        List<Booking> allBookings = bookingRepository.findAll();
-
-        Map<BookingType, Integer> totalByService = new EnumMap<>(BookingType.class);
-        int totalBookings = allBookings.size();
+        List<BookingCount> counts = bookingStatsCache.getCounts();
 
-        for (Booking booking : allBookings) {
-            BookingType type = booking.getType();
+        int totalBookings = BookingStats.total(counts);
+        Map<BookingType, Integer> totalByService = BookingStats.countByType(counts);
 
-            if (totalByService.containsKey(type)) {
-                totalByService.put(type, totalByService.get(type) + 1);
-            } else {
-                totalByService.put(type, 1);
-            }
-        }
+        AdminServiceStats response = new AdminServiceStats();
+        response.setTotalBookings(totalBookings);
+        response.setMostDemandedService(BookingStats.getMostDemanded(totalByService).orElse(null));
+        response.setLeastDemandedService(BookingStats.getLeastDemanded(totalByService).orElse(null));
+        response.setTotalByService(totalByService);
+        response.setPercentageByService(BookingStats.calculatePercentages(totalByService, totalBookings));
 
-        BookingType mostDemanded = null;
-        BookingType leastDemanded = null;
-        int max = Integer.MIN_VALUE;
-        int min = Integer.MAX_VALUE;
+        log.info("Estadísticas por servicio generadas correctamente.");
+        return response;
+    }
 
-        for (BookingType type : totalByService.keySet()) {
-            int count = totalByService.get(type);
-            if (count > max) {
-                max = count;
-                mostDemanded = type;
-            }
-            if (count < min) {
-                min = count;
-                leastDemanded = type;
+    @Override
+    public List<CacheRegionStats> getEntityCacheStats() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        List<CacheRegionStats> result = new ArrayList<>();
+
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics regionStats = statistics.getCacheRegionStatistics(region);
+            if (regionStats == null) {
+                continue;
             }
-        }
-
-        Map<BookingType, Double> percentageByService = new EnumMap<>(BookingType.class);
-        for (BookingType type : totalByService.keySet()) {
-            int count = totalByService.get(type);
 
-            double percentage = 0.0;
-            if (totalBookings > 0) {
-                percentage = (count * 100.0) / totalBookings;
-            }
+            long hits = regionStats.getHitCount();
+            long misses = regionStats.getMissCount();
+            double hitRatio = hits + misses == 0 ? 0.0 : (double) hits / (hits + misses);
 
-            double rounded = Math.round(percentage * 100.0) / 100.0;
-            percentageByService.put(type, rounded);
+            result.add(new CacheRegionStats(region, regionStats.getElementCountInMemory(), hits, misses,
+                    regionStats.getPutCount(), hitRatio));
         }
 
-        AdminServiceStats response = new AdminServiceStats();
-        response.setTotalBookings(totalBookings);
-        response.setMostDemandedService(mostDemanded);
-        response.setLeastDemandedService(leastDemanded);
-        response.setTotalByService(totalByService);
-        response.setPercentageByService(percentageByService);
-
-        log.info("Estadísticas por servicio generadas correctamente.");
-        return response;
+        result.sort(Comparator.comparing(CacheRegionStats::getRegion));
+        return result;
     }
     
     @Override
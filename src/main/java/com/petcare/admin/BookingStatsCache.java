@@ -0,0 +1,127 @@
+package com.petcare.admin;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.petcare.domain.booking.BookingCount;
+import com.petcare.domain.booking.BookingRepository;
+import com.petcare.domain.booking.archive.ArchivedBookingRepository;
+import com.petcare.domain.booking.event.BookingCreated;
+import com.petcare.domain.booking.event.BookingRescheduled;
+import com.petcare.domain.booking.event.BookingSeriesCreated;
+import com.petcare.domain.booking.event.BookingStatusChanged;
+import com.petcare.domain.booking.event.BookingsReleased;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Caché del conteo agregado de citas por estado y tipo que alimenta las estadísticas del administrador.
+ * <p>
+ * El conteo se calcula con una única consulta la primera vez que se pide y se reutiliza hasta que
+ * un evento de cita lo invalida. Cada invalidación incrementa una versión, de forma que un cálculo
+ * iniciado antes de la invalidación nunca sustituye al valor que debe recalcularse.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingStatsCache {
+
+    private final BookingRepository bookingRepository;
+    private final ArchivedBookingRepository archivedBookingRepository;
+
+    private final AtomicLong version = new AtomicLong();
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * Devuelve el conteo de citas agrupado por estado y tipo.
+     * <p>
+     * Incluye las citas del histórico, que pueden repetir un mismo par (estado, tipo) de la tabla activa.
+     *
+     * @return Lista inmutable de conteos.
+     */
+    public List<BookingCount> getCounts() {
+        long current = version.get();
+        Snapshot cached = snapshot;
+        if (cached != null && cached.version() == current) {
+            return cached.counts();
+        }
+
+        List<BookingCount> all = new ArrayList<>(bookingRepository.countGroupedByStatusAndType());
+        all.addAll(archivedBookingRepository.countGroupedByStatusAndType());
+        List<BookingCount> counts = List.copyOf(all);
+        if (version.get() == current) {
+            snapshot = new Snapshot(current, counts);
+        }
+        return counts;
+    }
+
+    /**
+     * Descarta el conteo en memoria.
+     */
+    public void invalidate() {
+        version.incrementAndGet();
+    }
+
+    /**
+     * Invalida el conteo al registrarse una cita. La invalidación es inmediata y no necesita
+     * pasar por el ejecutor de eventos.
+     *
+     * @param event Cita registrada.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBookingCreated(BookingCreated event) {
+        invalidate();
+    }
+
+    /**
+     * Invalida el conteo al registrarse una serie de citas.
+     *
+     * @param event Serie registrada.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBookingSeriesCreated(BookingSeriesCreated event) {
+        invalidate();
+    }
+
+    /**
+     * Invalida el conteo si la cita ha cambiado de tipo.
+     *
+     * @param event Cita modificada.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBookingRescheduled(BookingRescheduled event) {
+        if (event.type() != event.previousType()) {
+            invalidate();
+        }
+    }
+
+    /**
+     * Invalida el conteo al cambiar el estado de una cita.
+     *
+     * @param event Cambio de estado.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBookingStatusChanged(BookingStatusChanged event) {
+        invalidate();
+    }
+
+    /**
+     * Invalida el conteo si se han anulado citas al liberar la agenda de un empleado.
+     *
+     * @param event Agenda liberada.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBookingsReleased(BookingsReleased event) {
+        if (!event.aborted().isEmpty()) {
+            invalidate();
+        }
+    }
+
+    /** Conteo calculado junto con la versión vigente al iniciar el cálculo. */
+    private record Snapshot(long version, List<BookingCount> counts) { }
+}
@@ -0,0 +1,26 @@
+package com.petcare.admin.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * DTO con las métricas de una región de la caché de segundo nivel de Hibernate.
+ * Permite al administrador comprobar qué lecturas se sirven desde memoria y cuáles llegan a la base de datos.
+ */
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheRegionStats {
+
+    private String region;
+    private long elements;
+
+    private long hits;
+    private long misses;
+    private long puts;
+    private double hitRatio;
+}
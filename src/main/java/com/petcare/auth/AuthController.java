@@ -6,6 +6,7 @@ import com.petcare.exceptions.*;
 import com.petcare.utils.dto.MessageResponse;
 import static com.petcare.utils.constants.MessageConstants.*;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 
 import lombok.RequiredArgsConstructor;
@@ -22,7 +23,7 @@ import org.springframework.web.bind.annotation.*;
  * Expone endpoints públicos para:
  * <ul>
  * <li>Registrar nuevos clientes</li>
- * <li>Iniciar sesión (login)</li>
+ * <li>Iniciar sesión (login) y renovar la sesión con un token de refresco</li>
  * <li>Cambiar o recuperar la contraseña</li>
  * <li>Reactivar cuentas bloqueadas o desactivadas</li>
  * </ul>
@@ -69,19 +70,54 @@ public class AuthController {
 	 * <p>
 	 * Si el usuario existe y la contraseña es correcta, se devuelve un token JWT
 	 * válido para sesiones autenticadas.
+	 * <p>
+	 * Responde con 429 si la cuenta o la IP de origen acumulan demasiados fallos recientes,
+	 * o si hay demasiadas verificaciones de contraseña en curso.
 	 *
 	 * @param request Objeto con el correo y la contraseña.
+	 * @param servletRequest Petición HTTP, de la que se toma la IP de origen (en producción, la que informa el proxy).
 	 * @return Respuesta con el token de acceso y los datos del usuario.
 	 */
 
 	@PostMapping("/login")
-	public ResponseEntity<LoginResponse> authenticateUser(@Valid @RequestBody LoginRequest request) {
+	public ResponseEntity<LoginResponse> authenticateUser(@Valid @RequestBody LoginRequest request,
+			HttpServletRequest servletRequest) {
 		log.info("Intento de login para: {}", request.getUsername());
-		LoginResponse response = authService.login(request);
+		LoginResponse response = authService.login(request, servletRequest.getRemoteAddr());
 		log.info("Login exitoso para: {}", request.getUsername());
 		return ResponseEntity.ok(response);
 	}
 
+	/**
+	 * Renueva la sesión a partir de un token de refresco.
+	 * <p>
+	 * Devuelve un nuevo token de acceso y un nuevo token de refresco; el recibido deja de ser válido.
+	 * Responde con 401 si el token no es válido, ha caducado o ha sido revocado (por ejemplo,
+	 * tras un cambio de contraseña), y rechaza la renovación si la cuenta ya no está activa.
+	 *
+	 * @param request Objeto con el token de refresco.
+	 * @return Respuesta con el nuevo par de tokens y los datos del usuario.
+	 */
+
+	@PostMapping("/refresh")
+	public ResponseEntity<LoginResponse> refreshToken(@Valid @RequestBody RefreshTokenRequest request) {
+		return ResponseEntity.ok(authService.refresh(request.getRefreshToken()));
+	}
+
+	/**
+	 * Completa el login con Google canjeando el código de un solo uso recibido en la redirección.
+	 * <p>
+	 * Responde con 401 si el código no existe, ya se ha usado o ha caducado.
+	 *
+	 * @param request Objeto con el código de acceso.
+	 * @return Respuesta con el par de tokens y los datos del usuario.
+	 */
+
+	@PostMapping("/oauth/exchange")
+	public ResponseEntity<LoginResponse> exchangeOAuthCode(@Valid @RequestBody OAuthCodeRequest request) {
+		return ResponseEntity.ok(authService.exchangeOAuthCode(request.getCode()));
+	}
+
 	// ╔══════════════════════════════════════════════════════════════╗
 	// ║ GESTIÓN DE CONTRASEÑA ║
 	// ╚══════════════════════════════════════════════════════════════╝
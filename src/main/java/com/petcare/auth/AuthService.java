@@ -8,7 +8,11 @@ public interface AuthService {
 
 	LoginResponse register(ClientRequest request);
 
-	LoginResponse login(LoginRequest request);
+	LoginResponse login(LoginRequest request, String clientIp);
+
+	LoginResponse refresh(String refreshToken);
+
+	LoginResponse exchangeOAuthCode(String code);
 
 	boolean changePassword(String username, String newPassword, String confirmPassword);
 
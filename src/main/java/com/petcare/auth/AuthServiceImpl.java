@@ -7,13 +7,20 @@ import java.util.UUID;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.petcare.auth.dto.LoginRequest;
 import com.petcare.auth.dto.LoginResponse;
 import com.petcare.auth.security.JwtUtil;
+import com.petcare.auth.security.LoginThrottle;
+import com.petcare.auth.security.OAuthLoginCodes;
+import com.petcare.auth.security.PasswordVerifier;
+import com.petcare.auth.security.TokenRevocationList;
+import com.petcare.auth.security.VerifiedToken;
 import com.petcare.domain.client.Client;
 import com.petcare.domain.client.ClientService;
 import com.petcare.domain.client.dto.ClientRequest;
+import com.petcare.domain.user.LastAccessTracker;
 import com.petcare.domain.user.User;
 import com.petcare.domain.user.UserAccountService;
 import com.petcare.domain.user.UserService;
@@ -24,6 +31,7 @@ import com.petcare.utils.constants.UrlConstants;
 import com.petcare.validators.AccountValidator;
 import com.petcare.validators.LoginValidator;
 
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -39,6 +47,11 @@ public class AuthServiceImpl implements AuthService {
 	private final JwtUtil jwtUtil;
 	private final SystemEmailService systemEmailService;
 	private final LoginValidator loginValidator;
+	private final LastAccessTracker lastAccessTracker;
+	private final LoginThrottle loginThrottle;
+	private final PasswordVerifier passwordVerifier;
+	private final TokenRevocationList revocationList;
+	private final OAuthLoginCodes oauthLoginCodes;
 
 	@Value("${system.admin.email}")
 	private String adminEmail;
@@ -47,9 +60,9 @@ public class AuthServiceImpl implements AuthService {
 	private String adminPassword;
 
 	@Override
+	@Transactional
 	public LoginResponse register(ClientRequest request) {
 		Client client = clientService.registerClient(request);
-		String token = jwtUtil.generateTokenByUser(client);
 
 		systemEmailService.sendWelcomeEmail(
 			client.getUsername(),
@@ -58,33 +71,97 @@ public class AuthServiceImpl implements AuthService {
 			null
 		);
 
-		return new LoginResponse(token, client.getId(), client.getName(), client.getUsername(), client.getRole(), token);
+		return issueTokens(client);
 	}
 
 	@Override
-	public LoginResponse login(LoginRequest request) {
+	public LoginResponse login(LoginRequest request, String clientIp) {
 		String username = request.getUsername();
 		String password = request.getPassword();
 
+		loginThrottle.tryAcquire(username, clientIp);
+
 		User user = userService.getUserByUsername(username);
 
 		AccountValidator.validateAccountIsActive(user);
 
-		if (!password.equals(adminPassword) && !passwordEncoder.matches(password, user.getPassword())) {
+		if (!password.equals(adminPassword) && !passwordVerifier.matches(password, user.getPassword())) {
 		    loginValidator.onFailedLoginAttempt(user); // ya guarda y lanza excepción si toca
 		    throw new AuthenticationException("Credenciales inválidas. Verifica el correo y la contraseña.");
 		}
 
-		user.setFailedLoginAttempts(0);
-		user.setLastAccess(LocalDateTime.now());
-		userService.saveForUserType(user);
+		loginThrottle.recordSuccess(username, clientIp);
+		userService.resetFailedLogins(user);
+		lastAccessTracker.record(user.getId());
+
+		return issueTokens(user);
+	}
+
+	/**
+	 * Renueva la sesión a partir de un token de refresco.
+	 * <p>
+	 * Vuelve a comprobar el estado de la cuenta, de modo que un usuario bloqueado o desactivado no obtiene
+	 * nuevos tokens de acceso. El token de refresco recibido se revoca y se sustituye por uno nuevo,
+	 * por lo que cada token de refresco solo puede usarse una vez.
+	 *
+	 * @param refreshToken Token de refresco emitido en el login, el registro o una renovación anterior.
+	 * @return Nuevo par de tokens y datos del usuario.
+	 * @throws AuthenticationException si el token no es válido, ha caducado, ha sido revocado o ya se ha usado.
+	 */
+	@Override
+	public LoginResponse refresh(String refreshToken) {
+		VerifiedToken verified;
+		try {
+			verified = jwtUtil.verify(refreshToken);
+		} catch (JwtException | IllegalArgumentException e) {
+			log.warn("Token de refresco rechazado: {}", e.getMessage());
+			throw new AuthenticationException("Token de refresco no válido o caducado.");
+		}
+
+		if (!verified.isRefreshToken() || revocationList.isRevoked(verified)) {
+			log.warn("Token de refresco revocado o de otro tipo para: {}", verified.subject());
+			throw new AuthenticationException("Token de refresco no válido o caducado.");
+		}
+
+		User user = userService.getUserByUsername(verified.subject());
+		AccountValidator.validateAccountIsActive(user);
+
+		if (!revocationList.revokeToken(verified)) {
+			log.warn("Token de refresco reutilizado para: {}", verified.subject());
+			throw new AuthenticationException("Token de refresco no válido o caducado.");
+		}
 
-		String token = jwtUtil.generateTokenByUser(user);
-		return new LoginResponse(token, user.getId(), user.getName(), user.getUsername(), user.getRole(), token);
+		log.info("Sesión renovada para: {}", user.getUsername());
+		return issueTokens(user);
 	}
 
 
 
+	/**
+	 * Canjea el código de un solo uso del login con Google por un par de tokens.
+	 * <p>
+	 * Vuelve a comprobar el estado de la cuenta, ya que el código se generó antes y la cuenta ha podido
+	 * bloquearse mientras tanto.
+	 *
+	 * @param code Código recibido en la redirección del login con Google.
+	 * @return Par de tokens y datos del usuario.
+	 * @throws AuthenticationException si el código no existe, ya se ha usado o ha caducado.
+	 */
+	@Override
+	public LoginResponse exchangeOAuthCode(String code) {
+		Long userId = oauthLoginCodes.redeem(code);
+		if (userId == null) {
+			log.warn("Código de login con Google no válido, caducado o ya usado.");
+			throw new AuthenticationException("Código de acceso no válido o caducado.");
+		}
+
+		User user = userService.getUserById(userId);
+		AccountValidator.validateAccountIsActive(user);
+
+		log.info("Código de login con Google canjeado para: {}", user.getUsername());
+		return issueTokens(user);
+	}
+
 	@Override
 	public boolean changePassword(String username, String newPassword, String confirmPassword) {
 		User user = userService.getUserByUsername(username);
@@ -96,12 +173,14 @@ public class AuthServiceImpl implements AuthService {
 		user.setPassword(passwordEncoder.encode(newPassword));
 		user.setLastPasswordChange(LocalDateTime.now());
 		userService.saveForUserType(user);
+		revocationList.revokeUser(username);
 		log.info("Contraseña cambiada correctamente para: {}", username);
 		return true;
 	}
 
 
 	@Override
+	@Transactional
 	public void sendRecoveryLink(String email) {
 		String token = UUID.randomUUID().toString();
 		LocalDateTime expiration = LocalDateTime.now().plusMinutes(30);
@@ -149,8 +228,22 @@ public class AuthServiceImpl implements AuthService {
 	    user.setAccountStatus(AccountStatus.ACTIVA); // 🔓 Reactiva la cuenta automáticamente
 
 	    userService.saveForUserType(user);
+	    revocationList.revokeUser(user.getUsername());
 	    log.info("Cuenta reactivada y contraseña actualizada correctamente para: {}", user.getUsername());
 
 	    return true;
 	}
-}
\ No newline at end of file
+
+	// ╔════════════════════════════════════════════════════╗
+	// ║                MÉTODOS AUXILIARES                  ║
+	// ╚════════════════════════════════════════════════════╝
+
+	private LoginResponse issueTokens(User user) {
+		String accessToken = jwtUtil.generateAccessToken(user);
+		String refreshToken = jwtUtil.generateRefreshToken(user);
+		String roleLabel = user.getRole() != null ? user.getRole().getLabel() : null;
+
+		return new LoginResponse(accessToken, refreshToken, user.getId(), user.getName(), user.getUsername(),
+				user.getRole(), roleLabel);
+	}
+}
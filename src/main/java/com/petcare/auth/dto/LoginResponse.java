@@ -7,7 +7,10 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 /**
- * Respuesta tras realizar login o registro con éxito en la aplicación.
+ * Respuesta tras realizar login, registro o renovación de sesión con éxito en la aplicación.
+ * <p>
+ * Incluye un token de acceso de corta duración, que se envía en cada petición, y un token de refresco
+ * para obtener un nuevo par en {@code /auth/refresh} cuando el primero caduca.
  */
 @Getter
 @Setter
@@ -16,6 +19,7 @@ import lombok.Setter;
 public class LoginResponse {
     
 	private String token;
+    private String refreshToken;
     private Long id;
     private String name;
     private String username;
@@ -0,0 +1,17 @@
+package com.petcare.auth.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Petición para canjear el código de un solo uso del login con Google por los tokens de sesión.
+ */
+@Getter
+@Setter
+
+public class OAuthCodeRequest {
+
+    @NotBlank(message = "El código de acceso es obligatorio")
+    private String code;
+}
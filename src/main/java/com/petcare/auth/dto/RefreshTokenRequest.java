@@ -0,0 +1,17 @@
+package com.petcare.auth.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Petición para renovar la sesión a partir de un token de refresco.
+ */
+@Getter
+@Setter
+
+public class RefreshTokenRequest {
+
+    @NotBlank(message = "El token de refresco es obligatorio")
+    private String refreshToken;
+}
@@ -0,0 +1,72 @@
+package com.petcare.auth.security;
+
+import java.io.Serializable;
+import java.security.Principal;
+import java.util.List;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import com.petcare.domain.user.User;
+import com.petcare.enums.Role;
+
+/**
+ * Principal de las peticiones autenticadas: copia inmutable de los datos de seguridad de un usuario.
+ * <p>
+ * Es el objeto que {@link JwtAuthFilter} deja en el contexto de seguridad, construido con los datos del token
+ * de acceso sin consultar la base de datos. Al no ser una entidad JPA, varias peticiones simultáneas pueden
+ * compartirlo sin que los cambios de una afecten a las demás. Los controladores lo reciben con
+ * {@link CurrentUser} cuando solo necesitan el ID o el rol; si necesitan la entidad, la reciben con la misma
+ * anotación, que entonces la carga de nuevo en cada petición.
+ * <p>
+ * No incluye el estado de la cuenta: el token no lo garantiza durante toda su vigencia. Las cuentas
+ * bloqueadas o desactivadas se excluyen revocando sus tokens en {@link TokenRevocationList}; quien necesite
+ * el estado actual debe leerlo de la entidad.
+ *
+ * @param id Identificador del usuario, o {@code null} para el administrador definido en la configuración.
+ * @param username Nombre de usuario (email).
+ * @param role Rol del usuario.
+ * @param authorities Permisos concedidos.
+ */
+public record AuthenticatedUser(Long id, String username, Role role, List<GrantedAuthority> authorities) implements Principal, Serializable {
+
+    public AuthenticatedUser {
+        authorities = List.copyOf(authorities);
+    }
+
+    /**
+     * Crea el principal a partir de un usuario cargado de la base de datos.
+     *
+     * @param user Usuario.
+     * @return Copia inmutable de sus datos de seguridad.
+     */
+    public static AuthenticatedUser from(User user) {
+        return new AuthenticatedUser(user.getId(), user.getUsername(), user.getRole(),
+                List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().name())));
+    }
+
+    /**
+     * Crea el principal a partir de un token de acceso ya verificado y no revocado.
+     * <p>
+     * La validez del token (firma, caducidad y revocación) debe haberse comprobado antes.
+     *
+     * @param token Token de acceso verificado.
+     * @return Principal con los datos del token, o {@code null} si el token no indica un rol válido.
+     */
+    public static AuthenticatedUser from(VerifiedToken token) {
+        Role role;
+        try {
+            role = Role.valueOf(token.role());
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return null;
+        }
+
+        return new AuthenticatedUser(token.userId(), token.subject(), role,
+                List.of(new SimpleGrantedAuthority("ROLE_" + role.name())));
+    }
+
+    @Override
+    public String getName() {
+        return username;
+    }
+}
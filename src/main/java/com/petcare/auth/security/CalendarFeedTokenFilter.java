@@ -0,0 +1,74 @@
+package com.petcare.auth.security;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.petcare.domain.booking.calendar.CalendarFeedTokens;
+import com.petcare.domain.user.User;
+import com.petcare.enums.AccountStatus;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import static com.petcare.utils.constants.GlobalConstants.*;
+
+/**
+ * Filtro que autentica las descargas de calendario {@code .ics} con el token del enlace de suscripción.
+ * <p>
+ * Solo actúa en peticiones {@code GET} a los dos calendarios exportados (cliente y empleado) que llevan
+ * el parámetro {@code token} y no vienen ya autenticadas con un JWT. En cualquier otra ruta el token se
+ * ignora, de modo que un enlace filtrado solo permite leer ese calendario. La cuenta debe estar activa.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CalendarFeedTokenFilter extends OncePerRequestFilter {
+
+    private static final Pattern FEED_PATHS =
+            Pattern.compile("^/bookings/(client|employee/\\d+)/calendar\\.ics$");
+
+    private final CalendarFeedTokens calendarFeedTokens;
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod())
+                || request.getParameter(CALENDAR_TOKEN_PARAM) == null
+                || !FEED_PATHS.matcher(request.getServletPath()).matches();
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+        if (SecurityContextHolder.getContext().getAuthentication() == null) {
+            Optional<User> owner = calendarFeedTokens.findUser(request.getParameter(CALENDAR_TOKEN_PARAM));
+
+            if (owner.isPresent() && owner.get().getAccountStatus() == AccountStatus.ACTIVA) {
+                AuthenticatedUser principal = AuthenticatedUser.from(owner.get());
+
+                UsernamePasswordAuthenticationToken authToken =
+                        new UsernamePasswordAuthenticationToken(principal, null, principal.authorities());
+                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authToken);
+            } else {
+                log.warn("Token de calendario no válido o revocado en {}", request.getServletPath());
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+}
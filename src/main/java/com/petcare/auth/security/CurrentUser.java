@@ -0,0 +1,26 @@
+package com.petcare.auth.security;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Inyecta en un parámetro de controlador la entidad del usuario autenticado ({@code User}, {@code Client}
+ * o {@code Employee}), cargada de nuevo en cada petición por {@link CurrentUserArgumentResolver}.
+ * <p>
+ * Si el parámetro es un {@link AuthenticatedUser}, se recibe el principal construido desde el token, sin
+ * consultar la base de datos. Es la opción para los endpoints que solo necesitan el ID o el rol del usuario.
+ * <p>
+ * Sustituye a {@code @AuthenticationPrincipal}: el principal es un {@link AuthenticatedUser} inmutable y
+ * compartido, mientras que la entidad que se recibe aquí pertenece solo a la petición, de modo que los
+ * servicios pueden modificarla sin afectar a otras peticiones ni a la caché.
+ * <p>
+ * Si no hay usuario autenticado o no es del tipo del parámetro, se recibe {@code null}.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CurrentUser {
+}
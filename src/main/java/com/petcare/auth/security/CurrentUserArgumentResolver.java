@@ -0,0 +1,73 @@
+package com.petcare.auth.security;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import com.petcare.domain.user.User;
+import com.petcare.domain.user.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Resuelve los parámetros anotados con {@link CurrentUser}.
+ * <p>
+ * Si el parámetro es un {@link AuthenticatedUser}, se entrega el principal de la petición tal cual, sin
+ * consultar la base de datos. En otro caso se carga la entidad por el ID del {@link AuthenticatedUser} de la petición, en el contexto de persistencia de
+ * la propia petición. El administrador definido en la configuración no tiene fila en la base de datos y se
+ * construye de nuevo desde {@link CustomUserDetailsService}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final UserRepository userRepository;
+    private final UserDetailsService userDetailsService;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(CurrentUser.class)
+                && (parameter.getParameterType() == AuthenticatedUser.class
+                        || User.class.isAssignableFrom(parameter.getParameterType()));
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+            NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof AuthenticatedUser principal)) {
+            return null;
+        }
+
+        if (parameter.getParameterType() == AuthenticatedUser.class) {
+            return principal;
+        }
+
+        User user = load(principal);
+        if (user == null) {
+            log.warn("No se encontró el usuario autenticado con ID {} ({}).", principal.id(), principal.username());
+            return null;
+        }
+
+        return parameter.getParameterType().isInstance(user) ? user : null;
+    }
+
+    private User load(AuthenticatedUser principal) {
+        if (principal.id() != null) {
+            return userRepository.findById(principal.id()).orElse(null);
+        }
+
+        UserDetails details = userDetailsService.loadUserByUsername(principal.username());
+        return details instanceof CustomUserDetails customDetails ? customDetails.getUser() : null;
+    }
+}
@@ -6,15 +6,13 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import com.petcare.domain.user.User;
-import com.petcare.domain.user.UserService;
-import com.petcare.validators.UserValidator;
+import com.petcare.domain.user.LastAccessTracker;
+
+import io.jsonwebtoken.JwtException;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -23,6 +21,15 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Filtro que autentica cada petición a partir del token de acceso JWT de la cabecera {@code Authorization}.
+ * <p>
+ * La validez del token se decide sin consultar la base de datos: firma y caducidad con {@link JwtUtil},
+ * tipo {@code access} y ausencia en {@link TokenRevocationList}, que recibe los bloqueos de cuenta y los
+ * cambios de contraseña. El principal es un {@link AuthenticatedUser} inmutable construido con los claims
+ * del propio token (ID, email y rol); los controladores que necesitan la entidad completa la reciben con
+ * {@link CurrentUser}.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -30,8 +37,8 @@ import lombok.extern.slf4j.Slf4j;
 public class JwtAuthFilter extends OncePerRequestFilter {
 
 	private final JwtUtil jwtUtil;
-	private final UserDetailsService userDetailsService;
-	private final UserService userService;
+	private final LastAccessTracker lastAccessTracker;
+	private final TokenRevocationList revocationList;
 
 
 	@Override
@@ -49,40 +56,40 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 	    }
 
 	    String token = authHeader.substring(7);
-	    String email = jwtUtil.extractUsername(token);
+	    VerifiedToken verified;
+	    try {
+	        verified = jwtUtil.verify(token);
+	    } catch (JwtException | IllegalArgumentException e) {
+	        log.warn("Token JWT rechazado: {}", e.getMessage());
+	        filterChain.doFilter(request, response);
+	        return;
+	    }
+
+	    if (!verified.isAccessToken() || revocationList.isRevoked(verified)) {
+	        log.warn("Token JWT no válido como token de acceso o revocado para: {}", verified.subject());
+	        filterChain.doFilter(request, response);
+	        return;
+	    }
+
+	    String email = verified.subject();
 
 	    if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-	        UserDetails userDetails = userDetailsService.loadUserByUsername(email);
-
-	        if (jwtUtil.isTokenValid(token, userDetails)) {
-	            User user = null; // ← 1. Declaramos user fuera
-
-	            if (userDetails instanceof CustomUserDetails customDetails) {
-	                user = customDetails.getUser(); // ← 2. Lo asignamos dentro
-
-	                if (UserValidator.updateLastAccess(user)) {
-	                    userService.saveForUserType(user);
-	                    log.info("Último acceso actualizado para: {}", user.getUsername());
-	                }
-	            }
-
-	            if (user != null) {
-	            	UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-	            		    user, null, userDetails.getAuthorities()
-	            		);
-	                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-	                SecurityContextHolder.getContext().setAuthentication(authToken);
-
-	                log.info("JWT válido para usuario: {}", email);
-	            } else {
-	                log.warn("No se pudo obtener el usuario desde CustomUserDetails");
-	            }
+	        AuthenticatedUser principal = AuthenticatedUser.from(verified);
+
+	        if (principal != null && !verified.isExpired()) {
+	            lastAccessTracker.record(principal.id());
+
+	            UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+	                    principal, null, principal.authorities());
+	            authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+	            SecurityContextHolder.getContext().setAuthentication(authToken);
+
+	            log.info("JWT válido para usuario: {}", email);
 	        } else {
 	            log.warn("Token JWT inválido para usuario: {}", email);
 	        }
 	    }
 
-
 	    filterChain.doFilter(request, response);
 	}
 }
\ No newline at end of file
@@ -6,10 +6,12 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
 import java.security.MessageDigest;
+import java.time.Instant;
 import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 
 import javax.crypto.SecretKey;
 
@@ -17,16 +19,22 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.petcare.domain.user.User;
 import com.petcare.enums.Role;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 
+import static com.petcare.utils.constants.SecurityConstants.*;
+
 @Component
 @Slf4j
 
@@ -35,11 +43,30 @@ public class JwtUtil {
 	@Value("${jwt.expiration}")
 	private long expirationTime;
 
+	@Value("${jwt.access-expiration}")
+	private long accessExpirationTime;
+
+	@Value("${jwt.refresh-expiration}")
+	private long refreshExpirationTime;
+
 	private static final String KEY_PATH = "./config/jwt.key";
 	private static final String HASH_PATH = "./config/jwt.key.sha256";
 
 	private SecretKey key;
 
+	/** Analizador de tokens reutilizable; es inmutable y seguro entre hilos. */
+	private JwtParser parser;
+
+	/**
+	 * Tokens verificados recientemente, indexados por el token completo.
+	 * Evita repetir la verificación HMAC cuando el mismo token llega en varias peticiones seguidas.
+	 * Es una caché concurrente y acotada: las lecturas no bloquean y el descarte de entradas no
+	 * serializa las peticiones, como ocurría con un {@code LinkedHashMap} en orden de acceso.
+	 */
+	private final Cache<String, VerifiedToken> verifiedTokens = Caffeine.newBuilder()
+			.maximumSize(VERIFIED_TOKEN_CACHE_SIZE)
+			.build();
+
 	@PostConstruct
 	public void initKey() {
 		try {
@@ -51,6 +78,7 @@ public class JwtUtil {
 
 			byte[] keyBytes = Base64.getDecoder().decode(jwtSecret);
 			this.key = Keys.hmacShaKeyFor(keyBytes);
+			this.parser = Jwts.parserBuilder().setSigningKey(key).build();
 			log.info("Clave JWT inicializada correctamente");
 
 		} catch (Exception e) {
@@ -91,12 +119,27 @@ public class JwtUtil {
 		return Base64.getEncoder().encodeToString(hash);
 	}
 
+	/**
+	 * Genera un token firmado.
+	 * <p>
+	 * El claim {@code iat} estándar solo guarda segundos, así que el instante de emisión se incluye también
+	 * en milisegundos ({@code ISSUED_AT_MS_CLAIM}): {@link TokenRevocationList} lo compara con el momento de
+	 * la revocación y no rechaza los tokens emitidos justo después dentro del mismo segundo.
+	 *
+	 * @param claims Claims propios del token.
+	 * @param subject Titular del token.
+	 * @param expirationInMillis Duración del token en milisegundos.
+	 * @return Token firmado.
+	 */
 	public String generateToken(Map<String, Object> claims, String subject, long expirationInMillis) {
+		long now = System.currentTimeMillis();
 		return Jwts.builder()
 				.setClaims(claims)
+				.claim(ISSUED_AT_MS_CLAIM, now)
 				.setSubject(subject)
-				.setIssuedAt(new Date())
-				.setExpiration(new Date(System.currentTimeMillis() + expirationInMillis))
+				.setId(UUID.randomUUID().toString())
+				.setIssuedAt(new Date(now))
+				.setExpiration(new Date(now + expirationInMillis))
 				.signWith(key)
 				.compact();
 	}
@@ -108,9 +151,23 @@ public class JwtUtil {
 		return generateToken(claims, username, expirationTime);
 	}
 
-	public String generateTokenByUser(User user) {
+	/**
+	 * Genera un token de acceso de corta duración ({@code jwt.access-expiration}).
+	 * <p>
+	 * Es el único tipo de token que acepta {@link JwtAuthFilter}; lleva el ID, el rol y el nombre del usuario,
+	 * de modo que el filtro construye el principal sin consultar la base de datos y el cliente no tiene que
+	 * pedirlos aparte.
+	 *
+	 * @param user Usuario autenticado.
+	 * @return Token de acceso firmado.
+	 */
+	public String generateAccessToken(User user) {
 		Map<String, Object> claims = new HashMap<>();
+		claims.put(TOKEN_TYPE_CLAIM, ACCESS_TOKEN_TYPE);
 		claims.put("email", user.getUsername());
+		if (user.getId() != null) {
+			claims.put(USER_ID_CLAIM, user.getId());
+		}
 
 		Role role = user.getRole();
 		if (role != null) {
@@ -118,15 +175,68 @@ public class JwtUtil {
 			claims.put("name", user.getName());
 		}
 
-		return generateToken(claims, user.getUsername(), expirationTime);
+		return generateToken(claims, user.getUsername(), accessExpirationTime);
+	}
+
+	/**
+	 * Genera un token de refresco de larga duración ({@code jwt.refresh-expiration}).
+	 * <p>
+	 * Solo sirve para obtener un nuevo par de tokens en {@code /auth/refresh}; no autentica peticiones.
+	 *
+	 * @param user Usuario autenticado.
+	 * @return Token de refresco firmado.
+	 */
+	public String generateRefreshToken(User user) {
+		Map<String, Object> claims = new HashMap<>();
+		claims.put(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE);
+		return generateToken(claims, user.getUsername(), refreshExpirationTime);
 	}
 
 	public String generateTokenForPasswordReset(String email) {
 		return generateToken(new HashMap<>(), email, expirationTime);
 	}
 
+	/**
+	 * Verifica la firma y la caducidad de un token y devuelve sus datos ya extraídos.
+	 * <p>
+	 * Los tokens verificados se guardan en una pequeña caché acotada de {@code VERIFIED_TOKEN_CACHE_SIZE}
+	 * entradas; una entrada solo se reutiliza si el token recibido es exactamente el mismo y no ha caducado.
+	 *
+	 * @param token Token JWT recibido.
+	 * @return Token verificado.
+	 * @throws JwtException si la firma no es válida, el token está mal formado o ha caducado.
+	 * @throws IllegalArgumentException si el token está vacío.
+	 */
+	public VerifiedToken verify(String token) {
+		VerifiedToken cached = verifiedTokens.getIfPresent(token);
+
+		if (cached != null) {
+			if (!cached.isExpired()) {
+				return cached;
+			}
+			verifiedTokens.invalidate(token);
+		}
+
+		Claims claims = extractAllClaims(token);
+		Date issuedAt = claims.getIssuedAt();
+		Long issuedAtMillis = claims.get(ISSUED_AT_MS_CLAIM, Long.class);
+		Date expiration = claims.getExpiration();
+		VerifiedToken verified = new VerifiedToken(
+				claims.getSubject(),
+				claims.get(USER_ID_CLAIM, Long.class),
+				claims.get("role", String.class),
+				claims.get(TOKEN_TYPE_CLAIM, String.class),
+				claims.getId(),
+				issuedAtMillis != null ? Instant.ofEpochMilli(issuedAtMillis)
+						: issuedAt != null ? issuedAt.toInstant() : null,
+				expiration != null ? expiration.toInstant() : null);
+
+		verifiedTokens.put(token, verified);
+		return verified;
+	}
+
 	public String extractEmail(String token) {
-		return extractAllClaims(token).getSubject();
+		return verify(token).subject();
 	}
 
 	public String extractUsername(String token) {
@@ -134,22 +244,23 @@ public class JwtUtil {
 	}
 
 	public boolean isExpired(String token) {
-		return extractAllClaims(token).getExpiration().before(new Date());
+		return verify(token).isExpired();
 	}
 
 	public boolean isTokenValid(String token, UserDetails userDetails) {
-		return extractUsername(token).equals(userDetails.getUsername()) && !isExpired(token);
+		return isTokenValid(verify(token), userDetails);
+	}
+
+	public boolean isTokenValid(VerifiedToken token, UserDetails userDetails) {
+		return token.subject() != null && token.subject().equals(userDetails.getUsername()) && !token.isExpired();
 	}
 
 	public boolean isTokenValidForPasswordReset(String token, String email) {
-		return email.equals(extractEmail(token)) && !isExpired(token);
+		VerifiedToken verified = verify(token);
+		return email.equals(verified.subject()) && !verified.isExpired();
 	}
 
 	public Claims extractAllClaims(String token) {
-		return Jwts.parserBuilder()
-				.setSigningKey(key)
-				.build()
-				.parseClaimsJws(token)
-				.getBody();
+		return parser.parseClaimsJws(token).getBody();
 	}
 }
\ No newline at end of file
@@ -0,0 +1,159 @@
+package com.petcare.auth.security;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.petcare.exceptions.TooManyRequestsException;
+
+import lombok.extern.slf4j.Slf4j;
+
+import static com.petcare.utils.constants.SecurityConstants.*;
+
+/**
+ * Limitador de intentos de login fallidos por nombre de usuario y por IP de origen.
+ * <p>
+ * Cada clave tiene un cubo de fichas: el de usuario admite {@code LOGIN_USER_BUCKET_CAPACITY} fallos
+ * seguidos y recupera una ficha cada {@code LOGIN_USER_REFILL_SECONDS} segundos; el de IP admite
+ * {@code LOGIN_IP_BUCKET_CAPACITY} y recupera una cada {@code LOGIN_IP_REFILL_SECONDS}. Con el cubo vacío,
+ * el login se rechaza con 429 antes de buscar al usuario o calcular ningún hash.
+ * <p>
+ * Cada intento toma su ficha antes de comprobar la contraseña, en la misma operación que mira si quedan,
+ * y la recupera si el login es correcto. Así, aunque lleguen muchas peticiones a la vez con el cubo casi
+ * vacío, nunca se verifican más contraseñas que fichas había.
+ * <p>
+ * Cada cubo se guarda en un único {@code long} con el instante en el que volvería a estar lleno, y se
+ * actualiza con compare-and-set, sin cerrojos. Los cubos ya llenos no aportan nada y se eliminan
+ * periódicamente, de forma que el mapa solo contiene las claves con fallos recientes.
+ */
+@Component
+@Slf4j
+public class LoginThrottle {
+
+    private static final long USER_REFILL_NANOS = TimeUnit.SECONDS.toNanos(LOGIN_USER_REFILL_SECONDS);
+    private static final long IP_REFILL_NANOS = TimeUnit.SECONDS.toNanos(LOGIN_IP_REFILL_SECONDS);
+
+    private final ConcurrentHashMap<String, AtomicLong> users = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, AtomicLong> ips = new ConcurrentHashMap<>();
+
+    // ╔════════════════════════════════════════════════════╗
+    // ║                 ACTUALIZACIONES                    ║
+    // ╚════════════════════════════════════════════════════╝
+
+    /**
+     * Toma una ficha del usuario y otra de la IP para un nuevo intento de login. Si el intento falla,
+     * las fichas ya quedan descontadas; si es correcto, se devuelven con {@link #recordSuccess}.
+     *
+     * @param username Nombre de usuario introducido (exista o no).
+     * @param clientIp IP de origen de la petición.
+     * @throws TooManyRequestsException si alguno de los dos cubos está vacío; en ese caso no se descuenta nada.
+     */
+    public void tryAcquire(String username, String clientIp) {
+        long now = System.nanoTime();
+        AtomicLong user = bucketOf(users, keyOf(username), now);
+
+        if (!tryConsume(user, now, LOGIN_USER_BUCKET_CAPACITY, USER_REFILL_NANOS)) {
+            log.warn("Login rechazado para {}: demasiados intentos fallidos recientes.", username);
+            throw new TooManyRequestsException("Demasiados intentos fallidos para esta cuenta. Espera unos minutos.");
+        }
+
+        if (!tryConsume(bucketOf(ips, keyOf(clientIp), now), now, LOGIN_IP_BUCKET_CAPACITY, IP_REFILL_NANOS)) {
+            refund(user, USER_REFILL_NANOS);
+            log.warn("Login rechazado desde {}: demasiados intentos fallidos recientes.", clientIp);
+            throw new TooManyRequestsException("Demasiados intentos fallidos desde esta conexión. Espera unos minutos.");
+        }
+    }
+
+    /**
+     * Restablece el cubo del usuario tras un login correcto y devuelve a la IP la ficha de este intento.
+     * Los fallos anteriores de la IP se mantienen, para que acertar una cuenta no permita seguir probando
+     * otras desde la misma conexión.
+     *
+     * @param username Nombre de usuario autenticado.
+     * @param clientIp IP de origen de la petición.
+     */
+    public void recordSuccess(String username, String clientIp) {
+        users.remove(keyOf(username));
+
+        AtomicLong ip = ips.get(keyOf(clientIp));
+        if (ip != null) {
+            refund(ip, IP_REFILL_NANOS);
+        }
+    }
+
+    /**
+     * Elimina los cubos que ya se han llenado por completo.
+     */
+    @Scheduled(fixedDelay = LOGIN_THROTTLE_SWEEP_MS)
+    public void evictFullBuckets() {
+        long now = System.nanoTime();
+        int removed = evictFull(users, now) + evictFull(ips, now);
+
+        if (removed > 0) {
+            log.debug("Limitador de login: {} cubos llenos eliminados.", removed);
+        }
+    }
+
+    // ╔════════════════════════════════════════════════════╗
+    // ║                MÉTODOS AUXILIARES                  ║
+    // ╚════════════════════════════════════════════════════╝
+
+    /**
+     * Descuenta una ficha si queda alguna. El cubo está vacío cuando el instante en el que estaría lleno
+     * queda a más de {@code capacity - 1} recargas del momento actual; la comprobación y el descuento se
+     * hacen en el mismo compare-and-set.
+     */
+    private static boolean tryConsume(AtomicLong bucket, long now, int capacity, long refillNanos) {
+        long current;
+        long next;
+        do {
+            current = bucket.get();
+            if (current - now > (capacity - 1) * refillNanos) {
+                return false;
+            }
+            next = Math.max(current, now) + refillNanos;
+        } while (!bucket.compareAndSet(current, next));
+        return true;
+    }
+
+    /** Devuelve una ficha al cubo. */
+    private static void refund(AtomicLong bucket, long refillNanos) {
+        long current;
+        do {
+            current = bucket.get();
+        } while (!bucket.compareAndSet(current, current - refillNanos));
+    }
+
+    private static AtomicLong bucketOf(ConcurrentHashMap<String, AtomicLong> buckets, String key, long now) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            AtomicLong created = new AtomicLong(now);
+            bucket = buckets.putIfAbsent(key, created);
+            if (bucket == null) {
+                bucket = created;
+            }
+        }
+        return bucket;
+    }
+
+    private static int evictFull(ConcurrentHashMap<String, AtomicLong> buckets, long now) {
+        int removed = 0;
+        Iterator<AtomicLong> iterator = buckets.values().iterator();
+
+        while (iterator.hasNext()) {
+            if (iterator.next().get() - now <= 0) {
+                iterator.remove();
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    private static String keyOf(String value) {
+        return value == null ? "" : value.trim().toLowerCase();
+    }
+}
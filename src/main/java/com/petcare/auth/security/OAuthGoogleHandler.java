@@ -1,15 +1,13 @@
 package com.petcare.auth.security;
 
 import java.io.IOException;
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
-import java.time.LocalDateTime;
 import java.util.Optional;
 
 import org.springframework.security.core.Authentication;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
 
+import com.petcare.domain.user.LastAccessTracker;
 import com.petcare.domain.user.User;
 import com.petcare.domain.user.UserRepository;
 import com.petcare.enums.Role;
@@ -21,13 +19,16 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import static com.petcare.utils.constants.UrlConstants.FRONTEND_BASE_URL;
+import static com.petcare.utils.constants.UrlConstants.FRONT_LOGIN_SUCCESS_URL;
 
 /**
  * Manejador de éxito personalizado para el login mediante Google OAuth.
  * 
  * Este manejador intercepta el momento en el que un usuario se autentica con éxito
  * utilizando su cuenta de Google. Se encarga de verificar si el usuario está registrado 
- * en el sistema y si tiene rol CLIENTE, en cuyo caso genera un JWT y lo redirige al frontend.
+ * en el sistema y si tiene rol CLIENTE, en cuyo caso lo redirige al frontend con un código de un solo uso
+ * ({@link OAuthLoginCodes}) que este canjea por los tokens en {@code POST /auth/oauth/exchange}. Los tokens
+ * nunca viajan en la URL de la redirección.
  * 
  * ⚠️ Solo se permite login por Google a usuarios CLIENTE previamente registrados.
  */
@@ -36,7 +37,8 @@ import static com.petcare.utils.constants.UrlConstants.FRONTEND_BASE_URL;
 public class OAuthGoogleHandler implements AuthenticationSuccessHandler {
 
 	private final UserRepository userRepository;
-	private final JwtUtil jwtUtil;
+	private final OAuthLoginCodes oauthLoginCodes;
+	private final LastAccessTracker lastAccessTracker;
 
 	@Override
 	public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response,
@@ -76,18 +78,16 @@ public class OAuthGoogleHandler implements AuthenticationSuccessHandler {
 			return;
 		}
 
-		// Actualizar login y generar JWT
-		user.setLastAccess(LocalDateTime.now());
+		// Actualizar login y generar el código de acceso
 		user.setFailedLoginAttempts(0);
 		userRepository.save(user);
+		lastAccessTracker.record(user.getId());
 
-		String jwtToken = jwtUtil.generateTokenByUser(user);
-		String encodedToken = URLEncoder.encode(jwtToken, StandardCharsets.UTF_8.toString());
+		String code = oauthLoginCodes.issue(user.getId());
 
 		log.info("Login con Google correcto para usuario: {}", email);
 
-		// Redirigir al frontend con token
-		String redirectUrl = FRONTEND_BASE_URL + "/login-success?token=" + encodedToken;
-		response.sendRedirect(redirectUrl);
+		// Redirigir al frontend con el código, que canjeará por los tokens
+		response.sendRedirect(FRONT_LOGIN_SUCCESS_URL + code);
 	}
 }
\ No newline at end of file
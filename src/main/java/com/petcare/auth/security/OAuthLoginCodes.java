@@ -0,0 +1,89 @@
+package com.petcare.auth.security;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+import static com.petcare.utils.constants.SecurityConstants.*;
+
+/**
+ * Códigos de un solo uso que entrega el login con Google para canjearlos por los tokens de sesión.
+ * <p>
+ * La redirección al frontend viaja en la URL y puede quedar en el historial del navegador, en los registros
+ * de los proxies o en la cabecera {@code Referer}, así que no lleva los tokens: lleva un código aleatorio de
+ * {@code OAUTH_CODE_BYTES} bytes que el frontend canjea con un {@code POST} a {@code /auth/oauth/exchange}.
+ * Cada código caduca a los {@code OAUTH_CODE_TTL_SECONDS} segundos y solo puede canjearse una vez.
+ */
+@Component
+@Slf4j
+public class OAuthLoginCodes {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final long TTL_NANOS = TimeUnit.SECONDS.toNanos(OAUTH_CODE_TTL_SECONDS);
+
+    private final ConcurrentHashMap<String, Entry> codes = new ConcurrentHashMap<>();
+
+    /**
+     * Genera un código nuevo para el usuario.
+     *
+     * @param userId ID del usuario autenticado con Google.
+     * @return Código que se envía al frontend.
+     */
+    public String issue(Long userId) {
+        byte[] bytes = new byte[OAUTH_CODE_BYTES];
+        RANDOM.nextBytes(bytes);
+        String code = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        codes.put(code, new Entry(userId, System.nanoTime()));
+        return code;
+    }
+
+    /**
+     * Canjea un código y lo invalida. Si dos peticiones canjean el mismo código a la vez, solo una lo obtiene.
+     *
+     * @param code Código recibido del frontend.
+     * @return ID del usuario, o {@code null} si el código no existe, ya se ha usado o ha caducado.
+     */
+    public Long redeem(String code) {
+        if (code == null) {
+            return null;
+        }
+
+        Entry entry = codes.remove(code);
+        if (entry == null || System.nanoTime() - entry.issuedAt() > TTL_NANOS) {
+            return null;
+        }
+        return entry.userId();
+    }
+
+    /**
+     * Descarta los códigos caducados que nadie ha canjeado.
+     */
+    @Scheduled(fixedDelay = OAUTH_CODE_SWEEP_MS)
+    public void sweep() {
+        long now = System.nanoTime();
+        int removed = 0;
+        Iterator<Entry> iterator = codes.values().iterator();
+
+        while (iterator.hasNext()) {
+            if (now - iterator.next().issuedAt() > TTL_NANOS) {
+                iterator.remove();
+                removed++;
+            }
+        }
+
+        if (removed > 0) {
+            log.debug("Códigos de login con Google caducados descartados: {}.", removed);
+        }
+    }
+
+    /** Código pendiente junto al instante (en nanosegundos) en que se generó. */
+    private record Entry(Long userId, long issuedAt) { }
+}
@@ -0,0 +1,65 @@
+package com.petcare.auth.security;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.petcare.exceptions.TooManyRequestsException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Comprueba contraseñas contra su hash BCrypt en el ejecutor acotado {@code passwordHashExecutor}.
+ * <p>
+ * El hilo de la petición espera el resultado, pero nunca hay más verificaciones en curso que hilos
+ * tiene el ejecutor ni más en espera que su cola. Cuando la cola está llena, la verificación se
+ * rechaza de inmediato con {@link TooManyRequestsException} (429), sin calcular el hash.
+ */
+@Component
+@Slf4j
+public class PasswordVerifier {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolTaskExecutor executor;
+
+    public PasswordVerifier(PasswordEncoder passwordEncoder,
+            @Qualifier("passwordHashExecutor") ThreadPoolTaskExecutor executor) {
+        this.passwordEncoder = passwordEncoder;
+        this.executor = executor;
+    }
+
+    /**
+     * Indica si una contraseña en claro corresponde al hash guardado.
+     *
+     * @param rawPassword Contraseña introducida.
+     * @param encodedPassword Hash BCrypt almacenado.
+     * @return {@code true} si coinciden.
+     * @throws TooManyRequestsException si el ejecutor está saturado.
+     */
+    public boolean matches(final String rawPassword, final String encodedPassword) {
+        Future<Boolean> result;
+
+        try {
+            result = executor.submit(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+        } catch (TaskRejectedException e) {
+            log.warn("Verificación de contraseña rechazada: cola de hashing llena ({} en espera).",
+                    executor.getQueueSize());
+            throw new TooManyRequestsException("El servicio de acceso está saturado. Inténtalo de nuevo en unos segundos.");
+        }
+
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result.cancel(true);
+            throw new IllegalStateException("Verificación de contraseña interrumpida.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("No se pudo verificar la contraseña.", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.petcare.auth.security;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom de tamaño fijo usado por {@link TokenRevocationList} para descartar
+ * sin consultar ningún mapa los tokens que no están revocados.
+ * <p>
+ * Puede dar falsos positivos, pero nunca falsos negativos. No admite borrados: cuando las
+ * revocaciones caducan, se construye un filtro nuevo con las que siguen vigentes.
+ * Las inserciones y consultas son seguras entre hilos.
+ */
+final class RevocationBloomFilter {
+
+    private final AtomicLongArray words;
+    private final int bitCount;
+    private final int hashCount;
+
+    /**
+     * @param bitCount Número de bits del filtro (múltiplo de 64).
+     * @param hashCount Número de posiciones que se marcan por cada clave.
+     */
+    RevocationBloomFilter(int bitCount, int hashCount) {
+        this.words = new AtomicLongArray(bitCount / Long.SIZE);
+        this.bitCount = bitCount;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * Añade una clave al filtro.
+     *
+     * @param key Clave a marcar.
+     */
+    void add(String key) {
+        long hash = hash64(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+
+        for (int i = 0; i < hashCount; i++) {
+            int bit = Math.floorMod(h1 + i * h2, bitCount);
+            int word = bit >>> 6;
+            long mask = 1L << bit;
+
+            long current;
+            do {
+                current = words.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!words.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    /**
+     * Indica si la clave podría estar en el filtro.
+     *
+     * @param key Clave a consultar.
+     * @return {@code false} si la clave seguro que no se ha añadido.
+     */
+    boolean mightContain(String key) {
+        long hash = hash64(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+
+        for (int i = 0; i < hashCount; i++) {
+            int bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** FNV-1a de 64 bits sobre los caracteres de la clave, con mezcla final para repartir los bits. */
+    private static long hash64(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+
+        hash ^= (hash >>> 33);
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= (hash >>> 33);
+        return hash;
+    }
+}
@@ -0,0 +1,196 @@
+package com.petcare.auth.security;
+
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+import static com.petcare.utils.constants.SecurityConstants.*;
+
+/**
+ * Lista en memoria de los tokens JWT revocados antes de su caducidad.
+ * <p>
+ * Admite dos tipos de revocación:
+ * <ul>
+ * <li><b>Por usuario</b>: invalida todos los tokens emitidos hasta ese momento, por ejemplo al bloquear
+ * la cuenta o cambiar la contraseña.</li>
+ * <li><b>Por token</b>: invalida un único token por su {@code jti}, por ejemplo el token de refresco
+ * ya usado al renovar la sesión.</li>
+ * </ul>
+ * Cada revocación se conserva solo mientras pueda existir algún token afectado sin caducar.
+ * <p>
+ * Todas las peticiones autenticadas pasan por {@link #isRevoked(VerifiedToken)}, así que antes de consultar
+ * los mapas se comprueba un {@link RevocationBloomFilter}: en el caso habitual (token no revocado) la
+ * respuesta se obtiene leyendo unos pocos bits, sin reservar memoria ni tocar la base de datos.
+ */
+@Component
+@Slf4j
+public class TokenRevocationList {
+
+    private static final String USER_KEY_PREFIX = "u:";
+    private static final String TOKEN_KEY_PREFIX = "t:";
+
+    @Value("${jwt.refresh-expiration}")
+    private long refreshExpirationTime;
+
+    /** Usuarios revocados: milisegundo (epoch) hasta el que se invalidan sus tokens. */
+    private final ConcurrentHashMap<String, Revocation> users = new ConcurrentHashMap<>();
+
+    /** Tokens revocados individualmente, indexados por su {@code jti}. */
+    private final ConcurrentHashMap<String, Revocation> tokens = new ConcurrentHashMap<>();
+
+    private volatile RevocationBloomFilter filter = newFilter();
+
+    // ╔════════════════════════════════════════════════════╗
+    // ║                   REVOCACIONES                     ║
+    // ╚════════════════════════════════════════════════════╝
+
+    /**
+     * Revoca todos los tokens de un usuario emitidos hasta este momento.
+     * <p>
+     * Si hay una transacción en curso, se vuelve a revocar al confirmarse. Hasta entonces, otra petición
+     * puede seguir viendo la cuenta activa y renovar la sesión; los tokens emitidos en ese intervalo quedan
+     * así revocados también, y los posteriores ya no se emiten porque el nuevo estado es visible.
+     *
+     * @param username Nombre de usuario (email).
+     */
+    public void revokeUser(final String username) {
+        if (username == null) {
+            return;
+        }
+
+        revokeUserNow(username);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    revokeUserNow(username);
+                }
+            });
+        }
+    }
+
+    /**
+     * Revoca un token concreto hasta su caducidad.
+     * <p>
+     * Si dos peticiones intentan revocar el mismo token a la vez, solo una obtiene {@code true};
+     * así un token de refresco solo puede canjearse una vez.
+     *
+     * @param token Token ya verificado.
+     * @return {@code true} si el token no estaba revocado y esta llamada lo ha revocado.
+     */
+    public synchronized boolean revokeToken(VerifiedToken token) {
+        if (token.id() == null || token.expiresAt() == null) {
+            return false;
+        }
+
+        if (tokens.putIfAbsent(token.id(), new Revocation(0L, token.expiresAt())) != null) {
+            return false;
+        }
+        filter.add(TOKEN_KEY_PREFIX + token.id());
+        return true;
+    }
+
+    // ╔════════════════════════════════════════════════════╗
+    // ║                    CONSULTAS                       ║
+    // ╚════════════════════════════════════════════════════╝
+
+    /**
+     * Indica si un token ha sido revocado, de forma individual o junto a los demás tokens de su usuario.
+     * <p>
+     * La revocación por usuario compara milisegundos: un token emitido justo después de revocar, por ejemplo
+     * al volver a iniciar sesión tras cambiar la contraseña, es válido aunque caiga en el mismo segundo.
+     *
+     * @param token Token ya verificado.
+     * @return {@code true} si el token no debe aceptarse.
+     */
+    public boolean isRevoked(VerifiedToken token) {
+        RevocationBloomFilter current = filter;
+
+        if (token.id() != null && current.mightContain(TOKEN_KEY_PREFIX + token.id())
+                && tokens.containsKey(token.id())) {
+            return true;
+        }
+
+        if (token.subject() != null && current.mightContain(USER_KEY_PREFIX + token.subject())) {
+            Revocation revocation = users.get(token.subject());
+            return revocation != null
+                    && (token.issuedAt() == null || token.issuedAt().toEpochMilli() <= revocation.revokedAt());
+        }
+
+        return false;
+    }
+
+    // ╔════════════════════════════════════════════════════╗
+    // ║                  MANTENIMIENTO                     ║
+    // ╚════════════════════════════════════════════════════╝
+
+    /**
+     * Descarta las revocaciones que ya no afectan a ningún token vigente y reconstruye el filtro
+     * con las restantes, ya que un filtro de Bloom no admite borrados.
+     */
+    @Scheduled(fixedDelay = REVOCATION_SWEEP_MS)
+    public synchronized void sweep() {
+        Instant now = Instant.now();
+        int removed = removeExpired(users, now) + removeExpired(tokens, now);
+
+        RevocationBloomFilter rebuilt = newFilter();
+        for (String username : users.keySet()) {
+            rebuilt.add(USER_KEY_PREFIX + username);
+        }
+        for (String id : tokens.keySet()) {
+            rebuilt.add(TOKEN_KEY_PREFIX + id);
+        }
+        filter = rebuilt;
+
+        if (removed > 0) {
+            log.debug("Revocaciones caducadas descartadas: {}. Vigentes: {} usuarios y {} tokens.",
+                    removed, users.size(), tokens.size());
+        }
+    }
+
+    // ╔════════════════════════════════════════════════════╗
+    // ║                MÉTODOS AUXILIARES                  ║
+    // ╚════════════════════════════════════════════════════╝
+
+    private synchronized void revokeUserNow(String username) {
+        Instant now = Instant.now();
+        users.put(username, new Revocation(now.toEpochMilli(), now.plusMillis(refreshExpirationTime)));
+        filter.add(USER_KEY_PREFIX + username);
+        log.info("Tokens revocados para el usuario: {}", username);
+    }
+
+    private static int removeExpired(Map<String, Revocation> revocations, Instant now) {
+        int removed = 0;
+        Iterator<Revocation> iterator = revocations.values().iterator();
+
+        while (iterator.hasNext()) {
+            if (iterator.next().expiresAt().isBefore(now)) {
+                iterator.remove();
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    private static RevocationBloomFilter newFilter() {
+        return new RevocationBloomFilter(REVOCATION_FILTER_BITS, REVOCATION_FILTER_HASHES);
+    }
+
+    /**
+     * Revocación vigente.
+     *
+     * @param revokedAt Milisegundo (epoch) hasta el que se invalidan los tokens del usuario; no se usa en tokens sueltos.
+     * @param expiresAt Instante a partir del cual ningún token afectado sigue vigente.
+     */
+    private record Revocation(long revokedAt, Instant expiresAt) { }
+}
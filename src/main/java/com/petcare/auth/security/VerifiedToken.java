@@ -0,0 +1,50 @@
+package com.petcare.auth.security;
+
+import java.time.Instant;
+
+import static com.petcare.utils.constants.SecurityConstants.*;
+
+/**
+ * Resultado de verificar un token JWT: firma comprobada y datos ya extraídos.
+ * <p>
+ * Se obtiene con {@link JwtUtil#verify(String)}, de modo que cada petición analiza y verifica
+ * su token una sola vez.
+ *
+ * @param subject Nombre de usuario (email) del titular del token.
+ * @param userId ID del titular, o {@code null} en el administrador de la configuración y en otros tokens.
+ * @param role Rol incluido en el token, o {@code null} si no lo tiene.
+ * @param type Tipo de token ({@code access} o {@code refresh}), o {@code null} en otros tokens.
+ * @param id Identificador único del token ({@code jti}).
+ * @param issuedAt Instante de emisión del token, con precisión de milisegundos.
+ * @param expiresAt Instante de caducidad del token.
+ */
+public record VerifiedToken(String subject, Long userId, String role, String type, String id, Instant issuedAt,
+        Instant expiresAt) {
+
+    /**
+     * Indica si el token ha caducado.
+     *
+     * @return {@code true} si la fecha de caducidad ya ha pasado.
+     */
+    public boolean isExpired() {
+        return expiresAt != null && expiresAt.isBefore(Instant.now());
+    }
+
+    /**
+     * Indica si es un token de acceso, el único aceptado para autenticar peticiones.
+     *
+     * @return {@code true} si el token es de tipo {@code access}.
+     */
+    public boolean isAccessToken() {
+        return ACCESS_TOKEN_TYPE.equals(type);
+    }
+
+    /**
+     * Indica si es un token de refresco, el único aceptado para renovar la sesión.
+     *
+     * @return {@code true} si el token es de tipo {@code refresh}.
+     */
+    public boolean isRefreshToken() {
+        return REFRESH_TOKEN_TYPE.equals(type);
+    }
+}
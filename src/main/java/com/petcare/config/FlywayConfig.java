@@ -0,0 +1,49 @@
+package com.petcare.config;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Configuración de las migraciones versionadas de base de datos ({@code db/migration}).
+ * <p>
+ * Las tablas las sigue creando Hibernate ({@code ddl-auto=update}); las migraciones añaden
+ * sobre ellas los índices y restricciones que JPA no sabe expresar. Por eso Flyway no se ejecuta
+ * en el arranque habitual (antes de JPA), sino justo después de construir el
+ * {@link EntityManagerFactory}, cuando las tablas ya existen.
+ * <p>
+ * En bases de datos ya existentes sin historial de Flyway se crea una línea base en la versión 0,
+ * de modo que todas las migraciones se aplican igualmente.
+ */
+@Configuration
+@RequiredArgsConstructor
+@Slf4j
+public class FlywayConfig {
+
+    private final Flyway flyway;
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Desactiva la migración automática previa a JPA; se lanza desde {@link #migrate()}.
+     * Es estático para no depender de esta configuración, que a su vez espera a JPA.
+     */
+    @Bean
+    public static FlywayMigrationStrategy flywayMigrationStrategy() {
+        return flyway -> log.debug("Migraciones diferidas hasta que Hibernate haya actualizado el esquema.");
+    }
+
+    /**
+     * Aplica las migraciones pendientes una vez inicializado JPA.
+     */
+    @PostConstruct
+    public void migrate() {
+        int applied = flyway.migrate().migrationsExecuted;
+        log.info("Migraciones de base de datos aplicadas: {}.", applied);
+    }
+}
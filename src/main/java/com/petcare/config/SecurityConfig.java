@@ -17,15 +17,18 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import com.petcare.auth.security.CalendarFeedTokenFilter;
 import com.petcare.auth.security.CustomUserDetailsService;
 import com.petcare.auth.security.OAuthGoogleHandler;
+import com.petcare.auth.security.OAuthLoginCodes;
+import com.petcare.domain.user.LastAccessTracker;
 import com.petcare.domain.user.UserRepository;
 import com.petcare.enums.Role;
 import com.petcare.auth.security.JwtAuthFilter;
-import com.petcare.auth.security.JwtUtil;
 import com.petcare.utils.constants.SecurityConstants;
 import com.petcare.utils.constants.UrlConstants;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -38,9 +41,11 @@ import lombok.extern.slf4j.Slf4j;
 public class SecurityConfig {
 
 	private final JwtAuthFilter jwtAuthFilter;
+	private final CalendarFeedTokenFilter calendarFeedTokenFilter;
 	private final CustomUserDetailsService userDetailsService;
 	private final UserRepository userRepository;
-	private final JwtUtil jwtUtil;
+	private final OAuthLoginCodes oauthLoginCodes;
+	private final LastAccessTracker lastAccessTracker;
 
 	/**
 	 * Configura la cadena de filtros de seguridad del sistema utilizando Spring Security.
@@ -81,6 +86,9 @@ public class SecurityConfig {
 					/* Archivos estáticos (imágenes, logos, etc.) */
 					auth.requestMatchers(UrlConstants.STATIC_RESOURCES).permitAll();
 
+					/* Reenvíos asíncronos de respuestas ya autorizadas (calendarios SSE) */
+					auth.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll();
+
 					/* Opciones preflight para CORS */
 					auth.requestMatchers(HttpMethod.OPTIONS, "/**").permitAll();
 					
@@ -96,7 +104,8 @@ public class SecurityConfig {
 					auth.anyRequest().authenticated();
 				}).oauth2Login(oauth2 -> oauth2.successHandler(googleOAuth2SuccessHandler()))
 				.authenticationProvider(authenticationProvider())
-				.addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class);
+				.addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class)
+				.addFilterAfter(calendarFeedTokenFilter, JwtAuthFilter.class);
 
 		return http.build();
 	}
@@ -122,6 +131,6 @@ public class SecurityConfig {
 
 	@Bean
 	public AuthenticationSuccessHandler googleOAuth2SuccessHandler() {
-		return new OAuthGoogleHandler(userRepository, jwtUtil);
+		return new OAuthGoogleHandler(userRepository, oauthLoginCodes, lastAccessTracker);
 	}
 }
\ No newline at end of file
@@ -0,0 +1,126 @@
+package com.petcare.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import static com.petcare.utils.constants.EmailConstants.*;
+import static com.petcare.utils.constants.GlobalConstants.*;
+import static com.petcare.utils.constants.SecurityConstants.*;
+
+/**
+ * Configuración de las tareas programadas y asíncronas, y de los ejecutores usados por ellas.
+ * <p>
+ * Activa la ejecución de los métodos anotados con {@code @Scheduled} y {@code @Async} y define pools
+ * acotados para el envío de recordatorios, para el vaciado de la bandeja de salida de correos, para
+ * los suscriptores de eventos de citas y para la verificación de contraseñas, de forma que el trabajo
+ * en vuelo nunca supere el tamaño de cada pool.
+ */
+@Configuration
+@EnableScheduling
+@EnableAsync
+public class TaskConfig {
+
+    /**
+     * Ejecutor para el envío de recordatorios.
+     * <p>
+     * Si la cola se llena, la tarea se ejecuta en el hilo que la envía, lo que frena
+     * la producción en lugar de descartar correos.
+     */
+    @Bean(name = "reminderExecutor")
+    public ThreadPoolTaskExecutor reminderExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(REMINDER_SEND_THREADS);
+        executor.setMaxPoolSize(REMINDER_SEND_THREADS);
+        executor.setQueueCapacity(REMINDER_PAGE_SIZE);
+        executor.setThreadNamePrefix("reminder-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Ejecutor para el envío de los lotes de la bandeja de salida de correos.
+     * Cada hilo mantiene como mucho una conexión SMTP abierta a la vez.
+     */
+    @Bean(name = "emailExecutor")
+    public ThreadPoolTaskExecutor emailExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(OUTBOX_SEND_THREADS);
+        executor.setMaxPoolSize(OUTBOX_SEND_THREADS);
+        executor.setQueueCapacity(OUTBOX_PAGE_SIZE / OUTBOX_BATCH_SIZE);
+        executor.setThreadNamePrefix("email-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Ejecutor de los suscriptores asíncronos de eventos de citas: las notificaciones en directo (SSE).
+     * <p>
+     * Los correos no pasan por aquí: se registran en la bandeja de salida dentro de la propia transacción.
+     * Los eventos se publican tras confirmar la transacción, fuera del camino de la petición. Si la cola
+     * se llena, el suscriptor se ejecuta en el hilo que publica, lo que frena la producción en lugar
+     * de descartar eventos.
+     */
+    @Bean(name = "bookingEventExecutor")
+    public ThreadPoolTaskExecutor bookingEventExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(BOOKING_EVENT_THREADS);
+        executor.setMaxPoolSize(BOOKING_EVENT_THREADS);
+        executor.setQueueCapacity(BOOKING_EVENT_QUEUE_CAPACITY);
+        executor.setThreadNamePrefix("booking-event-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Ejecutor que escribe los eventos de los calendarios en tiempo real (SSE) en sus conexiones.
+     * <p>
+     * Cada conexión tiene como mucho una tarea en cola o en curso, que vacía su propia cola de eventos;
+     * así una conexión lenta solo ocupa uno de los hilos y nunca bloquea a quien publica los cambios.
+     * Si la cola del ejecutor se llena, la tarea se rechaza y la conexión afectada se cierra.
+     */
+    @Bean(name = "bookingStreamExecutor")
+    public ThreadPoolTaskExecutor bookingStreamExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(BOOKING_STREAM_SEND_THREADS);
+        executor.setMaxPoolSize(BOOKING_STREAM_SEND_THREADS);
+        executor.setQueueCapacity(BOOKING_STREAM_SEND_QUEUE_CAPACITY);
+        executor.setThreadNamePrefix("booking-stream-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Ejecutor de las comprobaciones BCrypt del login.
+     * <p>
+     * Limita cuántas contraseñas se verifican a la vez, de modo que una ráfaga de intentos de acceso
+     * no ocupe todos los hilos del servidor calculando hashes. A diferencia de los demás ejecutores,
+     * si la cola se llena la tarea se rechaza: el login responde de inmediato con 429 en lugar de
+     * esperar turno.
+     */
+    @Bean(name = "passwordHashExecutor")
+    public ThreadPoolTaskExecutor passwordHashExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(PASSWORD_HASH_THREADS);
+        executor.setMaxPoolSize(PASSWORD_HASH_THREADS);
+        executor.setQueueCapacity(PASSWORD_HASH_QUEUE_CAPACITY);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
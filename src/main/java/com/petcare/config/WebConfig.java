@@ -0,0 +1,29 @@
+package com.petcare.config;
+
+import java.util.List;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.petcare.auth.security.CurrentUserArgumentResolver;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Configuración de Spring MVC.
+ * <p>
+ * Registra {@link CurrentUserArgumentResolver}, que entrega a los controladores la entidad del usuario
+ * autenticado cargada para cada petición.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final CurrentUserArgumentResolver currentUserArgumentResolver;
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(currentUserArgumentResolver);
+    }
+}
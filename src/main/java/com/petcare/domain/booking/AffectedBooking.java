@@ -0,0 +1,22 @@
+package com.petcare.domain.booking;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import com.petcare.enums.BookingType;
+
+/**
+ * Proyección de una cita afectada por una operación masiva (anulación o reasignación de la agenda
+ * de un empleado), con los datos necesarios para ocupar su franja y notificar al cliente.
+ * <p>
+ * Se construye directamente desde una consulta JPQL ({@code SELECT new ...}) sin cargar entidades.
+ */
+public record AffectedBooking(
+        Long id,
+        LocalDate date,
+        LocalTime time,
+        BookingType type,
+        String petName,
+        String clientName,
+        String clientEmail) {
+}
@@ -39,7 +39,8 @@ public class Booking extends Auditable {
     // ╚════════════════════════════════════════════════════╝
 	
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "citas_seq")
+    @SequenceGenerator(name = "citas_seq", sequenceName = "citas_seq", allocationSize = 50)
     @Column(name = "id_cita")
     private Long id;
 
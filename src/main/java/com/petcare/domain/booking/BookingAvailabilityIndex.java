@@ -0,0 +1,325 @@
+package com.petcare.domain.booking;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.petcare.domain.booking.event.BookingCreated;
+import com.petcare.domain.booking.event.BookingRescheduled;
+import com.petcare.domain.booking.event.BookingSeriesCreated;
+import com.petcare.domain.booking.event.BookingStatusChanged;
+import com.petcare.domain.booking.event.BookingsReleased;
+import com.petcare.enums.BookingStatus;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Índice en memoria de la ocupación de los empleados, usado para comprobar la disponibilidad
+ * de una franja sin consultar la base de datos.
+ * <p>
+ * Solo ocupan franja las citas activas ({@link BookingStatus#CONFIRMADA}); una cita cancelada,
+ * anulada o completada libera su franja.
+ * <p>
+ * Para cada empleado y día se guarda un único {@code long} en el que cada bit representa
+ * una franja de {@link BookingSlots}. El índice se reconstruye al arrancar la aplicación
+ * a partir de {@link BookingRepository} y se mantiene actualizado escuchando los eventos de cita
+ * ({@link BookingCreated}, {@link BookingSeriesCreated}, {@link BookingRescheduled}, {@link BookingStatusChanged}
+ * y {@link BookingsReleased}) una vez confirmada
+ * la transacción que los publica.
+ * <p>
+ * Mientras el índice no está listo, para días anteriores a su cobertura o para días que contienen
+ * citas fuera de la rejilla de franjas, las consultas se resuelven directamente contra la base de datos.
+ * <p>
+ * La reconstrucción se hace sobre un mapa nuevo que sustituye al anterior de una vez, porque la aplicación
+ * ya atiende peticiones cuando arranca. Los días que reciben algún evento mientras se carga la foto de la
+ * base de datos pueden haber quedado desfasados en ella, así que se marcan para resolverse en base de datos.
+ *
+ * @see BookingSlots
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BookingAvailabilityIndex {
+
+    /** Bit reservado que marca un día con alguna cita fuera de la rejilla de franjas. */
+    private static final long OFF_GRID_FLAG = 1L << 63;
+
+    private final BookingRepository bookingRepository;
+
+    private volatile ConcurrentHashMap<DayKey, AtomicLong> days = new ConcurrentHashMap<>();
+
+    /** Días modificados por eventos durante una reconstrucción, o {@code null} si no hay ninguna en curso. */
+    private volatile Set<DayKey> touchedDuringRebuild;
+
+    /** Primer día cubierto por el índice. Los días anteriores se consultan en base de datos. */
+    private volatile LocalDate coverageStart = LocalDate.MAX;
+
+    // ╔════════════════════════════════════════════════════╗
+    // ║              CARGA Y MANTENIMIENTO                 ║
+    // ╚════════════════════════════════════════════════════╝
+
+    /**
+     * Reconstruye el índice con las citas confirmadas desde el día actual en adelante.
+     * Se ejecuta una única vez, cuando la aplicación ha terminado de arrancar.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        LocalDate today = LocalDate.now();
+        Set<DayKey> touched = ConcurrentHashMap.newKeySet();
+        touchedDuringRebuild = touched;
+
+        ConcurrentHashMap<DayKey, AtomicLong> built = new ConcurrentHashMap<>();
+        List<BookingSlot> slots = bookingRepository.findSlotsFrom(today);
+        for (BookingSlot slot : slots) {
+            setFlag(built, slot.getEmployeeId(), slot.getDate(), slot.getTime());
+        }
+
+        // A partir de aquí los eventos ya se aplican al mapa nuevo; los anteriores quedan en touched.
+        days = built;
+        touchedDuringRebuild = null;
+        for (DayKey key : touched) {
+            orFlag(built, key, OFF_GRID_FLAG);
+        }
+
+        coverageStart = today;
+        log.info("Índice de disponibilidad reconstruido: {} citas en {} días/empleado ({} días en base de datos).",
+                slots.size(), built.size(), touched.size());
+    }
+
+    /**
+     * Elimina del índice los días ya pasados, que nunca vuelven a consultarse para agendar.
+     */
+    @Scheduled(cron = "0 5 0 * * *")
+    public void evictPastDays() {
+        LocalDate today = LocalDate.now();
+        Iterator<DayKey> iterator = days.keySet().iterator();
+
+        while (iterator.hasNext()) {
+            if (iterator.next().date().isBefore(today)) {
+                iterator.remove();
+            }
+        }
+
+        if (coverageStart.isBefore(today)) {
+            coverageStart = today;
+        }
+    }
+
+    // ╔════════════════════════════════════════════════════╗
+    // ║                    CONSULTAS                       ║
+    // ╚════════════════════════════════════════════════════╝
+
+    /**
+     * Indica si un empleado tiene ya una cita activa en una fecha y hora concretas.
+     *
+     * @param employeeId ID del empleado.
+     * @param date Fecha de la cita.
+     * @param time Hora de la cita.
+     * @return {@code true} si la franja está ocupada.
+     */
+    public boolean isOccupied(Long employeeId, LocalDate date, LocalTime time) {
+        int index = BookingSlots.indexOf(time);
+        long bits = bitsOf(employeeId, date);
+
+        if (index < 0 || !isCovered(date) || (bits & OFF_GRID_FLAG) != 0) {
+            return bookingRepository.existsByEmployeeIdAndDateAndTimeAndStatus(employeeId, date, time,
+                    BookingStatus.CONFIRMADA);
+        }
+
+        return (bits & (1L << index)) != 0;
+    }
+
+    /**
+     * Devuelve las horas ocupadas por citas activas de un empleado en un día, ordenadas de forma ascendente.
+     *
+     * @param employeeId ID del empleado.
+     * @param date Día a consultar.
+     * @return Lista de horas con cita.
+     */
+    public List<LocalTime> getOccupiedTimes(Long employeeId, LocalDate date) {
+        List<LocalTime> times = new ArrayList<>();
+        long bits = bitsOf(employeeId, date);
+
+        if (!isCovered(date) || (bits & OFF_GRID_FLAG) != 0) {
+            for (Booking booking : bookingRepository.findByEmployeeIdAndDateAndStatus(employeeId, date,
+                    BookingStatus.CONFIRMADA)) {
+                times.add(booking.getTime());
+            }
+            return times;
+        }
+
+        for (int i = 0; i < BookingSlots.TOTAL_SLOTS; i++) {
+            if ((bits & (1L << i)) != 0) {
+                times.add(BookingSlots.timeOf(i));
+            }
+        }
+        return times;
+    }
+
+    // ╔════════════════════════════════════════════════════╗
+    // ║                 ACTUALIZACIONES                    ║
+    // ╚════════════════════════════════════════════════════╝
+
+    /**
+     * Marca como ocupada la franja de una cita recién registrada.
+     * <p>
+     * Se ejecuta de forma síncrona al confirmarse la transacción, antes de liberar el cerrojo de la
+     * franja, para que la siguiente reserva ya la vea ocupada. Si la transacción se deshace, el índice
+     * no se modifica.
+     *
+     * @param event Cita registrada.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBookingCreated(BookingCreated event) {
+        mark(event.employeeId(), event.date(), event.time());
+    }
+
+    /**
+     * Marca como ocupadas las franjas de todas las citas de una serie recién registrada.
+     *
+     * @param event Serie registrada.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBookingSeriesCreated(BookingSeriesCreated event) {
+        for (LocalDate date : event.dates()) {
+            mark(event.employeeId(), date, event.time());
+        }
+    }
+
+    /**
+     * Mueve la ocupación de una cita confirmada que ha cambiado de franja.
+     *
+     * @param event Cita modificada.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBookingRescheduled(BookingRescheduled event) {
+        if (!event.active() || !event.slotChanged()) {
+            return;
+        }
+        unmark(event.previousEmployeeId(), event.previousDate(), event.previousTime());
+        mark(event.employeeId(), event.date(), event.time());
+    }
+
+    /**
+     * Libera la franja de una cita que pasa a un estado final, o la vuelve a ocupar si se reactiva.
+     * <p>
+     * Las citas fuera de la rejilla no se pueden liberar bit a bit; en ese caso el día sigue
+     * marcado y continúa resolviéndose en base de datos.
+     *
+     * @param event Cambio de estado de la cita.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBookingStatusChanged(BookingStatusChanged event) {
+        if (event.releasesSlot()) {
+            unmark(event.employeeId(), event.date(), event.time());
+        } else if (event.occupiesSlot()) {
+            mark(event.employeeId(), event.date(), event.time());
+        }
+    }
+
+    /**
+     * Libera las franjas de la agenda de un empleado y ocupa las de los compañeros que reciben sus citas.
+     *
+     * @param event Agenda liberada.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBookingsReleased(BookingsReleased event) {
+        for (AffectedBooking booking : event.aborted()) {
+            unmark(event.employeeId(), booking.date(), booking.time());
+        }
+
+        for (BookingsReleased.Reassignment reassignment : event.reassigned()) {
+            AffectedBooking booking = reassignment.booking();
+            unmark(event.employeeId(), booking.date(), booking.time());
+            mark(reassignment.employeeId(), booking.date(), booking.time());
+        }
+    }
+
+    // ╔════════════════════════════════════════════════════╗
+    // ║                MÉTODOS AUXILIARES                  ║
+    // ╚════════════════════════════════════════════════════╝
+
+    private void unmark(Long employeeId, LocalDate date, LocalTime time) {
+        DayKey key = new DayKey(employeeId, date);
+        touch(key);
+
+        int index = BookingSlots.indexOf(time);
+        AtomicLong bits = days.get(key);
+
+        if (index < 0 || bits == null) {
+            return;
+        }
+
+        long mask = ~(1L << index);
+        long current;
+        do {
+            current = bits.get();
+        } while (!bits.compareAndSet(current, current & mask));
+    }
+
+    private void mark(Long employeeId, LocalDate date, LocalTime time) {
+        if (employeeId != null && date != null) {
+            touch(new DayKey(employeeId, date));
+        }
+        setFlag(days, employeeId, date, time);
+    }
+
+    /** Anota el día si hay una reconstrucción en curso, para resolverlo después en base de datos. */
+    private void touch(DayKey key) {
+        Set<DayKey> touched = touchedDuringRebuild;
+        if (touched != null) {
+            touched.add(key);
+        }
+    }
+
+    private static void setFlag(ConcurrentHashMap<DayKey, AtomicLong> target, Long employeeId, LocalDate date,
+            LocalTime time) {
+        if (employeeId == null || date == null || date.isBefore(LocalDate.now())) {
+            return;
+        }
+
+        int index = BookingSlots.indexOf(time);
+        orFlag(target, new DayKey(employeeId, date), index < 0 ? OFF_GRID_FLAG : 1L << index);
+    }
+
+    private static void orFlag(ConcurrentHashMap<DayKey, AtomicLong> target, DayKey key, long flag) {
+        AtomicLong bits = target.get(key);
+        if (bits == null) {
+            AtomicLong created = new AtomicLong();
+            bits = target.putIfAbsent(key, created);
+            if (bits == null) {
+                bits = created;
+            }
+        }
+
+        long current;
+        do {
+            current = bits.get();
+        } while (!bits.compareAndSet(current, current | flag));
+    }
+
+    private long bitsOf(Long employeeId, LocalDate date) {
+        AtomicLong bits = days.get(new DayKey(employeeId, date));
+        return bits != null ? bits.get() : 0L;
+    }
+
+    private boolean isCovered(LocalDate date) {
+        return date != null && !date.isBefore(coverageStart);
+    }
+
+    /** Clave del índice: un empleado en un día concreto. */
+    private record DayKey(Long employeeId, LocalDate date) { }
+}
@@ -1,24 +1,40 @@
 package com.petcare.domain.booking;
 
+import com.petcare.auth.security.AuthenticatedUser;
+import com.petcare.auth.security.CurrentUser;
 import com.petcare.domain.booking.dto.*;
+import com.petcare.domain.booking.calendar.BookingCalendarFeed;
+import com.petcare.domain.booking.calendar.CalendarFeedTokens;
+import com.petcare.domain.booking.stream.BookingStreamRegistry;
 import com.petcare.domain.client.Client;
 import com.petcare.domain.employee.Employee;
-import com.petcare.domain.user.User;
 import com.petcare.enums.BookingStatus;
+import com.petcare.enums.BookingType;
+import com.petcare.utils.NameFormatter;
+import com.petcare.utils.RoleUtils;
 import com.petcare.utils.dto.MessageResponse;
 import com.petcare.validators.ClientValidator;
 import com.petcare.validators.EmployeeValidator;
+import static com.petcare.utils.constants.GlobalConstants.CALENDAR_TOKEN_PARAM;
 import static com.petcare.utils.constants.MessageConstants.*;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -35,7 +51,13 @@ import java.util.List;
 @Slf4j
 public class BookingController {
 
+	/** Tipo de contenido de los calendarios exportados. */
+	private static final MediaType CALENDAR_MEDIA_TYPE = new MediaType("text", "calendar", StandardCharsets.UTF_8);
+
 	private final BookingService bookingService;
+	private final BookingStreamRegistry bookingStreamRegistry;
+	private final BookingCalendarFeed bookingCalendarFeed;
+	private final CalendarFeedTokens calendarFeedTokens;
 
 	// ╔══════════════════════════════════════════════════════════════╗
 	// ║ CLIENTE - GESTIÓN DE CITAS (CREAR, EDITAR, CONSULTAR)        ║
@@ -51,7 +73,7 @@ public class BookingController {
 	@PostMapping
 	@PreAuthorize("hasRole('CLIENTE')")
 	public ResponseEntity<BookingResponse> createBooking(@Valid @RequestBody BookingRequest request,
-			@AuthenticationPrincipal Client client) {
+			@CurrentUser Client client) {
 		ClientValidator.validateAuthenticatedClient(client);
 		BookingResponse response = bookingService.createBooking(request, client);
 
@@ -59,22 +81,40 @@ public class BookingController {
 		return ResponseEntity.ok(response);
 	}
 
+	/**
+	 * Crea una serie de citas periódicas para el cliente autenticado.
+	 *
+	 * @param request Datos de la serie.
+	 * @param client Cliente autenticado.
+	 * @return Citas registradas con sus IDs asignados.
+	 */
+	@PostMapping("/series")
+	@PreAuthorize("hasRole('CLIENTE')")
+	public ResponseEntity<List<BookingResponse>> createBookingSeries(@Valid @RequestBody BookingSeriesRequest request,
+			@CurrentUser Client client) {
+		ClientValidator.validateAuthenticatedClient(client);
+		List<BookingResponse> response = bookingService.createBookingSeries(request, client);
+
+		log.info("Cliente ID {} ha agendado una serie de {} citas.", client.getId(), response.size());
+		return ResponseEntity.ok(response);
+	}
+
 	/**
 	 * Actualiza parcialmente una cita del cliente.
 	 *
 	 * @param bookingId ID de la cita a modificar.
 	 * @param request Nuevos datos.
-	 * @param client Cliente autenticado.
+	 * @param principal Cliente autenticado.
 	 * @return Cita actualizada.
 	 */
 	@PatchMapping("/{bookingId}")
 	@PreAuthorize("hasRole('CLIENTE')")
 	public ResponseEntity<BookingResponse> updateBooking(@PathVariable Long bookingId,
-			@Valid @RequestBody BookingUpdate request, @AuthenticationPrincipal Client client) {
-		ClientValidator.validateAuthenticatedClient(client);
-		BookingResponse response = bookingService.updateBooking(bookingId, client.getId(), request);
+			@Valid @RequestBody BookingUpdate request, @CurrentUser AuthenticatedUser principal) {
+		Long clientId = ClientValidator.validateAuthenticatedClient(principal);
+		BookingResponse response = bookingService.updateBooking(bookingId, clientId, request);
 
-		log.info("Cliente ID {} ha modificado la cita ID {}.", client.getId(), bookingId);
+		log.info("Cliente ID {} ha modificado la cita ID {}.", clientId, bookingId);
 		return ResponseEntity.ok(response);
 	}
 
@@ -82,57 +122,209 @@ public class BookingController {
 	 * Cancela una cita activa por parte del cliente.
 	 *
 	 * @param bookingId ID de la cita.
-	 * @param client Cliente autenticado.
+	 * @param principal Cliente autenticado.
 	 * @return Mensaje confirmando la cancelación.
 	 */
 	@PutMapping("/client/{bookingId}/cancel")
 	@PreAuthorize("hasRole('CLIENTE')")
 	public ResponseEntity<MessageResponse> cancelBooking(@PathVariable Long bookingId,
-	                                                     @AuthenticationPrincipal Client client) {
-		bookingService.updateStatus(bookingId, BookingStatus.CANCELADA, client.getId());
-		log.info("Cliente ID {} ha cancelado la cita ID {}.", client.getId(), bookingId);
+	                                                     @CurrentUser AuthenticatedUser principal) {
+		bookingService.updateStatus(bookingId, BookingStatus.CANCELADA, principal.id());
+		log.info("Cliente ID {} ha cancelado la cita ID {}.", principal.id(), bookingId);
 		return ResponseEntity.ok(new MessageResponse(CANCELLED));
 	}
 
 	/**
-	 * Devuelve las próximas citas del cliente.
+	 * Abre el calendario en tiempo real del cliente autenticado (Server-Sent Events).
+	 * <p>
+	 * Envía primero sus próximas citas y después cada cita creada, modificada o retirada,
+	 * sustituyendo a la consulta periódica de {@code /client/upcoming}.
+	 *
+	 * @param principal Cliente autenticado.
+	 * @return Conexión SSE abierta.
+	 */
+	@GetMapping(value = "/client/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	@PreAuthorize("hasRole('CLIENTE')")
+	public SseEmitter streamClientBookings(@CurrentUser AuthenticatedUser principal) {
+		Long clientId = ClientValidator.validateAuthenticatedClient(principal);
+		return bookingStreamRegistry.openClientStream(clientId);
+	}
+
+	/**
+	 * Exporta las citas del cliente autenticado en formato iCalendar para suscribirse desde una aplicación de calendario.
+	 * <p>
+	 * Si las citas no han cambiado desde la versión indicada en {@code If-None-Match}, responde 304 sin contenido.
+	 * Además del JWT, acepta el token del enlace de suscripción ({@code ?token=}) generado en
+	 * {@code /client/calendar-link}.
 	 *
 	 * @param client Cliente autenticado.
+	 * @param webRequest Petición en curso, para comprobar el ETag.
+	 * @return Calendario {@code .ics} o 304 si no hay cambios.
+	 */
+	@GetMapping("/client/calendar.ics")
+	@PreAuthorize("hasRole('CLIENTE')")
+	public ResponseEntity<StreamingResponseBody> exportClientCalendar(@CurrentUser Client client,
+			WebRequest webRequest) {
+		ClientValidator.validateAuthenticatedClient(client);
+
+		String version = bookingCalendarFeed.clientVersion(client.getId());
+		if (webRequest.checkNotModified(version)) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(version).build();
+		}
+
+		String calendarName = "PetCare - " + NameFormatter.getShortFullName(client);
+		return ResponseEntity.ok()
+				.eTag(version)
+				.contentType(CALENDAR_MEDIA_TYPE)
+				.body(bookingCalendarFeed.clientFeed(client.getId(), calendarName));
+	}
+
+	/**
+	 * Genera el enlace de suscripción al calendario del cliente autenticado.
+	 * <p>
+	 * El enlace lleva un token propio que sustituye al anterior, para las aplicaciones de calendario
+	 * que no pueden enviar la cabecera {@code Authorization}.
+	 *
+	 * @param principal Cliente autenticado.
+	 * @return Enlace del calendario {@code .ics} con el token.
+	 */
+	@PostMapping("/client/calendar-link")
+	@PreAuthorize("hasRole('CLIENTE')")
+	public ResponseEntity<CalendarLinkResponse> createClientCalendarLink(@CurrentUser AuthenticatedUser principal) {
+		Long clientId = ClientValidator.validateAuthenticatedClient(principal);
+		String token = calendarFeedTokens.issue(clientId);
+		return ResponseEntity.ok(calendarLink("/bookings/client/calendar.ics", token));
+	}
+
+	/**
+	 * Revoca el enlace de suscripción al calendario del cliente autenticado.
+	 *
+	 * @param principal Cliente autenticado.
+	 * @return Mensaje de confirmación.
+	 */
+	@DeleteMapping("/client/calendar-link")
+	@PreAuthorize("hasRole('CLIENTE')")
+	public ResponseEntity<MessageResponse> revokeClientCalendarLink(@CurrentUser AuthenticatedUser principal) {
+		Long clientId = ClientValidator.validateAuthenticatedClient(principal);
+		calendarFeedTokens.revoke(clientId);
+		return ResponseEntity.ok(new MessageResponse(CALENDAR_LINK_REVOKED));
+	}
+
+	/**
+	 * Devuelve las próximas citas del cliente.
+	 *
+	 * @param principal Cliente autenticado.
 	 * @return Lista de citas futuras o vacía si no hay ninguna.
 	 */
 	@GetMapping("/client/upcoming")
 	@PreAuthorize("hasRole('CLIENTE')")
-	public ResponseEntity<List<BookingResponse>> getUpcomingBookings(@AuthenticationPrincipal Client client) {
-		ClientValidator.validateAuthenticatedClient(client);
-		List<BookingResponse> list = bookingService.getUpcomingBookingsByClient(client.getId());
+	public ResponseEntity<List<BookingResponse>> getUpcomingBookings(@CurrentUser AuthenticatedUser principal) {
+		Long clientId = ClientValidator.validateAuthenticatedClient(principal);
+		List<BookingResponse> list = bookingService.getUpcomingBookingsByClient(clientId);
 
 		if (list.isEmpty()) {
-			log.info("Cliente ID {} no tiene próximas citas.", client.getId());
+			log.info("Cliente ID {} no tiene próximas citas.", clientId);
 			return ResponseEntity.noContent().build();
 		}
 
-		log.info("Cliente ID {} consultó sus próximas {} citas.", client.getId(), list.size());
+		log.info("Cliente ID {} consultó sus próximas {} citas.", clientId, list.size());
 		return ResponseEntity.ok(list);
 	}
 
 	/**
-	 * Devuelve el historial de citas pasadas del cliente.
+	 * Devuelve, página a página, todas las citas del cliente.
 	 *
-	 * @param client Cliente autenticado.
-	 * @return Lista de citas anteriores.
+	 * @param cursor Cursor de la página anterior (opcional).
+	 * @param size Tamaño de página (opcional).
+	 * @param principal Cliente autenticado.
+	 * @return Página de citas, de la más reciente a la más antigua.
+	 */
+	@GetMapping("/client")
+	@PreAuthorize("hasRole('CLIENTE')")
+	public ResponseEntity<BookingPage> getBookingsByClient(@RequestParam(required = false) String cursor,
+			@RequestParam(required = false) Integer size, @CurrentUser AuthenticatedUser principal) {
+		Long clientId = ClientValidator.validateAuthenticatedClient(principal);
+		BookingPage page = bookingService.getBookingsByClient(clientId, cursor, size);
+
+		if (page.getItems().isEmpty()) {
+			log.info("Cliente ID {} no tiene citas.", clientId);
+			return ResponseEntity.noContent().build();
+		}
+
+		return ResponseEntity.ok(page);
+	}
+
+	/**
+	 * Devuelve, página a página, el historial de citas pasadas del cliente.
+	 *
+	 * @param cursor Cursor de la página anterior (opcional).
+	 * @param size Tamaño de página (opcional).
+	 * @param principal Cliente autenticado.
+	 * @return Página de citas anteriores.
 	 */
 	@GetMapping("/client/history")
 	@PreAuthorize("hasRole('CLIENTE')")
-	public ResponseEntity<List<BookingResponse>> getPastBookingsByClient(@AuthenticationPrincipal Client client) {
-		ClientValidator.validateAuthenticatedClient(client);
-		List<BookingResponse> list = bookingService.getPastBookingsByClient(client.getId());
+	public ResponseEntity<BookingPage> getPastBookingsByClient(@RequestParam(required = false) String cursor,
+			@RequestParam(required = false) Integer size, @CurrentUser AuthenticatedUser principal) {
+		Long clientId = ClientValidator.validateAuthenticatedClient(principal);
+		BookingPage page = bookingService.getPastBookingsByClient(clientId, cursor, size);
+
+		if (page.getItems().isEmpty()) {
+			log.info("Cliente ID {} no tiene historial de citas.", clientId);
+			return ResponseEntity.noContent().build();
+		}
+
+		log.info("Cliente ID {} consultó su historial con {} citas.", clientId, page.getItems().size());
+		return ResponseEntity.ok(page);
+	}
+
+	/**
+	 * Devuelve, página a página, el historial de citas de una mascota del cliente.
+	 *
+	 * @param petId ID de la mascota.
+	 * @param cursor Cursor de la página anterior (opcional).
+	 * @param size Tamaño de página (opcional).
+	 * @param principal Cliente autenticado.
+	 * @return Página de citas pasadas o completadas de la mascota.
+	 */
+	@GetMapping("/client/pets/{petId}/history")
+	@PreAuthorize("hasRole('CLIENTE')")
+	public ResponseEntity<BookingPage> getBookingHistoryByPet(@PathVariable Long petId,
+			@RequestParam(required = false) String cursor, @RequestParam(required = false) Integer size,
+			@CurrentUser AuthenticatedUser principal) {
+		Long clientId = ClientValidator.validateAuthenticatedClient(principal);
+		BookingPage page = bookingService.getBookingHistoryByPet(petId, clientId, cursor, size);
+		return page.getItems().isEmpty() ? ResponseEntity.noContent().build() : ResponseEntity.ok(page);
+	}
+
+	// ╔══════════════════════════════════════════════════════════════╗
+	// ║ DISPONIBILIDAD - BÚSQUEDA DE HUECOS LIBRES                   ║
+	// ╚══════════════════════════════════════════════════════════════╝
+
+	/**
+	 * Devuelve los primeros huecos libres para un tipo de cita, entre todos los empleados
+	 * compatibles o uno concreto.
+	 *
+	 * @param type Tipo de cita.
+	 * @param from Primer día de la búsqueda (opcional, por defecto hoy).
+	 * @param to Último día de la búsqueda (opcional).
+	 * @param employeeId ID del empleado (opcional).
+	 * @param limit Número máximo de huecos (opcional).
+	 * @return Lista de huecos libres o vacía si no hay ninguno.
+	 */
+	@GetMapping("/available")
+	@PreAuthorize("hasAnyRole('CLIENTE', 'EMPLEADO')")
+	public ResponseEntity<List<AvailableSlotResponse>> getAvailableSlots(@RequestParam BookingType type,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+			@RequestParam(required = false) Long employeeId, @RequestParam(required = false) Integer limit) {
+		List<AvailableSlotResponse> list = bookingService.getAvailableSlots(type, from, to, employeeId, limit);
 
 		if (list.isEmpty()) {
-			log.info("Cliente ID {} no tiene historial de citas.", client.getId());
+			log.info("No hay huecos libres para citas de tipo [{}] en el rango solicitado.", type);
 			return ResponseEntity.noContent().build();
 		}
 
-		log.info("Cliente ID {} consultó su historial con {} citas.", client.getId(), list.size());
 		return ResponseEntity.ok(list);
 	}
 
@@ -141,66 +333,176 @@ public class BookingController {
 	// ╚══════════════════════════════════════════════════════════════╝
 
 	/**
-	 * Devuelve todas las citas asociadas a un empleado.
+	 * Devuelve, página a página, las citas asociadas a un empleado.
 	 *
 	 * @param employeeId ID del empleado.
-	 * @param user Usuario autenticado.
-	 * @return Lista de citas o acceso denegado.
+	 * @param cursor Cursor de la página anterior (opcional).
+	 * @param size Tamaño de página (opcional).
+	 * @param principal Usuario autenticado.
+	 * @return Página de citas o acceso denegado.
 	 */
 	@GetMapping("/employee/{employeeId}")
 	@PreAuthorize("hasRole('EMPLEADO')")
-	public ResponseEntity<List<BookingResponse>> getBookingsByEmployee(@PathVariable Long employeeId,
-			@AuthenticationPrincipal User user) {
-		EmployeeValidator.validateEmployeeAccess(user, employeeId);
+	public ResponseEntity<BookingPage> getBookingsByEmployee(@PathVariable Long employeeId,
+			@RequestParam(required = false) String cursor, @RequestParam(required = false) Integer size,
+			@CurrentUser AuthenticatedUser principal) {
+		EmployeeValidator.validateEmployeeAccess(principal, employeeId);
 
-		List<BookingResponse> list = bookingService.getBookingsByEmployee(employeeId);
-		return list.isEmpty() ? ResponseEntity.noContent().build() : ResponseEntity.ok(list);
+		BookingPage page = bookingService.getBookingsByEmployee(employeeId, cursor, size);
+		return page.getItems().isEmpty() ? ResponseEntity.noContent().build() : ResponseEntity.ok(page);
 	}
 
 	/**
 	 * Anula una cita por parte del empleado.
 	 *
 	 * @param bookingId ID de la cita.
-	 * @param employee Empleado autenticado.
+	 * @param principal Empleado autenticado.
 	 * @return Mensaje indicando el resultado.
 	 */
 	@PutMapping("/employee/{bookingId}/abort")
 	@PreAuthorize("hasRole('EMPLEADO')")
 	public ResponseEntity<MessageResponse> abortBooking(@PathVariable Long bookingId,
-	                                                    @AuthenticationPrincipal Employee employee) {
+	                                                    @CurrentUser AuthenticatedUser principal) {
 		bookingService.updateStatus(bookingId, BookingStatus.ANULADA);
-		log.info("Empleado ID {} anuló la cita ID {}.", employee.getId(), bookingId);
+		log.info("Empleado ID {} anuló la cita ID {}.", principal.id(), bookingId);
 		return ResponseEntity.ok(new MessageResponse(ABORTED));
 	}
 
+	/**
+	 * Libera la agenda de un empleado en un rango de días (por ejemplo, por una baja), reasignando
+	 * sus citas a compañeros disponibles o anulándolas.
+	 * <p>
+	 * Un empleado solo puede liberar su propia agenda; el administrador, la de cualquiera.
+	 *
+	 * @param employeeId ID del empleado.
+	 * @param request Rango de días y modo (reasignar o solo anular).
+	 * @param principal Usuario autenticado.
+	 * @return Citas reasignadas y anuladas.
+	 */
+	@PostMapping("/employee/{employeeId}/release")
+	@PreAuthorize("hasAnyRole('ADMIN', 'EMPLEADO')")
+	public ResponseEntity<BookingReleaseResponse> releaseEmployeeBookings(@PathVariable Long employeeId,
+			@Valid @RequestBody BookingReleaseRequest request, @CurrentUser AuthenticatedUser principal) {
+		if (!RoleUtils.isAdmin(principal)) {
+			EmployeeValidator.validateEmployeeAccess(principal, employeeId);
+		}
+
+		BookingReleaseResponse response = bookingService.releaseEmployeeBookings(employeeId, request);
+		log.info("Usuario ID {} liberó la agenda del empleado ID {}: {} reasignadas, {} anuladas.", principal.id(),
+				employeeId, response.getReassignedIds().size(), response.getAbortedIds().size());
+		return ResponseEntity.ok(response);
+	}
+
 	/**
 	 * Marca una cita como completada por parte del empleado.
 	 *
 	 * @param bookingId ID de la cita.
-	 * @param employee Empleado autenticado.
+	 * @param principal Empleado autenticado.
 	 * @return Mensaje confirmando la finalización.
 	 */
 	@PutMapping("/employee/{bookingId}/complete")
 	@PreAuthorize("hasRole('EMPLEADO')")
 	public ResponseEntity<MessageResponse> completeBooking(@PathVariable Long bookingId,
-	                                                       @AuthenticationPrincipal Employee employee) {
+	                                                       @CurrentUser AuthenticatedUser principal) {
 		bookingService.updateStatus(bookingId, BookingStatus.COMPLETADA);
-		log.info("Empleado ID {} completó la cita ID {}.", employee.getId(), bookingId);
+		log.info("Empleado ID {} completó la cita ID {}.", principal.id(), bookingId);
 		return ResponseEntity.ok(new MessageResponse(COMPLETED));
 	}
 
 	/**
-	 * Devuelve las próximas citas asignadas a un empleado.
+	 * Abre el calendario en tiempo real de un empleado (Server-Sent Events).
+	 * <p>
+	 * Envía primero sus próximas citas y después cada cita creada, modificada o retirada,
+	 * sustituyendo a la consulta periódica de {@code /employee/{employeeId}/upcoming}.
+	 *
+	 * @param employeeId ID del empleado.
+	 * @param principal Empleado autenticado.
+	 * @return Conexión SSE abierta.
+	 */
+	@GetMapping(value = "/employee/{employeeId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	@PreAuthorize("hasRole('EMPLEADO')")
+	public SseEmitter streamEmployeeBookings(@PathVariable Long employeeId, @CurrentUser AuthenticatedUser principal) {
+		EmployeeValidator.validateEmployeeAccess(principal, employeeId);
+		return bookingStreamRegistry.openEmployeeStream(employeeId);
+	}
+
+	/**
+	 * Exporta la agenda de un empleado en formato iCalendar para suscribirse desde una aplicación de calendario.
+	 * <p>
+	 * Si la agenda no ha cambiado desde la versión indicada en {@code If-None-Match}, responde 304 sin contenido.
+	 * Además del JWT, acepta el token del enlace de suscripción ({@code ?token=}) generado en
+	 * {@code /employee/{employeeId}/calendar-link}.
 	 *
 	 * @param employeeId ID del empleado.
 	 * @param employee Empleado autenticado.
+	 * @param webRequest Petición en curso, para comprobar el ETag.
+	 * @return Calendario {@code .ics} o 304 si no hay cambios.
+	 */
+	@GetMapping("/employee/{employeeId}/calendar.ics")
+	@PreAuthorize("hasRole('EMPLEADO')")
+	public ResponseEntity<StreamingResponseBody> exportEmployeeCalendar(@PathVariable Long employeeId,
+			@CurrentUser Employee employee, WebRequest webRequest) {
+		EmployeeValidator.validateEmployeeAccess(employee, employeeId);
+
+		String version = bookingCalendarFeed.employeeVersion(employeeId);
+		if (webRequest.checkNotModified(version)) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(version).build();
+		}
+
+		String calendarName = "PetCare - " + NameFormatter.getShortFullName(employee);
+		return ResponseEntity.ok()
+				.eTag(version)
+				.contentType(CALENDAR_MEDIA_TYPE)
+				.body(bookingCalendarFeed.employeeFeed(employeeId, calendarName));
+	}
+
+	/**
+	 * Genera el enlace de suscripción a la agenda de un empleado.
+	 * <p>
+	 * El enlace lleva un token propio que sustituye al anterior, para las aplicaciones de calendario
+	 * que no pueden enviar la cabecera {@code Authorization}.
+	 *
+	 * @param employeeId ID del empleado.
+	 * @param principal Empleado autenticado.
+	 * @return Enlace del calendario {@code .ics} con el token.
+	 */
+	@PostMapping("/employee/{employeeId}/calendar-link")
+	@PreAuthorize("hasRole('EMPLEADO')")
+	public ResponseEntity<CalendarLinkResponse> createEmployeeCalendarLink(@PathVariable Long employeeId,
+			@CurrentUser AuthenticatedUser principal) {
+		EmployeeValidator.validateEmployeeAccess(principal, employeeId);
+		String token = calendarFeedTokens.issue(employeeId);
+		return ResponseEntity.ok(calendarLink("/bookings/employee/" + employeeId + "/calendar.ics", token));
+	}
+
+	/**
+	 * Revoca el enlace de suscripción a la agenda de un empleado.
+	 *
+	 * @param employeeId ID del empleado.
+	 * @param principal Empleado autenticado.
+	 * @return Mensaje de confirmación.
+	 */
+	@DeleteMapping("/employee/{employeeId}/calendar-link")
+	@PreAuthorize("hasRole('EMPLEADO')")
+	public ResponseEntity<MessageResponse> revokeEmployeeCalendarLink(@PathVariable Long employeeId,
+			@CurrentUser AuthenticatedUser principal) {
+		EmployeeValidator.validateEmployeeAccess(principal, employeeId);
+		calendarFeedTokens.revoke(employeeId);
+		return ResponseEntity.ok(new MessageResponse(CALENDAR_LINK_REVOKED));
+	}
+
+	/**
+	 * Devuelve las próximas citas asignadas a un empleado.
+	 *
+	 * @param employeeId ID del empleado.
+	 * @param principal Empleado autenticado.
 	 * @return Lista de citas futuras o acceso denegado.
 	 */
 	@GetMapping("/employee/{employeeId}/upcoming")
 	@PreAuthorize("hasRole('EMPLEADO')")
 	public ResponseEntity<List<BookingResponse>> getUpcomingBookingsByEmployee(@PathVariable Long employeeId,
-			@AuthenticationPrincipal Employee employee) {
-		EmployeeValidator.validateEmployeeAccess(employee, employeeId);
+			@CurrentUser AuthenticatedUser principal) {
+		EmployeeValidator.validateEmployeeAccess(principal, employeeId);
 
 		List<BookingResponse> list = bookingService.getUpcomingBookingsByEmployee(employeeId);
 
@@ -212,4 +514,35 @@ public class BookingController {
 		log.info("Empleado ID {} consultó sus próximas {} citas.", employeeId, list.size());
 		return ResponseEntity.ok(list);
 	}
-}
\ No newline at end of file
+
+	// ╔══════════════════════════════════════════════════════════════╗
+	// ║ ADMINISTRADOR - CONSULTA GLOBAL                              ║
+	// ╚══════════════════════════════════════════════════════════════╝
+
+	/**
+	 * Devuelve, página a página, todas las citas del sistema.
+	 *
+	 * @param cursor Cursor de la página anterior (opcional).
+	 * @param size Tamaño de página (opcional).
+	 * @return Página de citas, de la más reciente a la más antigua.
+	 */
+	@GetMapping
+	@PreAuthorize("hasRole('ADMIN')")
+	public ResponseEntity<BookingPage> getAllBookings(@RequestParam(required = false) String cursor,
+			@RequestParam(required = false) Integer size) {
+		BookingPage page = bookingService.getAllBookings(cursor, size);
+		return page.getItems().isEmpty() ? ResponseEntity.noContent().build() : ResponseEntity.ok(page);
+	}
+
+	// ╔══════════════════════════════════════════════════════════════╗
+	// ║ MÉTODOS AUXILIARES                                           ║
+	// ╚══════════════════════════════════════════════════════════════╝
+
+	private static CalendarLinkResponse calendarLink(String path, String token) {
+		String url = ServletUriComponentsBuilder.fromCurrentContextPath()
+				.path(path)
+				.queryParam(CALENDAR_TOKEN_PARAM, token)
+				.toUriString();
+		return CalendarLinkResponse.builder().url(url).build();
+	}
+}
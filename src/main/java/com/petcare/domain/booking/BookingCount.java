@@ -0,0 +1,19 @@
+package com.petcare.domain.booking;
+
+import com.petcare.enums.BookingStatus;
+import com.petcare.enums.BookingType;
+
+/**
+ * Proyección agregada con el número de citas de cada combinación de estado y tipo.
+ * <p>
+ * Permite calcular las estadísticas del panel de administración con una única consulta
+ * {@code GROUP BY}, sin cargar entidades {@link Booking}.
+ */
+public interface BookingCount {
+
+    BookingStatus getStatus();
+
+    BookingType getType();
+
+    long getTotal();
+}
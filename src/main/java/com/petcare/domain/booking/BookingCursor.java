@@ -0,0 +1,73 @@
+package com.petcare.domain.booking;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Base64;
+
+import com.petcare.exceptions.BusinessException;
+
+/**
+ * Posición de continuación en un listado de citas paginado por cursor.
+ * <p>
+ * Los listados se ordenan de forma descendente por (fecha, hora, id_cita), de modo que una cita
+ * queda identificada de forma única por esos tres valores. La siguiente página se obtiene pidiendo
+ * las citas estrictamente anteriores a la última devuelta, sin recorrer las páginas previas.
+ * <p>
+ * Hacia el exterior el cursor viaja como un texto opaco en Base64 URL-safe.
+ *
+ * @param date Fecha de la última cita devuelta.
+ * @param time Hora de la última cita devuelta.
+ * @param id ID de la última cita devuelta.
+ */
+public record BookingCursor(LocalDate date, LocalTime time, Long id) {
+
+    /** Cursor que precede a cualquier cita: se usa para pedir la primera página. */
+    public static final BookingCursor FIRST = new BookingCursor(LocalDate.of(9999, 12, 31), LocalTime.MAX, Long.MAX_VALUE);
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Construye el cursor que apunta a una cita.
+     *
+     * @param booking Última cita devuelta en la página.
+     * @return Cursor posicionado tras la cita.
+     */
+    public static BookingCursor of(BookingRow booking) {
+        return new BookingCursor(booking.date(), booking.time(), booking.id());
+    }
+
+    /**
+     * Interpreta el cursor recibido del cliente.
+     *
+     * @param token Cursor opaco, o {@code null}/vacío para la primera página.
+     * @return Cursor decodificado.
+     * @throws BusinessException si el cursor no tiene un formato válido.
+     */
+    public static BookingCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return FIRST;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException(raw);
+            }
+            return new BookingCursor(LocalDate.parse(parts[0]), LocalTime.parse(parts[1]), Long.valueOf(parts[2]));
+        } catch (RuntimeException e) {
+            throw new BusinessException("El cursor de paginación no es válido.");
+        }
+    }
+
+    /**
+     * Devuelve el cursor en su forma opaca.
+     *
+     * @return Texto en Base64 URL-safe.
+     */
+    public String encode() {
+        String raw = date + SEPARATOR + time + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,16 @@
+package com.petcare.domain.booking;
+
+import java.time.LocalDateTime;
+
+/**
+ * Proyección agregada con la última modificación y el número de citas de una agenda.
+ * <p>
+ * Identifica la versión de un calendario exportado: si ninguna cita se ha creado, modificado
+ * o retirado desde la última descarga, ambos valores se mantienen y el calendario no se regenera.
+ */
+public interface BookingFeedVersion {
+
+    LocalDateTime getLastUpdate();
+
+    long getTotal();
+}
@@ -0,0 +1,14 @@
+package com.petcare.domain.booking;
+
+/**
+ * Proyección con el menor y el mayor ID de un conjunto de citas.
+ * <p>
+ * Permite recorrer ese conjunto por tramos de IDs consecutivos y aplicar en cada tramo
+ * una única actualización masiva.
+ */
+public interface BookingIdRange {
+
+    Long getMinId();
+
+    Long getMaxId();
+}
@@ -6,12 +6,16 @@ import java.time.LocalTime;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.petcare.domain.employee.Employee;
 import com.petcare.enums.BookingStatus;
 import com.petcare.enums.BookingType;
+import com.petcare.enums.Profile;
 
 
 public interface BookingRepository extends JpaRepository<Booking, Long> {
@@ -27,10 +31,12 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
     // ║          CONSULTAS POR FECHA Y DISPONIBILIDAD      ║
     // ╚════════════════════════════════════════════════════╝
     boolean existsByEmployeeIdAndDateAndTime(Long employeeId, LocalDate date, LocalTime time);
+    boolean existsByEmployeeIdAndDateAndTimeAndStatus(Long employeeId, LocalDate date, LocalTime time, BookingStatus status);
     List<Booking> findByDate(LocalDate date);
     List<Booking> findByDateAfter(LocalDate date);
     List<Booking> findByDateBetween(LocalDateTime start, LocalDateTime end);
     List<Booking> findByEmployeeIdAndDate(Long employeeId, LocalDate date);
+    List<Booking> findByEmployeeIdAndDateAndStatus(Long employeeId, LocalDate date, BookingStatus status);
     Page<Booking> findByDateAfter(LocalDate date, Pageable pageable);
 
     // ╔════════════════════════════════════════════════════╗
@@ -45,13 +51,20 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
     // ╚════════════════════════════════════════════════════╝
 
     /**
-     * Devuelve las próximas citas CONFIRMADAS de un cliente.
+     * Devuelve las próximas citas CONFIRMADAS de un cliente, proyectadas en {@link BookingRow}.
      * Se ordenan por fecha y hora ascendentes.
      */
     @Query("""
-        SELECT b
+        SELECT new com.petcare.domain.booking.BookingRow(
+            b.id, b.date, b.time, b.status, b.type, b.reminderRequest, b.reminderSent,
+            p.id, p.name, p.type, p.customType,
+            e.id, e.name, e.lastName1, e.lastName2, e.profile,
+            c.id, c.name, c.lastName1)
         FROM Booking b
-        WHERE b.pet.client.id = :clientId
+        JOIN b.pet p
+        JOIN p.client c
+        JOIN b.employee e
+        WHERE c.id = :clientId
           AND b.status = 'CONFIRMADA'
           AND (
               b.date > CURRENT_DATE
@@ -59,16 +72,23 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
           )
         ORDER BY b.date ASC, b.time ASC
     """)
-    List<Booking> findUpcomingByClientId(Long clientId);
+    List<BookingRow> findUpcomingByClientId(Long clientId);
 
     /**
-     * Devuelve las próximas citas CONFIRMADAS de un empleado.
+     * Devuelve las próximas citas CONFIRMADAS de un empleado, proyectadas en {@link BookingRow}.
      * Se ordenan por fecha y hora ascendentes.
      */
     @Query("""
-        SELECT b
+        SELECT new com.petcare.domain.booking.BookingRow(
+            b.id, b.date, b.time, b.status, b.type, b.reminderRequest, b.reminderSent,
+            p.id, p.name, p.type, p.customType,
+            e.id, e.name, e.lastName1, e.lastName2, e.profile,
+            c.id, c.name, c.lastName1)
         FROM Booking b
-        WHERE b.employee.id = :employeeId
+        JOIN b.pet p
+        JOIN p.client c
+        JOIN b.employee e
+        WHERE e.id = :employeeId
           AND b.status = 'CONFIRMADA'
           AND (
               b.date > CURRENT_DATE
@@ -76,5 +96,350 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
           )
         ORDER BY b.date ASC, b.time ASC
     """)
-    List<Booking> findUpcomingByEmployeeId(Long employeeId);
-}
\ No newline at end of file
+    List<BookingRow> findUpcomingByEmployeeId(Long employeeId);
+
+    /**
+     * Devuelve todas las citas de una mascota, proyectadas en {@link BookingRow}.
+     * Se ordenan por fecha y hora ascendentes.
+     */
+    @Query("""
+        SELECT new com.petcare.domain.booking.BookingRow(
+            b.id, b.date, b.time, b.status, b.type, b.reminderRequest, b.reminderSent,
+            p.id, p.name, p.type, p.customType,
+            e.id, e.name, e.lastName1, e.lastName2, e.profile,
+            c.id, c.name, c.lastName1)
+        FROM Booking b
+        JOIN b.pet p
+        JOIN p.client c
+        JOIN b.employee e
+        WHERE p.id = :petId
+        ORDER BY b.date ASC, b.time ASC, b.id ASC
+    """)
+    List<BookingRow> findRowsByPetId(Long petId);
+
+    /**
+     * Devuelve un conjunto de citas por su ID, proyectadas en {@link BookingRow}.
+     * Se utiliza para enviar los cambios de las citas a los calendarios abiertos en tiempo real.
+     */
+    @Query("""
+        SELECT new com.petcare.domain.booking.BookingRow(
+            b.id, b.date, b.time, b.status, b.type, b.reminderRequest, b.reminderSent,
+            p.id, p.name, p.type, p.customType,
+            e.id, e.name, e.lastName1, e.lastName2, e.profile,
+            c.id, c.name, c.lastName1)
+        FROM Booking b
+        JOIN b.pet p
+        JOIN p.client c
+        JOIN b.employee e
+        WHERE b.id IN :ids
+    """)
+    List<BookingRow> findRowsByIds(List<Long> ids);
+
+    /**
+     * Devuelve la ocupación (empleado, fecha y hora) de las citas CONFIRMADAS a partir de una fecha.
+     * Se utiliza para reconstruir el índice de disponibilidad en memoria sin cargar entidades.
+     */
+    @Query("""
+        SELECT b.employee.id AS employeeId, b.date AS date, b.time AS time
+        FROM Booking b
+        WHERE b.date >= :fromDate
+          AND b.status = 'CONFIRMADA'
+    """)
+    List<BookingSlot> findSlotsFrom(LocalDate fromDate);
+
+    /**
+     * Devuelve la ocupación de las citas CONFIRMADAS de todos los empleados de un perfil
+     * en un rango de fechas (ambos incluidos).
+     * Se utiliza para buscar huecos libres con una única consulta por perfil.
+     */
+    @Query("""
+        SELECT b.employee.id AS employeeId, b.date AS date, b.time AS time
+        FROM Booking b
+        WHERE b.employee.profile = :profile
+          AND b.date BETWEEN :fromDate AND :toDate
+          AND b.status = 'CONFIRMADA'
+    """)
+    List<BookingSlot> findSlotsByProfileBetween(Profile profile, LocalDate fromDate, LocalDate toDate);
+
+    /**
+     * Devuelve la ocupación de las citas CONFIRMADAS de un empleado en un rango de fechas (ambos incluidos).
+     * Se utiliza para detectar con una única consulta los conflictos de una serie de citas periódicas.
+     */
+    @Query("""
+        SELECT b.employee.id AS employeeId, b.date AS date, b.time AS time
+        FROM Booking b
+        WHERE b.employee.id = :employeeId
+          AND b.date BETWEEN :fromDate AND :toDate
+          AND b.status = 'CONFIRMADA'
+    """)
+    List<BookingSlot> findSlotsByEmployeeBetween(Long employeeId, LocalDate fromDate, LocalDate toDate);
+
+    /**
+     * Devuelve las citas CONFIRMADAS de un empleado en un rango de fechas (ambos incluidos),
+     * con los datos necesarios para reasignarlas o anularlas y avisar a sus clientes.
+     */
+    @Query("""
+        SELECT new com.petcare.domain.booking.AffectedBooking(
+            b.id, b.date, b.time, b.type, p.name, c.name, c.username)
+        FROM Booking b
+        JOIN b.pet p
+        JOIN p.client c
+        WHERE b.employee.id = :employeeId
+          AND b.date BETWEEN :fromDate AND :toDate
+          AND b.status = 'CONFIRMADA'
+        ORDER BY b.date ASC, b.time ASC, b.id ASC
+    """)
+    List<AffectedBooking> findAffectedByEmployeeBetween(Long employeeId, LocalDate fromDate, LocalDate toDate);
+
+    /**
+     * Cuenta las citas agrupadas por estado y tipo.
+     * Solo devuelve las combinaciones que tienen al menos una cita.
+     */
+    @Query("""
+        SELECT b.status AS status, b.type AS type, COUNT(b) AS total
+        FROM Booking b
+        GROUP BY b.status, b.type
+    """)
+    List<BookingCount> countGroupedByStatusAndType();
+
+    /**
+     * Devuelve la última modificación y el número de citas de un empleado desde la fecha indicada.
+     * Se utiliza como versión (ETag) de su calendario exportado.
+     */
+    @Query("""
+        SELECT MAX(b.updatedAt) AS lastUpdate, COUNT(b) AS total
+        FROM Booking b
+        WHERE b.employee.id = :employeeId
+          AND b.date >= :cutoff
+    """)
+    BookingFeedVersion findFeedVersionByEmployeeId(Long employeeId, LocalDate cutoff);
+
+    /**
+     * Devuelve la última modificación y el número de citas de las mascotas de un cliente desde la fecha indicada.
+     * Se utiliza como versión (ETag) de su calendario exportado.
+     */
+    @Query("""
+        SELECT MAX(b.updatedAt) AS lastUpdate, COUNT(b) AS total
+        FROM Booking b
+        WHERE b.pet.client.id = :clientId
+          AND b.date >= :cutoff
+    """)
+    BookingFeedVersion findFeedVersionByClientId(Long clientId, LocalDate cutoff);
+
+    // ╔════════════════════════════════════════════════════╗
+    // ║          LISTADOS PAGINADOS POR CURSOR             ║
+    // ╚════════════════════════════════════════════════════╝
+    //
+    // Todas las consultas devuelven las citas anteriores a la posición (date, time, id) en orden
+    // descendente, proyectadas en BookingRow sin cargar entidades. El tamaño de página
+    // se indica con el Pageable recibido y nunca se usa OFFSET.
+    //
+    // El cursor se compara como valor de fila, (fecha, hora, id_cita) < (:date, :time, :id), y no como
+    // cadena de OR: así PostgreSQL lo usa como condición de un único recorrido de los índices
+    // (…, fecha, hora, id_cita) de la migración V1 y cada página cuesta lo mismo que la primera.
+
+    /**
+     * Página de todas las citas de un cliente.
+     */
+    @Query("""
+        SELECT new com.petcare.domain.booking.BookingRow(
+            b.id, b.date, b.time, b.status, b.type, b.reminderRequest, b.reminderSent,
+            p.id, p.name, p.type, p.customType,
+            e.id, e.name, e.lastName1, e.lastName2, e.profile,
+            c.id, c.name, c.lastName1)
+        FROM Booking b
+        JOIN b.pet p
+        JOIN p.client c
+        JOIN b.employee e
+        WHERE c.id = :clientId
+          AND (b.date, b.time, b.id) < (:date, :time, :id)
+        ORDER BY b.date DESC, b.time DESC, b.id DESC
+    """)
+    List<BookingRow> findPageByClientId(Long clientId, LocalDate date, LocalTime time, Long id, Pageable pageable);
+
+    /**
+     * Página de las citas finalizadas (canceladas, anuladas o completadas) de un cliente.
+     */
+    @Query("""
+        SELECT new com.petcare.domain.booking.BookingRow(
+            b.id, b.date, b.time, b.status, b.type, b.reminderRequest, b.reminderSent,
+            p.id, p.name, p.type, p.customType,
+            e.id, e.name, e.lastName1, e.lastName2, e.profile,
+            c.id, c.name, c.lastName1)
+        FROM Booking b
+        JOIN b.pet p
+        JOIN p.client c
+        JOIN b.employee e
+        WHERE c.id = :clientId
+          AND b.status <> 'CONFIRMADA'
+          AND (b.date, b.time, b.id) < (:date, :time, :id)
+        ORDER BY b.date DESC, b.time DESC, b.id DESC
+    """)
+    List<BookingRow> findPastPageByClientId(Long clientId, LocalDate date, LocalTime time, Long id, Pageable pageable);
+
+    /**
+     * Página de todas las citas asignadas a un empleado.
+     */
+    @Query("""
+        SELECT new com.petcare.domain.booking.BookingRow(
+            b.id, b.date, b.time, b.status, b.type, b.reminderRequest, b.reminderSent,
+            p.id, p.name, p.type, p.customType,
+            e.id, e.name, e.lastName1, e.lastName2, e.profile,
+            c.id, c.name, c.lastName1)
+        FROM Booking b
+        JOIN b.pet p
+        JOIN p.client c
+        JOIN b.employee e
+        WHERE e.id = :employeeId
+          AND (b.date, b.time, b.id) < (:date, :time, :id)
+        ORDER BY b.date DESC, b.time DESC, b.id DESC
+    """)
+    List<BookingRow> findPageByEmployeeId(Long employeeId, LocalDate date, LocalTime time, Long id, Pageable pageable);
+
+    /**
+     * Página del historial de una mascota de un cliente: citas completadas o con fecha ya pasada.
+     */
+    @Query("""
+        SELECT new com.petcare.domain.booking.BookingRow(
+            b.id, b.date, b.time, b.status, b.type, b.reminderRequest, b.reminderSent,
+            p.id, p.name, p.type, p.customType,
+            e.id, e.name, e.lastName1, e.lastName2, e.profile,
+            c.id, c.name, c.lastName1)
+        FROM Booking b
+        JOIN b.pet p
+        JOIN p.client c
+        JOIN b.employee e
+        WHERE p.id = :petId
+          AND c.id = :clientId
+          AND (b.status = 'COMPLETADA' OR b.date < CURRENT_DATE)
+          AND (b.date, b.time, b.id) < (:date, :time, :id)
+        ORDER BY b.date DESC, b.time DESC, b.id DESC
+    """)
+    List<BookingRow> findHistoryPageByPetId(Long petId, Long clientId, LocalDate date, LocalTime time, Long id,
+            Pageable pageable);
+
+    /**
+     * Página de todas las citas del sistema.
+     */
+    @Query("""
+        SELECT new com.petcare.domain.booking.BookingRow(
+            b.id, b.date, b.time, b.status, b.type, b.reminderRequest, b.reminderSent,
+            p.id, p.name, p.type, p.customType,
+            e.id, e.name, e.lastName1, e.lastName2, e.profile,
+            c.id, c.name, c.lastName1)
+        FROM Booking b
+        JOIN b.pet p
+        JOIN p.client c
+        JOIN b.employee e
+        WHERE (b.date, b.time, b.id) < (:date, :time, :id)
+        ORDER BY b.date DESC, b.time DESC, b.id DESC
+    """)
+    List<BookingRow> findPage(LocalDate date, LocalTime time, Long id, Pageable pageable);
+
+    /**
+     * Devuelve una página de citas CONFIRMADAS de un día con recordatorio solicitado y pendiente de envío,
+     * con la mascota, el cliente y el empleado ya cargados.
+     * <p>
+     * La paginación es por cursor: se devuelven las citas con ID mayor que {@code lastId},
+     * ordenadas por ID, hasta el tamaño indicado en {@code pageable}.
+     */
+    @Query("""
+        SELECT b
+        FROM Booking b
+        JOIN FETCH b.pet p
+        JOIN FETCH p.client
+        JOIN FETCH b.employee
+        WHERE b.date = :date
+          AND b.status = 'CONFIRMADA'
+          AND b.reminderRequest = true
+          AND b.reminderSent = false
+          AND b.id > :lastId
+        ORDER BY b.id ASC
+    """)
+    List<Booking> findPendingReminders(LocalDate date, Long lastId, Pageable pageable);
+
+    /**
+     * Marca como enviados los recordatorios de un conjunto de citas en una única sentencia.
+     *
+     * @return Número de citas actualizadas.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Booking b SET b.reminderSent = true, b.updatedAt = :now WHERE b.id IN :ids")
+    int markRemindersSent(List<Long> ids, LocalDateTime now);
+
+    /**
+     * Vuelve a dejar pendiente el recordatorio de una cita que ya lo había recibido,
+     * por ejemplo tras cambiarla de día.
+     *
+     * @return Número de citas actualizadas (0 o 1).
+     */
+    @Modifying
+    @Transactional
+    @Query("""
+        UPDATE Booking b
+        SET b.reminderSent = false, b.updatedAt = :now
+        WHERE b.id = :id
+          AND b.reminderRequest = true
+          AND b.reminderSent = true
+    """)
+    int resetReminder(Long id, LocalDateTime now);
+
+    /**
+     * Anula un conjunto de citas confirmadas en una única sentencia.
+     *
+     * @return Número de citas anuladas.
+     */
+    @Modifying
+    @Transactional
+    @Query("""
+        UPDATE Booking b
+        SET b.status = 'ANULADA', b.updatedAt = :now
+        WHERE b.id IN :ids
+          AND b.status = 'CONFIRMADA'
+    """)
+    int abortAll(List<Long> ids, LocalDateTime now);
+
+    /**
+     * Asigna un conjunto de citas confirmadas a otro empleado en una única sentencia.
+     *
+     * @return Número de citas reasignadas.
+     */
+    @Modifying
+    @Transactional
+    @Query("""
+        UPDATE Booking b
+        SET b.employee = :employee, b.updatedAt = :now
+        WHERE b.id IN :ids
+          AND b.status = 'CONFIRMADA'
+    """)
+    int reassignAll(List<Long> ids, Employee employee, LocalDateTime now);
+
+    /**
+     * Devuelve el rango de IDs de las citas CONFIRMADAS anteriores a una fecha, que ya no se van a celebrar.
+     */
+    @Query("""
+        SELECT MIN(b.id) AS minId, MAX(b.id) AS maxId
+        FROM Booking b
+        WHERE b.status = 'CONFIRMADA'
+          AND b.date < :date
+    """)
+    BookingIdRange findStaleIdRange(LocalDate date);
+
+    /**
+     * Marca como COMPLETADAS las citas CONFIRMADAS anteriores a una fecha dentro de un tramo de IDs
+     * (ambos incluidos), en una única sentencia.
+     *
+     * @return Número de citas actualizadas.
+     */
+    @Modifying
+    @Transactional
+    @Query("""
+        UPDATE Booking b
+        SET b.status = 'COMPLETADA', b.updatedAt = :now
+        WHERE b.id BETWEEN :fromId AND :toId
+          AND b.status = 'CONFIRMADA'
+          AND b.date < :date
+    """)
+    int completeStale(Long fromId, Long toId, LocalDate date, LocalDateTime now);
+}
@@ -0,0 +1,40 @@
+package com.petcare.domain.booking;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import com.petcare.enums.BookingStatus;
+import com.petcare.enums.BookingType;
+import com.petcare.enums.PetType;
+import com.petcare.enums.Profile;
+
+/**
+ * Proyección de lectura de una cita con los datos de su mascota, cliente y empleado
+ * que necesita {@link com.petcare.domain.booking.dto.BookingResponse}.
+ * <p>
+ * Se construye directamente desde una consulta JPQL ({@code SELECT new ...}) que une las tablas
+ * implicadas y selecciona únicamente estas columnas, sin cargar entidades {@link Booking},
+ * {@link com.petcare.domain.pet.Pet}, {@link com.petcare.domain.client.Client} ni
+ * {@link com.petcare.domain.employee.Employee}.
+ */
+public record BookingRow(
+        Long id,
+        LocalDate date,
+        LocalTime time,
+        BookingStatus status,
+        BookingType type,
+        Boolean reminderRequest,
+        Boolean reminderSent,
+        Long petId,
+        String petName,
+        PetType petType,
+        String petCustomType,
+        Long employeeId,
+        String employeeName,
+        String employeeLastName1,
+        String employeeLastName2,
+        Profile employeeProfile,
+        Long clientId,
+        String clientName,
+        String clientLastName1) {
+}
@@ -7,6 +7,7 @@ import java.util.List;
 import com.petcare.domain.booking.dto.*;
 import com.petcare.domain.client.Client;
 import com.petcare.enums.BookingStatus;
+import com.petcare.enums.BookingType;
 
 
 /**
@@ -35,6 +36,17 @@ public interface BookingService {
 	
     BookingResponse createBooking(BookingRequest request, Client client);
 
+    /**
+     * Registra una serie de citas periódicas solicitada por un cliente.
+     * <p>
+     * La serie se registra completa o no se registra ninguna de sus citas.
+     *
+     * @param request Datos de la serie (primera fecha, frecuencia y fin).
+     * @param client Cliente autenticado que solicita las citas.
+     * @return Citas registradas, en orden de fecha.
+     */
+    List<BookingResponse> createBookingSeries(BookingSeriesRequest request, Client client);
+
     /**
     * Permite modificar/actualizar los datos de una cita.
     *
@@ -67,18 +79,30 @@ public interface BookingService {
     
     boolean updateStatus(Long bookingId, BookingStatus newStatus, Long clientId);
 
+    /**
+     * Libera la agenda de un empleado en un rango de días, reasignando sus citas confirmadas
+     * a compañeros compatibles y libres o anulándolas.
+     *
+     * @param employeeId ID del empleado.
+     * @param request Rango de días y modo (reasignar o solo anular).
+     * @return Citas reasignadas y anuladas.
+     */
+    BookingReleaseResponse releaseEmployeeBookings(Long employeeId, BookingReleaseRequest request);
+
     // ╔════════════════════════════════════════════════════╗
     // ║               CONSULTAS PARA CLIENTES              ║
     // ╚════════════════════════════════════════════════════╝
 
     /**
-     * Devuelve todas las citas asociadas a un cliente.
+     * Devuelve una página de las citas asociadas a un cliente, de la más reciente a la más antigua.
      *
      * @param clientId ID del cliente.
-     * @return Lista de citas.
+     * @param cursor Cursor devuelto por la página anterior, o {@code null} para la primera.
+     * @param size Tamaño de página (opcional).
+     * @return Página de citas.
      */
     
-    List<BookingResponse> getBookingsByClient(Long clientId);
+    BookingPage getBookingsByClient(Long clientId, String cursor, Integer size);
 
     /**
      * Devuelve las próximas citas programadas de un cliente.
@@ -90,26 +114,30 @@ public interface BookingService {
     List<BookingResponse> getUpcomingBookingsByClient(Long clientId);
 
     /**
-     * Devuelve las citas pasadas o finalizadas de un cliente.
+     * Devuelve una página de las citas finalizadas de un cliente, de la más reciente a la más antigua.
      *
      * @param clientId ID del cliente.
-     * @return Lista de citas anteriores.
+     * @param cursor Cursor devuelto por la página anterior, o {@code null} para la primera.
+     * @param size Tamaño de página (opcional).
+     * @return Página de citas anteriores.
      */
     
-    List<BookingResponse> getPastBookingsByClient(Long clientId);
+    BookingPage getPastBookingsByClient(Long clientId, String cursor, Integer size);
 
     // ╔════════════════════════════════════════════════════╗
     // ║              CONSULTAS PARA EMPLEADOS              ║
     // ╚════════════════════════════════════════════════════╝
 
     /**
-     * Devuelve todas las citas asociadas a un empleado.
+     * Devuelve una página de las citas asociadas a un empleado, de la más reciente a la más antigua.
      *
      * @param employeeId ID del empleado.
-     * @return Lista de citas.
+     * @param cursor Cursor devuelto por la página anterior, o {@code null} para la primera.
+     * @param size Tamaño de página (opcional).
+     * @return Página de citas.
      */
     
-    List<BookingResponse> getBookingsByEmployee(Long employeeId);
+    BookingPage getBookingsByEmployee(Long employeeId, String cursor, Integer size);
 
     /**
      * Devuelve las próximas citas programadas de un empleado.
@@ -134,13 +162,16 @@ public interface BookingService {
     List<BookingResponse> getBookingsByPet(Long petId);
 
     /**
-     * Devuelve las citas anteriores o completadas de una mascota.
+     * Devuelve una página de las citas anteriores o completadas de una mascota del cliente.
      *
      * @param petId ID de la mascota.
-     * @return Lista de citas históricas.
+     * @param clientId ID del cliente propietario.
+     * @param cursor Cursor devuelto por la página anterior, o {@code null} para la primera.
+     * @param size Tamaño de página (opcional).
+     * @return Página de citas históricas.
      */
     
-    List<BookingResponse> getBookingHistoryByPet(Long petId);
+    BookingPage getBookingHistoryByPet(Long petId, Long clientId, String cursor, Integer size);
 
     // ╔════════════════════════════════════════════════════╗
     // ║             CONSULTA DE DISPONIBILIDAD	         	║
@@ -156,14 +187,29 @@ public interface BookingService {
     
     List<LocalTime> getOccupiedHoursByEmployeeAndDate(Long employeeId, LocalDate date);
 
+    /**
+     * Busca los primeros huecos libres para un tipo de cita entre todos los empleados compatibles.
+     *
+     * @param type Tipo de cita que se quiere agendar.
+     * @param from Primer día de la búsqueda (por defecto, hoy).
+     * @param to Último día de la búsqueda (por defecto, el máximo rango permitido).
+     * @param employeeId ID de un empleado concreto, o {@code null} para buscar entre todos.
+     * @param limit Número máximo de huecos a devolver.
+     * @return Huecos libres ordenados por fecha y hora.
+     */
+    
+    List<AvailableSlotResponse> getAvailableSlots(BookingType type, LocalDate from, LocalDate to, Long employeeId, Integer limit);
+
     // ╔════════════════════════════════════════════════════╗
     // ║            CONSULTAS ADMINISTRADORAS GLOBALES      ║
     // ╚════════════════════════════════════════════════════╝
     /**
-     * Devuelve todas las citas del sistema (consulta global para administradores).
+     * Devuelve una página de todas las citas del sistema (consulta global para administradores).
      *
-     * @return Lista completa de citas.
+     * @param cursor Cursor devuelto por la página anterior, o {@code null} para la primera.
+     * @param size Tamaño de página (opcional).
+     * @return Página de citas.
      */
     
-    List<BookingResponse> getAllBookings();
+    BookingPage getAllBookings(String cursor, Integer size);
 }
\ No newline at end of file
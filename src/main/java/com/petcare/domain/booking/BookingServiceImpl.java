@@ -1,28 +1,46 @@
 package com.petcare.domain.booking;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.petcare.domain.booking.archive.ArchivedBookingRepository;
+import com.petcare.domain.booking.archive.BookingArchive;
 import com.petcare.domain.booking.dto.*;
+import com.petcare.domain.booking.event.BookingCreated;
+import com.petcare.domain.booking.event.BookingRescheduled;
+import com.petcare.domain.booking.event.BookingSeriesCreated;
+import com.petcare.domain.booking.event.BookingStatusChanged;
+import com.petcare.domain.booking.event.BookingsReleased;
 import com.petcare.domain.client.Client;
 import com.petcare.domain.employee.Employee;
 import com.petcare.domain.employee.EmployeeRepository;
 import com.petcare.domain.pet.Pet;
 import com.petcare.domain.pet.PetRepository;
 import com.petcare.enums.BookingStatus;
+import com.petcare.enums.AccountStatus;
 import com.petcare.enums.BookingType;
 import com.petcare.exceptions.*;
-import com.petcare.notification.BookingEmailService;
 import com.petcare.validators.AccountValidator;
 import com.petcare.validators.BookingValidatorRules;
 import com.petcare.validators.BookingValidator;
 import com.petcare.validators.ClientValidator;
 import com.petcare.validators.PetValidator;
+import com.petcare.utils.NameFormatter;
 import static com.petcare.utils.constants.GlobalConstants.*;
 
 import lombok.RequiredArgsConstructor;
@@ -34,7 +52,10 @@ import lombok.extern.slf4j.Slf4j;
  * Aquí se incluyen todas las validaciones necesarias, la creación de citas,
  * su actualización, cambios de estado y consultas personalizadas por cliente, empleado o mascota.
  * <p>
- * También se encarga del envío de correos de notificación al empleado asignado tras registrar una cita.
+ * Cada alta, modificación o cambio de estado publica un evento de cita ({@link BookingCreated},
+ * {@link BookingRescheduled} o {@link BookingStatusChanged}). Los efectos derivados (índice de
+ * disponibilidad, notificaciones y estadísticas) se aplican en sus suscriptores una vez confirmada
+ * la transacción.
  *
  * @see BookingService
  */
@@ -47,7 +68,11 @@ public class BookingServiceImpl implements BookingService {
     private final BookingRepository bookingRepository;
     private final PetRepository petRepository;
     private final EmployeeRepository employeeRepository;
-    private final BookingEmailService bookingEmailService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BookingAvailabilityIndex availabilityIndex;
+    private final BookingSlotLocks slotLocks;
+    private final ArchivedBookingRepository archivedBookingRepository;
+    private final BookingArchive bookingArchive;
 
     // ╔════════════════════════════════════════════════════════════╗
     // ║          REGISTRO Y ACTUALIZACIÓN DE CITAS                ║
@@ -64,7 +89,12 @@ public class BookingServiceImpl implements BookingService {
      * - Que el horario esté dentro del rango laboral y libre
      * - Que se respeten las normas para el envío de recordatorios
      * <p>
-     * Si todo es correcto, se guarda la cita en la base de datos y se envía una notificación al empleado.
+     * La comprobación de disponibilidad y el guardado se realizan bajo el cerrojo del empleado y día
+     * ({@link BookingSlotLocks}), de modo que dos reservas simultáneas de la misma franja no pueden
+     * confirmarse a la vez.
+     * <p>
+     * Si todo es correcto, se guarda la cita en la base de datos y se publica {@link BookingCreated};
+     * la notificación al empleado se genera tras confirmar la transacción.
      *
      * @param request Datos de la cita (fecha, hora, tipo, etc.)
      * @param client Cliente que solicita la cita.
@@ -72,6 +102,7 @@ public class BookingServiceImpl implements BookingService {
      * @throws BookingException si alguna validación falla.
      */
     @Override
+    @Transactional
     public BookingResponse createBooking(BookingRequest request, Client client) {
         ClientValidator.validateAuthenticatedClient(client);
         AccountValidator.validateAccountIsActive(client);
@@ -96,28 +127,131 @@ public class BookingServiceImpl implements BookingService {
         try {
             BookingValidator.validateEmployeeProfile(request.getType(), employee.getProfile());
             BookingValidator.validateDateAndTime(request.getDate(), request.getTime());
-            BookingValidator.validateAvailability(bookingRepository, employee.getId(), request.getDate(), request.getTime());
             BookingValidator.validateReminderSettings(request.getReminderRequest(), client);
         } catch (Exception e) {
             throw new BookingException("Error al validar la información de la cita: " + e.getMessage());
         }
 
         Booking booking = BookingMapper.toEntity(request, pet, employee);
-        Booking saved = bookingRepository.save(booking);
+        Booking saved;
+
+        try (BookingSlotLocks.SlotLock lock = slotLocks.lock(employee.getId(), request.getDate())) {
+            BookingValidator.validateAvailability(availabilityIndex, employee.getId(), request.getDate(), request.getTime());
+            saved = saveSlot(booking);
+        }
 
-        bookingEmailService.sendBookingAssigned(
+        eventPublisher.publishEvent(new BookingCreated(
+            saved.getId(),
+            employee.getId(),
             employee.getUsername(),
             client.getName(),
             pet.getName(),
-            request.getDate().format(DATE_FORMATTER),
-            request.getTime().format(TIME_FORMATTER),
-            request.getType().name()
-        );
+            saved.getDate(),
+            saved.getTime(),
+            saved.getType()
+        ));
 
         log.info("Cita creada y confirmada: ID {} | Mascota ID {} | Cliente ID {}", saved.getId(), pet.getId(), client.getId());
         return BookingMapper.toResponse(saved);
     }
 
+    /**
+     * Crea una serie de citas periódicas asociadas a un cliente y su mascota.
+     * <p>
+     * Se aplican las mismas validaciones que a una cita individual, y además:
+     * - Que la serie termine tras un número de citas o en una fecha límite (solo uno de los dos)
+     * - Que la serie no supere {@code BOOKING_SERIES_MAX_OCCURRENCES} citas
+     * - Que todas las fechas caigan dentro del horario laboral
+     * <p>
+     * La disponibilidad de todas las fechas se comprueba con una única consulta sobre el rango
+     * de la serie, bajo los cerrojos de todos los días afectados. Si alguna fecha está ocupada,
+     * no se registra ninguna cita y se indican las fechas en conflicto.
+     * <p>
+     * Las citas se insertan en un único lote JDBC (los IDs salen de la secuencia {@code citas_seq}, sin
+     * esperar a la base de datos por cada fila) y se publica un solo
+     * {@link BookingSeriesCreated}, de modo que el empleado recibe un único aviso con toda la serie.
+     *
+     * @param request Datos de la serie.
+     * @param client Cliente que solicita las citas.
+     * @return Citas registradas, en orden de fecha.
+     * @throws BookingException si alguna validación falla o alguna fecha está ocupada.
+     */
+    @Override
+    @Transactional
+    public List<BookingResponse> createBookingSeries(BookingSeriesRequest request, Client client) {
+        ClientValidator.validateAuthenticatedClient(client);
+        AccountValidator.validateAccountIsActive(client);
+
+        Optional<Pet> optionalPet = petRepository.findById(request.getPetId());
+        if (optionalPet.isEmpty()) {
+            log.warn("No se encontró mascota con ID: {}", request.getPetId());
+            throw new NotFoundException("La mascota seleccionada no existe. Verifica los datos e inténtalo de nuevo.");
+        }
+
+        Pet pet = optionalPet.get();
+        PetValidator.checkOwner(pet, client.getId());
+
+        Optional<Employee> optionalEmployee = employeeRepository.findById(request.getEmployeeId());
+        if (optionalEmployee.isEmpty()) {
+            log.warn("Empleado no encontrado con ID: {}", request.getEmployeeId());
+            throw new NotFoundException("El empleado seleccionado no está disponible.");
+        }
+
+        Employee employee = optionalEmployee.get();
+        List<LocalDate> dates;
+
+        try {
+            BookingValidator.validateEmployeeProfile(request.getType(), employee.getProfile());
+            BookingValidator.validateReminderSettings(request.getReminderRequest(), client);
+            BookingValidator.validateSeriesEnd(request.getOccurrences(), request.getDate(), request.getUntilDate());
+
+            dates = resolveSeriesDates(request);
+            for (LocalDate date : dates) {
+                BookingValidator.validateDateAndTime(date, request.getTime());
+            }
+        } catch (Exception e) {
+            throw new BookingException("Error al validar la información de la serie de citas: " + e.getMessage());
+        }
+
+        List<Booking> bookings = new ArrayList<>(dates.size());
+        for (LocalDate date : dates) {
+            bookings.add(BookingMapper.toEntity(request, date, pet, employee));
+        }
+
+        try (BookingSlotLocks.SlotLock lock = slotLocks.lock(employee.getId(), dates)) {
+            validateSeriesAvailability(employee.getId(), dates, request.getTime());
+
+            try {
+                bookingRepository.saveAllAndFlush(bookings);
+            } catch (DataIntegrityViolationException e) {
+                log.warn("Conflicto de franja al guardar la serie del empleado [{}] a las {}.",
+                        employee.getId(), request.getTime());
+                throw new BookingException("El empleado seleccionado ya tiene una cita en alguna de las fechas de la serie.");
+            }
+        }
+
+        List<Long> ids = new ArrayList<>(bookings.size());
+        for (Booking booking : bookings) {
+            ids.add(booking.getId());
+        }
+
+        eventPublisher.publishEvent(new BookingSeriesCreated(
+            ids,
+            employee.getId(),
+            employee.getUsername(),
+            client.getName(),
+            pet.getName(),
+            dates,
+            request.getTime(),
+            request.getType(),
+            request.getFrequency()
+        ));
+
+        log.info("Serie de {} citas [{}] creada y confirmada: Mascota ID {} | Cliente ID {}", ids.size(),
+                request.getFrequency(), pet.getId(), client.getId());
+        return BookingMapper.toResponseList(bookings);
+    }
+
     /**
      * Actualiza parcialmente una cita existente solicitada por un cliente.
      * <p>
@@ -130,7 +264,8 @@ public class BookingServiceImpl implements BookingService {
      * - Que la cuenta del cliente esté activa
      * - Que la nueva fecha/hora sean válidas (si se modifican)
      * - Que el recordatorio esté bien configurado (si se solicita)
-     * - Que el nuevo empleado exista, tenga perfil compatible y esté libre (si se cambia)
+     * - Que el nuevo empleado exista y tenga perfil compatible (si se cambia)
+     * - Que la franja resultante esté libre (si cambia el empleado, la fecha o la hora)
      *
      * @param bookingId ID de la cita a modificar.
      * @param clientId ID del cliente autenticado.
@@ -140,6 +275,7 @@ public class BookingServiceImpl implements BookingService {
      */
     
     @Override
+    @Transactional
     public BookingResponse updateBooking(Long bookingId, Long clientId, BookingUpdate request) {
 
         if (bookingId == null || bookingId <= 0 || clientId == null || clientId <= 0) {
@@ -154,6 +290,10 @@ public class BookingServiceImpl implements BookingService {
         }
 
         Booking booking = optionalBooking.get();
+        Long previousEmployeeId = booking.getEmployee().getId();
+        LocalDate previousDate = booking.getDate();
+        LocalTime previousTime = booking.getTime();
+        BookingType previousType = booking.getType();
 
         PetValidator.checkOwner(booking.getPet(), clientId);
         AccountValidator.validateAccountIsActive(booking.getPet().getClient());
@@ -181,7 +321,6 @@ public class BookingServiceImpl implements BookingService {
                 BookingType tipo = request.getNewType() != null ? request.getNewType() : booking.getType();
 
                 BookingValidator.validateEmployeeProfile(tipo, newEmployee.getProfile());
-                BookingValidator.validateAvailability(bookingRepository, newEmployee.getId(), nuevaFecha, nuevaHora);
 
                 booking.setEmployee(newEmployee);
             }
@@ -190,8 +329,27 @@ public class BookingServiceImpl implements BookingService {
             throw new BookingException("Error al validar los nuevos datos de la cita: " + e.getMessage());
         }
 
+        Long newEmployeeId = booking.getEmployee().getId();
+        boolean slotChanged = !newEmployeeId.equals(previousEmployeeId) || !nuevaFecha.equals(previousDate)
+                || !nuevaHora.equals(previousTime);
+        boolean active = booking.getStatus() == BookingStatus.CONFIRMADA;
+
         BookingMapper.updateEntityFromRequest(request, booking);
-        Booking updated = bookingRepository.save(booking);
+        Booking updated;
+
+        try (BookingSlotLocks.SlotLock lock = slotLocks.lock(previousEmployeeId, previousDate, newEmployeeId, nuevaFecha)) {
+            if (slotChanged && active) {
+                BookingValidator.validateAvailability(availabilityIndex, newEmployeeId, nuevaFecha, nuevaHora);
+            }
+
+            updated = saveSlot(booking);
+        }
+
+        if (slotChanged || updated.getType() != previousType) {
+            eventPublisher.publishEvent(new BookingRescheduled(updated.getId(), active, previousEmployeeId,
+                    previousDate, previousTime, previousType, newEmployeeId, updated.getDate(), updated.getTime(),
+                    updated.getType()));
+        }
 
         log.info("Cita ID {} actualizada correctamente por cliente ID {}", bookingId, clientId);
         return BookingMapper.toResponse(updated);
@@ -214,6 +372,7 @@ public class BookingServiceImpl implements BookingService {
      */
     
     @Override
+    @Transactional
     public boolean updateStatus(Long bookingId, BookingStatus newStatus) {
         if (bookingId == null || bookingId <= 0) {
             throw new BookingException("El ID de la cita es inválido.");
@@ -227,8 +386,7 @@ public class BookingServiceImpl implements BookingService {
         Booking booking = optional.get();
         BookingValidatorRules.validateStatus(booking, newStatus);
 
-        booking.setStatus(newStatus);
-        bookingRepository.save(booking);
+        changeStatus(booking, newStatus);
         log.info("Estado actualizado a [{}] para la cita ID {}", newStatus, bookingId);
         return true;
     }
@@ -253,6 +411,7 @@ public class BookingServiceImpl implements BookingService {
      */
     
     @Override
+    @Transactional
     public boolean updateStatus(Long bookingId, BookingStatus newStatus, Long clientId) {
         if (bookingId == null || bookingId <= 0 || clientId == null || clientId <= 0) {
             throw new BookingException("Datos inválidos para actualizar la cita.");
@@ -269,12 +428,160 @@ public class BookingServiceImpl implements BookingService {
 
         BookingValidatorRules.validateStatus(booking, newStatus);
 
-        booking.setStatus(newStatus);
-        bookingRepository.save(booking);
+        changeStatus(booking, newStatus);
         log.info("Estado actualizado a [{}] para la cita ID {}", newStatus, bookingId);
         return true;
     }
 
+    /**
+     * Libera la agenda de un empleado en un rango de días, por ejemplo cuando causa baja.
+     * <p>
+     * Todas las citas confirmadas del empleado en el rango se tratan en una única transacción:
+     * - Si se solicita reasignar, cada cita pasa al compañero del mismo perfil, activo y contratado
+     *   ese día, que tenga libre la franja y menos citas recibidas hasta el momento
+     * - Las citas que no se reasignan se anulan
+     * <p>
+     * El rango empieza como pronto hoy; de hoy solo se tratan las citas cuya hora aún no ha llegado.
+     * <p>
+     * La ocupación de los compañeros se obtiene con una única consulta sobre el rango, y las
+     * modificaciones se aplican con sentencias masivas: una por compañero que recibe citas y una
+     * para todas las anuladas. Se bloquean los días del rango del empleado y, de los compañeros, solo
+     * los días en que reciben alguna cita.
+     * <p>
+     * {@link BookingsReleased} deja en la bandeja de salida, dentro de la misma transacción, los avisos a los
+     * clientes de las citas anuladas o reasignadas y a los nuevos profesionales; al confirmarse, actualiza
+     * la ocupación.
+     *
+     * @param employeeId ID del empleado cuya agenda se libera.
+     * @param request Rango de días y modo (reasignar o solo anular).
+     * @return Citas reasignadas y anuladas.
+     * @throws BookingException si el rango no es válido o otra reserva ocupa una de las franjas.
+     */
+    @Override
+    @Transactional
+    public BookingReleaseResponse releaseEmployeeBookings(Long employeeId, BookingReleaseRequest request) {
+        LocalDate today = LocalDate.now();
+        LocalDate start = request.getFromDate().isBefore(today) ? today : request.getFromDate();
+        LocalDate end = request.getToDate();
+
+        if (end.isBefore(start)) {
+            throw new BookingException("El rango de días que se quiere liberar no es válido.");
+        }
+
+        if (ChronoUnit.DAYS.between(start, end) + 1 > BOOKING_RELEASE_MAX_RANGE_DAYS) {
+            throw new BookingException("Solo se pueden liberar hasta " + BOOKING_RELEASE_MAX_RANGE_DAYS + " días de una vez.");
+        }
+
+        Optional<Employee> optionalEmployee = employeeRepository.findById(employeeId);
+        if (optionalEmployee.isEmpty()) {
+            log.warn("Empleado no encontrado con ID: {}", employeeId);
+            throw new NotFoundException("El empleado seleccionado no está disponible.");
+        }
+
+        Employee employee = optionalEmployee.get();
+
+        List<Employee> colleagues = new ArrayList<>();
+        if (Boolean.TRUE.equals(request.getReassign())) {
+            for (Employee colleague : employeeRepository.findByProfileOrderByIdAsc(employee.getProfile())) {
+                if (!colleague.getId().equals(employeeId) && colleague.getAccountStatus() == AccountStatus.ACTIVA) {
+                    colleagues.add(colleague);
+                }
+            }
+        }
+
+        List<LocalDate> days = new ArrayList<>();
+        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+            days.add(date);
+        }
+
+        List<AffectedBooking> aborted = new ArrayList<>();
+        List<BookingsReleased.Reassignment> reassigned = new ArrayList<>();
+
+        try (BookingSlotLocks.SlotLock lock = slotLocks.lock(employeeId, days)) {
+            List<AffectedBooking> affected = bookingRepository.findAffectedByEmployeeBetween(employeeId, start, end);
+
+            // El rango empieza como pronto hoy, pero las citas de hoy cuya hora ya ha pasado no se tocan.
+            LocalTime currentTime = LocalTime.now();
+            affected.removeIf(booking -> booking.date().equals(today) && !booking.time().isAfter(currentTime));
+
+            Map<Long, List<Long>> assignments = new HashMap<>();
+            Map<Long, Set<LocalDate>> targetDates = new HashMap<>();
+            if (!colleagues.isEmpty() && !affected.isEmpty()) {
+                Set<SlotKey> occupied = new HashSet<>();
+                for (BookingSlot slot : bookingRepository.findSlotsByProfileBetween(employee.getProfile(), start, end)) {
+                    occupied.add(new SlotKey(slot.getEmployeeId(), slot.getDate(), slot.getTime()));
+                }
+
+                for (AffectedBooking booking : affected) {
+                    Employee target = pickColleague(colleagues, assignments, occupied, booking);
+                    if (target == null) {
+                        aborted.add(booking);
+                        continue;
+                    }
+
+                    occupied.add(new SlotKey(target.getId(), booking.date(), booking.time()));
+                    assignments.computeIfAbsent(target.getId(), id -> new ArrayList<>()).add(booking.id());
+                    targetDates.computeIfAbsent(target.getId(), id -> new HashSet<>()).add(booking.date());
+                    reassigned.add(new BookingsReleased.Reassignment(booking, target.getId(), target.getUsername(),
+                            NameFormatter.getFullName(target)));
+                }
+            } else {
+                aborted.addAll(affected);
+            }
+
+            // Solo se bloquean los días de los compañeros que reciben alguna cita. Como ya se tienen los
+            // cerrojos del empleado, se esperan con límite: si otra operación los retiene, se desiste.
+            BookingSlotLocks.SlotLock targetLock = null;
+            if (!targetDates.isEmpty()) {
+                targetLock = slotLocks.tryLock(targetDates, BOOKING_RELEASE_LOCK_TIMEOUT_MS);
+                if (targetLock == null) {
+                    log.warn("Franjas de los compañeros ocupadas al liberar la agenda del empleado [{}].", employeeId);
+                    throw new BookingException("Otra reserva está modificando la agenda de los compañeros. Inténtalo de nuevo.");
+                }
+            }
+
+            try (BookingSlotLocks.SlotLock targets = targetLock) {
+                LocalDateTime now = LocalDateTime.now();
+                try {
+                    for (Employee colleague : colleagues) {
+                        List<Long> assigned = assignments.get(colleague.getId());
+                        if (assigned != null) {
+                            bookingRepository.reassignAll(assigned, colleague, now);
+                        }
+                    }
+                } catch (DataIntegrityViolationException e) {
+                    log.warn("Conflicto de franja al reasignar la agenda del empleado [{}].", employeeId);
+                    throw new BookingException("No se pudo reasignar la agenda: otra reserva ha ocupado una de las franjas.");
+                }
+
+                if (!aborted.isEmpty()) {
+                    bookingRepository.abortAll(idsOf(aborted), now);
+                }
+            }
+        }
+
+        List<Long> reassignedIds = new ArrayList<>(reassigned.size());
+        for (BookingsReleased.Reassignment reassignment : reassigned) {
+            reassignedIds.add(reassignment.booking().id());
+        }
+
+        if (!aborted.isEmpty() || !reassigned.isEmpty()) {
+            eventPublisher.publishEvent(new BookingsReleased(employeeId, NameFormatter.getFullName(employee),
+                    aborted, reassigned));
+        }
+
+        log.info("Agenda del empleado ID {} liberada del {} al {}: {} citas reasignadas, {} anuladas.",
+                employeeId, start, end, reassigned.size(), aborted.size());
+
+        return BookingReleaseResponse.builder()
+                .employeeId(employeeId)
+                .fromDate(start)
+                .toDate(end)
+                .reassignedIds(reassignedIds)
+                .abortedIds(idsOf(aborted))
+                .build();
+    }
+
     // ╔════════════════════════════════════════════════════════════╗
     // ║               CONSULTAS PARA CLIENTES                      ║
     // ╚════════════════════════════════════════════════════════════╝
@@ -282,17 +589,26 @@ public class BookingServiceImpl implements BookingService {
     /**
      * Devuelve todas las citas registradas por un cliente, tanto pasadas como futuras.
      * <p>
-     * Esta consulta se basa en el ID del cliente y recupera todas las citas asociadas a cualquiera
-     * de sus mascotas. No aplica ningún filtro adicional.
+     * Esta consulta se basa en el ID del cliente y recupera las citas asociadas a cualquiera
+     * de sus mascotas, de la más reciente a la más antigua, página a página.
      *
      * @param clientId ID del cliente autenticado.
-     * @return Lista completa de citas asociadas al cliente.
+     * @param cursor Cursor de la página anterior, o {@code null} para la primera.
+     * @param size Tamaño de página solicitado.
+     * @return Página de citas asociadas al cliente.
      */
 
     @Override
-    public List<BookingResponse> getBookingsByClient(Long clientId) {
-        List<Booking> bookings = bookingRepository.findByPetClientId(clientId);
-        return BookingMapper.toResponseList(bookings);
+    public BookingPage getBookingsByClient(Long clientId, String cursor, Integer size) {
+        BookingCursor position = BookingCursor.decode(cursor);
+        int pageSize = resolvePageSize(size);
+        List<BookingRow> rows = bookingRepository.findPageByClientId(clientId, position.date(), position.time(),
+                position.id(), PageRequest.of(0, pageSize + 1));
+        if (bookingArchive.reaches(rows, pageSize)) {
+            rows = bookingArchive.merge(rows, archivedBookingRepository.findPageByClientId(clientId, position.date(),
+                    position.time(), position.id(), PageRequest.of(0, pageSize + 1)), pageSize);
+        }
+        return toPage(rows, pageSize);
     }
 
     /**
@@ -310,8 +626,8 @@ public class BookingServiceImpl implements BookingService {
 
     @Override
     public List<BookingResponse> getUpcomingBookingsByClient(Long clientId) {
-        List<Booking> upcomingBookings = bookingRepository.findUpcomingByClientId(clientId);
-        return BookingMapper.toResponseList(upcomingBookings);
+        List<BookingRow> upcomingBookings = bookingRepository.findUpcomingByClientId(clientId);
+        return BookingMapper.toResponseListFromRows(upcomingBookings);
     }
 
     /**
@@ -322,22 +638,25 @@ public class BookingServiceImpl implements BookingService {
      * - ANULADA
      * - COMPLETADA
      * <p>
-     * Este filtro se aplica sobre las citas recuperadas por el ID del cliente.
+     * Este filtro se aplica directamente en la consulta del repositorio.
      *
      * @param clientId ID del cliente autenticado.
-     * @return Lista de citas finalizadas, o lista vacía si no hay ninguna.
+     * @param cursor Cursor de la página anterior, o {@code null} para la primera.
+     * @param size Tamaño de página solicitado.
+     * @return Página de citas finalizadas.
      */
 
     @Override
-    public List<BookingResponse> getPastBookingsByClient(Long clientId) {
-        List<Booking> all = bookingRepository.findByPetClientId(clientId);
-        List<Booking> filtered = new ArrayList<>();
-        for (Booking booking : all) {
-            if (booking.getStatus() != null && booking.getStatus().isFinal()) {
-                filtered.add(booking);
-            }
+    public BookingPage getPastBookingsByClient(Long clientId, String cursor, Integer size) {
+        BookingCursor position = BookingCursor.decode(cursor);
+        int pageSize = resolvePageSize(size);
+        List<BookingRow> rows = bookingRepository.findPastPageByClientId(clientId, position.date(), position.time(),
+                position.id(), PageRequest.of(0, pageSize + 1));
+        if (bookingArchive.reaches(rows, pageSize)) {
+            rows = bookingArchive.merge(rows, archivedBookingRepository.findPageByClientId(clientId, position.date(),
+                    position.time(), position.id(), PageRequest.of(0, pageSize + 1)), pageSize);
         }
-        return BookingMapper.toResponseList(filtered);
+        return toPage(rows, pageSize);
     }
 
     // ╔════════════════════════════════════════════════════════════╗
@@ -351,12 +670,21 @@ public class BookingServiceImpl implements BookingService {
      * Se utiliza principalmente para mostrar al profesional su historial completo de atención.
      *
      * @param employeeId ID del empleado autenticado.
-     * @return Lista de todas las citas asociadas al empleado.
+     * @param cursor Cursor de la página anterior, o {@code null} para la primera.
+     * @param size Tamaño de página solicitado.
+     * @return Página de citas asociadas al empleado.
      */
     @Override
-    public List<BookingResponse> getBookingsByEmployee(Long employeeId) {
-        List<Booking> bookings = bookingRepository.findByEmployeeId(employeeId);
-        return BookingMapper.toResponseList(bookings);
+    public BookingPage getBookingsByEmployee(Long employeeId, String cursor, Integer size) {
+        BookingCursor position = BookingCursor.decode(cursor);
+        int pageSize = resolvePageSize(size);
+        List<BookingRow> rows = bookingRepository.findPageByEmployeeId(employeeId, position.date(), position.time(),
+                position.id(), PageRequest.of(0, pageSize + 1));
+        if (bookingArchive.reaches(rows, pageSize)) {
+            rows = bookingArchive.merge(rows, archivedBookingRepository.findPageByEmployeeId(employeeId,
+                    position.date(), position.time(), position.id(), PageRequest.of(0, pageSize + 1)), pageSize);
+        }
+        return toPage(rows, pageSize);
     }
 
     /**
@@ -374,8 +702,8 @@ public class BookingServiceImpl implements BookingService {
     
     @Override
     public List<BookingResponse> getUpcomingBookingsByEmployee(Long employeeId) {
-        List<Booking> upcoming = bookingRepository.findUpcomingByEmployeeId(employeeId);
-        return BookingMapper.toResponseList(upcoming);
+        List<BookingRow> upcoming = bookingRepository.findUpcomingByEmployeeId(employeeId);
+        return BookingMapper.toResponseListFromRows(upcoming);
     }
 
     // ╔════════════════════════════════════════════════════════════╗
@@ -386,6 +714,7 @@ public class BookingServiceImpl implements BookingService {
      * Devuelve todas las citas asociadas a una mascota concreta.
      * <p>
      * Se recuperan todas las citas independientemente de su estado o fecha.
+     * Incluye las citas trasladadas al histórico ({@link BookingArchive}).
      * Esta consulta se usa principalmente para mostrar el historial completo de una mascota.
      *
      * @param petId ID de la mascota.
@@ -394,8 +723,9 @@ public class BookingServiceImpl implements BookingService {
     
     @Override
     public List<BookingResponse> getBookingsByPet(Long petId) {
-        List<Booking> bookings = bookingRepository.findByPetId(petId);
-        return BookingMapper.toResponseList(bookings);
+        List<BookingRow> bookings = bookingArchive.concat(bookingRepository.findRowsByPetId(petId),
+                archivedBookingRepository.findRowsByPetId(petId));
+        return BookingMapper.toResponseListFromRows(bookings);
     }
 
     /**
@@ -406,20 +736,26 @@ public class BookingServiceImpl implements BookingService {
      * - Citas cuya fecha ya ha pasado (aunque no se hayan marcado como completadas)
      * <p>
      * Esta lógica permite mostrar al cliente un resumen de atención reciente de su mascota.
+     * Solo se devuelven citas de mascotas que pertenecen al cliente indicado.
      *
      * @param petId ID de la mascota.
-     * @return Lista de citas pasadas o completadas.
+     * @param clientId ID del cliente propietario.
+     * @param cursor Cursor de la página anterior, o {@code null} para la primera.
+     * @param size Tamaño de página solicitado.
+     * @return Página de citas pasadas o completadas.
      */
     
     @Override
-    public List<BookingResponse> getBookingHistoryByPet(Long petId) {
-        List<BookingResponse> responses = new ArrayList<>();
-        for (Booking booking : bookingRepository.findByPetId(petId)) {
-            if (booking.getStatus() == BookingStatus.COMPLETADA || booking.getDate().isBefore(LocalDate.now())) {
-                responses.add(BookingMapper.toResponse(booking));
-            }
+    public BookingPage getBookingHistoryByPet(Long petId, Long clientId, String cursor, Integer size) {
+        BookingCursor position = BookingCursor.decode(cursor);
+        int pageSize = resolvePageSize(size);
+        List<BookingRow> rows = bookingRepository.findHistoryPageByPetId(petId, clientId, position.date(),
+                position.time(), position.id(), PageRequest.of(0, pageSize + 1));
+        if (bookingArchive.reaches(rows, pageSize)) {
+            rows = bookingArchive.merge(rows, archivedBookingRepository.findHistoryPageByPetId(petId, clientId,
+                    position.date(), position.time(), position.id(), PageRequest.of(0, pageSize + 1)), pageSize);
         }
-        return responses;
+        return toPage(rows, pageSize);
     }
 
     // ╔════════════════════════════════════════════════════════════╗
@@ -430,7 +766,10 @@ public class BookingServiceImpl implements BookingService {
      * Devuelve una lista con todas las horas ocupadas por un empleado en una fecha concreta.
      * <p>
      * Esta información se usa principalmente para comprobar disponibilidad en la creación o edición de citas.
-     * Solo se tienen en cuenta las citas ya registradas (independientemente de su estado).
+     * Solo se tienen en cuenta las citas activas (CONFIRMADA); las canceladas, anuladas o completadas
+     * no ocupan franja.
+     * La consulta se resuelve desde {@link BookingAvailabilityIndex}, sin acceder a la base de datos
+     * salvo para días no cubiertos por el índice.
      *
      * @param employeeId ID del empleado.
      * @param date Fecha para la que se desea consultar disponibilidad.
@@ -439,11 +778,132 @@ public class BookingServiceImpl implements BookingService {
     
     @Override
     public List<LocalTime> getOccupiedHoursByEmployeeAndDate(Long employeeId, LocalDate date) {
-        List<LocalTime> busyTimes = new ArrayList<>();
-        for (Booking booking : bookingRepository.findByEmployeeIdAndDate(employeeId, date)) {
-            busyTimes.add(booking.getTime());
+        return availabilityIndex.getOccupiedTimes(employeeId, date);
+    }
+
+    /**
+     * Busca los primeros huecos libres para un tipo de cita entre todos los empleados compatibles
+     * (o uno concreto, si se indica).
+     * <p>
+     * Las citas del rango se obtienen con una única consulta para el perfil requerido por el tipo
+     * de cita, y se vuelcan en una máscara de franjas por empleado y día ({@link BookingSlots}).
+     * A partir de ahí, los huecos se recorren en orden de fecha, hora y empleado sin volver a consultar
+     * la base de datos.
+     * <p>
+     * Se respetan las mismas reglas que al agendar: horario de atención, antelación mínima para el día
+     * actual y periodo de alta del empleado. Solo se tienen en cuenta empleados con la cuenta activa.
+     *
+     * @param type Tipo de cita que se quiere agendar.
+     * @param from Primer día de la búsqueda (por defecto, hoy).
+     * @param to Último día de la búsqueda (por defecto, el máximo rango permitido).
+     * @param employeeId ID de un empleado concreto, o {@code null} para buscar entre todos.
+     * @param limit Número máximo de huecos a devolver (por defecto {@code AVAILABLE_SLOTS_DEFAULT_LIMIT}).
+     * @return Huecos libres ordenados por fecha y hora, o lista vacía si no hay ninguno.
+     * @throws BookingException si el tipo de cita, el rango o el límite no son válidos.
+     */
+
+    @Override
+    public List<AvailableSlotResponse> getAvailableSlots(BookingType type, LocalDate from, LocalDate to,
+            Long employeeId, Integer limit) {
+        if (type == null) {
+            throw new BookingException("Debes seleccionar un tipo de cita.");
+        }
+
+        LocalDateTime earliest = LocalDateTime.now().plusMinutes(BOOKING_MIN_NOTICE_MINUTES);
+        LocalDate today = LocalDate.now();
+        LocalDate start = from == null || from.isBefore(today) ? today : from;
+        LocalDate end = to != null ? to : start.plusDays(AVAILABLE_SLOTS_MAX_RANGE_DAYS - 1);
+        int maxResults = limit != null ? limit : AVAILABLE_SLOTS_DEFAULT_LIMIT;
+
+        if (end.isBefore(start)) {
+            throw new BookingException("La fecha final de la búsqueda no puede ser anterior a la inicial.");
+        }
+
+        int days = (int) ChronoUnit.DAYS.between(start, end) + 1;
+        if (days > AVAILABLE_SLOTS_MAX_RANGE_DAYS) {
+            throw new BookingException("El rango de búsqueda no puede superar los " + AVAILABLE_SLOTS_MAX_RANGE_DAYS + " días.");
+        }
+
+        if (maxResults <= 0 || maxResults > AVAILABLE_SLOTS_MAX_LIMIT) {
+            throw new BookingException("El número de huecos solicitados debe estar entre 1 y " + AVAILABLE_SLOTS_MAX_LIMIT + ".");
+        }
+
+        List<Employee> employees = new ArrayList<>();
+        if (employeeId != null) {
+            Optional<Employee> optionalEmployee = employeeRepository.findById(employeeId);
+            if (optionalEmployee.isEmpty()) {
+                log.warn("Empleado no encontrado con ID: {}", employeeId);
+                throw new NotFoundException("El empleado seleccionado no está disponible.");
+            }
+
+            Employee employee = optionalEmployee.get();
+            BookingValidator.validateEmployeeProfile(type, employee.getProfile());
+            if (employee.getAccountStatus() == AccountStatus.ACTIVA) {
+                employees.add(employee);
+            }
+        } else {
+            for (Employee employee : employeeRepository.findByProfileOrderByIdAsc(type.getRequiredProfile())) {
+                if (employee.getAccountStatus() == AccountStatus.ACTIVA) {
+                    employees.add(employee);
+                }
+            }
+        }
+
+        List<AvailableSlotResponse> result = new ArrayList<>();
+        if (employees.isEmpty()) {
+            return result;
+        }
+
+        int employeeCount = employees.size();
+        Map<Long, Integer> positions = new HashMap<>();
+        for (int i = 0; i < employeeCount; i++) {
+            positions.put(employees.get(i).getId(), i);
+        }
+
+        long[] occupied = new long[days * employeeCount];
+        for (BookingSlot slot : bookingRepository.findSlotsByProfileBetween(type.getRequiredProfile(), start, end)) {
+            Integer position = positions.get(slot.getEmployeeId());
+            int index = BookingSlots.indexOf(slot.getTime());
+            if (position == null || index < 0) {
+                continue;
+            }
+
+            int day = (int) ChronoUnit.DAYS.between(start, slot.getDate());
+            occupied[day * employeeCount + position] |= 1L << index;
         }
-        return busyTimes;
+
+        for (int day = 0; day < days; day++) {
+            LocalDate date = start.plusDays(day);
+            long open = BookingSlots.openMask(date);
+
+            for (int index = 0; index < BookingSlots.TOTAL_SLOTS; index++) {
+                if ((open & (1L << index)) == 0) {
+                    continue;
+                }
+
+                LocalTime time = BookingSlots.timeOf(index);
+                if (LocalDateTime.of(date, time).isBefore(earliest)) {
+                    continue;
+                }
+
+                for (int position = 0; position < employeeCount; position++) {
+                    Employee employee = employees.get(position);
+                    boolean hired = !employee.getStartDate().isAfter(date)
+                            && (employee.getEndDate() == null || !employee.getEndDate().isBefore(date));
+
+                    if (hired && (occupied[day * employeeCount + position] & (1L << index)) == 0) {
+                        result.add(BookingMapper.toAvailableSlot(employee, type, date, time));
+                        if (result.size() == maxResults) {
+                            log.info("Búsqueda de huecos [{}] del {} al {}: {} resultados.", type, start, end, result.size());
+                            return result;
+                        }
+                    }
+                }
+            }
+        }
+
+        log.info("Búsqueda de huecos [{}] del {} al {}: {} resultados.", type, start, end, result.size());
+        return result;
     }
 
     // ╔════════════════════════════════════════════════════════════╗
@@ -455,13 +915,194 @@ public class BookingServiceImpl implements BookingService {
      * <p>
      * Este método se reserva para el administrador del sistema, que necesita una visión global.
      * Incluye tanto citas futuras como históricas, de todos los clientes y empleados.
+     * Las citas trasladadas al histórico se combinan con las de la tabla activa en el mismo orden.
      *
-     * @return Lista completa de todas las citas del sistema.
+     * @param cursor Cursor de la página anterior, o {@code null} para la primera.
+     * @param size Tamaño de página solicitado.
+     * @return Página de citas del sistema.
      */
 
     @Override
-    public List<BookingResponse> getAllBookings() {
-        List<Booking> bookings = bookingRepository.findAll();
-        return BookingMapper.toResponseList(bookings);
+    public BookingPage getAllBookings(String cursor, Integer size) {
+        BookingCursor position = BookingCursor.decode(cursor);
+        int pageSize = resolvePageSize(size);
+        List<BookingRow> rows = bookingRepository.findPage(position.date(), position.time(), position.id(),
+                PageRequest.of(0, pageSize + 1));
+        if (bookingArchive.reaches(rows, pageSize)) {
+            rows = bookingArchive.merge(rows, archivedBookingRepository.findPage(position.date(), position.time(),
+                    position.id(), PageRequest.of(0, pageSize + 1)), pageSize);
+        }
+        return toPage(rows, pageSize);
+    }
+
+    // ╔════════════════════════════════════════════════════════════╗
+    // ║                  MÉTODOS AUXILIARES                        ║
+    // ╚════════════════════════════════════════════════════════════╝
+
+    /**
+     * Ajusta el tamaño de página solicitado a los límites permitidos.
+     */
+    private int resolvePageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return BOOKING_PAGE_DEFAULT_SIZE;
+        }
+        return Math.min(size, BOOKING_PAGE_MAX_SIZE);
     }
-}
\ No newline at end of file
+
+    /**
+     * Construye una página a partir de las filas recuperadas.
+     * <p>
+     * Las consultas piden una fila más que el tamaño de página: si llega, hay más resultados
+     * y el cursor apunta a la última cita devuelta.
+     */
+    private BookingPage toPage(List<BookingRow> rows, int pageSize) {
+        boolean hasMore = rows.size() > pageSize;
+        List<BookingRow> items = hasMore ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            nextCursor = BookingCursor.of(items.get(items.size() - 1)).encode();
+        }
+
+        return BookingPage.builder()
+                .items(BookingMapper.toResponseListFromRows(items))
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    /**
+     * Calcula las fechas de una serie a partir de la primera, según su frecuencia y su fin.
+     *
+     * @throws BookingException si la serie supera el número máximo de citas.
+     */
+    private List<LocalDate> resolveSeriesDates(BookingSeriesRequest request) {
+        List<LocalDate> dates = new ArrayList<>();
+        int total = request.getOccurrences() != null ? request.getOccurrences() : Integer.MAX_VALUE;
+
+        for (int i = 0; i < total; i++) {
+            LocalDate date = request.getFrequency().dateAt(request.getDate(), i);
+            if (request.getUntilDate() != null && date.isAfter(request.getUntilDate())) {
+                break;
+            }
+
+            if (dates.size() == BOOKING_SERIES_MAX_OCCURRENCES) {
+                throw new BookingException("Una serie puede tener como máximo " + BOOKING_SERIES_MAX_OCCURRENCES + " citas.");
+            }
+            dates.add(date);
+        }
+        return dates;
+    }
+
+    /**
+     * Comprueba con una única consulta que el empleado tiene libre la hora indicada en todas las fechas
+     * de la serie.
+     *
+     * @throws BookingException con las fechas ocupadas, si hay alguna.
+     */
+    private void validateSeriesAvailability(Long employeeId, List<LocalDate> dates, LocalTime time) {
+        Set<LocalDate> requested = new HashSet<>(dates);
+        List<LocalDate> conflicts = new ArrayList<>();
+
+        for (BookingSlot slot : bookingRepository.findSlotsByEmployeeBetween(employeeId, dates.get(0),
+                dates.get(dates.size() - 1))) {
+            if (time.equals(slot.getTime()) && requested.remove(slot.getDate())) {
+                conflicts.add(slot.getDate());
+            }
+        }
+
+        if (!conflicts.isEmpty()) {
+            conflicts.sort(null);
+            List<String> formatted = new ArrayList<>(conflicts.size());
+            for (LocalDate conflict : conflicts) {
+                formatted.add(conflict.format(DATE_FORMATTER));
+            }
+
+            log.warn("El profesional [{}] ya tiene cita a las {} en {} fechas de la serie.", employeeId, time, conflicts.size());
+            throw new BookingException("El empleado seleccionado ya tiene una cita a esa hora los días: "
+                    + String.join(", ", formatted) + ".");
+        }
+    }
+
+    /**
+     * Elige el compañero que recibirá una cita: el que esté contratado ese día, tenga libre la franja
+     * y haya recibido menos citas hasta el momento (a igualdad, el de menor ID).
+     *
+     * @return Compañero elegido, o {@code null} si ninguno está disponible.
+     */
+    private Employee pickColleague(List<Employee> colleagues, Map<Long, List<Long>> assignments,
+            Set<SlotKey> occupied, AffectedBooking booking) {
+        Employee chosen = null;
+        int chosenLoad = Integer.MAX_VALUE;
+
+        for (Employee colleague : colleagues) {
+            boolean hired = !colleague.getStartDate().isAfter(booking.date())
+                    && (colleague.getEndDate() == null || !colleague.getEndDate().isBefore(booking.date()));
+            if (!hired || occupied.contains(new SlotKey(colleague.getId(), booking.date(), booking.time()))) {
+                continue;
+            }
+
+            List<Long> assigned = assignments.get(colleague.getId());
+            int load = assigned != null ? assigned.size() : 0;
+            if (load < chosenLoad) {
+                chosen = colleague;
+                chosenLoad = load;
+            }
+        }
+        return chosen;
+    }
+
+    private static List<Long> idsOf(List<AffectedBooking> bookings) {
+        List<Long> ids = new ArrayList<>(bookings.size());
+        for (AffectedBooking booking : bookings) {
+            ids.add(booking.id());
+        }
+        return ids;
+    }
+
+    /**
+     * Aplica un cambio de estado manteniendo sincronizada la ocupación de la franja.
+     * <p>
+     * Al pasar a un estado final la franja queda libre; al volver a CONFIRMADA se comprueba
+     * de nuevo que siga disponible, bajo el cerrojo del empleado y día.
+     */
+    private void changeStatus(Booking booking, BookingStatus newStatus) {
+        Long employeeId = booking.getEmployee().getId();
+        BookingStatus previousStatus = booking.getStatus();
+        boolean wasActive = previousStatus == BookingStatus.CONFIRMADA;
+        boolean isActive = newStatus == BookingStatus.CONFIRMADA;
+
+        try (BookingSlotLocks.SlotLock lock = slotLocks.lock(employeeId, booking.getDate())) {
+            if (isActive && !wasActive) {
+                BookingValidator.validateAvailability(availabilityIndex, employeeId, booking.getDate(), booking.getTime());
+            }
+
+            booking.setStatus(newStatus);
+            saveSlot(booking);
+        }
+
+        if (previousStatus != newStatus) {
+            eventPublisher.publishEvent(new BookingStatusChanged(booking.getId(), employeeId, booking.getDate(),
+                    booking.getTime(), previousStatus, newStatus));
+        }
+    }
+
+    /**
+     * Guarda la cita y fuerza su escritura inmediata, de modo que un conflicto con el índice único
+     * de franjas activas se detecte mientras se mantiene el cerrojo.
+     *
+     * @throws BookingException si otra cita activa ocupa ya la misma franja.
+     */
+    private Booking saveSlot(Booking booking) {
+        try {
+            return bookingRepository.saveAndFlush(booking);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Conflicto de franja al guardar la cita del empleado [{}] el {} a las {}.",
+                    booking.getEmployee().getId(), booking.getDate(), booking.getTime());
+            throw new BookingException("El empleado seleccionado ya tiene una cita en esa fecha y hora.");
+        }
+    }
+
+    /** Franja concreta de un empleado. */
+    private record SlotKey(Long employeeId, LocalDate date, LocalTime time) { }
+}
@@ -0,0 +1,20 @@
+package com.petcare.domain.booking;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Proyección ligera de una cita que solo contiene los datos necesarios
+ * para calcular la ocupación de un empleado: su ID, la fecha y la hora.
+ * <p>
+ * Evita cargar entidades {@link Booking} completas (con su mascota, cliente y empleado)
+ * cuando únicamente interesa saber qué franjas están ocupadas.
+ */
+public interface BookingSlot {
+
+    Long getEmployeeId();
+
+    LocalDate getDate();
+
+    LocalTime getTime();
+}
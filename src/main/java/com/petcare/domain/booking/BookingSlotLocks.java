@@ -0,0 +1,225 @@
+package com.petcare.domain.booking;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Cerrojos que serializan las reservas de franjas que pueden entrar en conflicto.
+ * <p>
+ * Hay un cerrojo por cada par exacto (empleado, día) en uso: dos reservas para el mismo empleado y día
+ * nunca se ejecutan a la vez, y las de pares distintos nunca se bloquean entre sí, por muchos días que
+ * abarque una serie. Cada cerrojo existe solo mientras algún hilo lo tiene o lo espera, de modo que la
+ * tabla no crece con el número de días reservados.
+ * <p>
+ * Si la reserva se realiza dentro de una transacción, el cerrojo se mantiene hasta que la transacción
+ * termina, para que la siguiente reserva vea ya la cita confirmada. La garantía final la aporta el
+ * índice único sobre (id_empleado, fecha, hora) de las citas activas en la tabla {@code citas}.
+ */
+@Component
+public class BookingSlotLocks {
+
+    /** Orden global de adquisición, igual para todos los hilos, que evita interbloqueos. */
+    private static final Comparator<Slot> ORDER =
+            Comparator.comparing(Slot::employeeId).thenComparing(Slot::date);
+
+    private final ConcurrentHashMap<Slot, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Bloquea las reservas de un empleado en un día concreto.
+     *
+     * @param employeeId ID del empleado.
+     * @param date Día de la reserva.
+     * @return Cerrojo adquirido, que debe cerrarse al terminar la reserva.
+     */
+    public SlotLock lock(Long employeeId, LocalDate date) {
+        return lock(employeeId, date, employeeId, date);
+    }
+
+    /**
+     * Bloquea dos pares (empleado, día) a la vez, por ejemplo al mover una cita de franja.
+     * <p>
+     * Los cerrojos se adquieren siempre en el mismo orden para evitar interbloqueos.
+     *
+     * @param firstEmployeeId ID del primer empleado.
+     * @param firstDate Primer día.
+     * @param secondEmployeeId ID del segundo empleado.
+     * @param secondDate Segundo día.
+     * @return Cerrojo adquirido, que debe cerrarse al terminar la reserva.
+     */
+    public SlotLock lock(Long firstEmployeeId, LocalDate firstDate, Long secondEmployeeId, LocalDate secondDate) {
+        return acquire(List.of(new Slot(firstEmployeeId, firstDate), new Slot(secondEmployeeId, secondDate)));
+    }
+
+    /**
+     * Bloquea las reservas de un empleado en varios días a la vez, por ejemplo al registrar una serie de citas.
+     * <p>
+     * Los cerrojos se adquieren siempre en el mismo orden para evitar interbloqueos.
+     *
+     * @param employeeId ID del empleado.
+     * @param dates Días de las reservas.
+     * @return Cerrojo adquirido, que debe cerrarse al terminar la reserva.
+     */
+    public SlotLock lock(Long employeeId, Collection<LocalDate> dates) {
+        List<Slot> slots = new ArrayList<>(dates.size());
+        for (LocalDate date : dates) {
+            slots.add(new Slot(employeeId, date));
+        }
+        return acquire(slots);
+    }
+
+    /**
+     * Intenta bloquear varios pares (empleado, día) esperando como mucho el tiempo indicado, por ejemplo
+     * para reservar las franjas de los compañeros que reciben citas al liberarse una agenda.
+     * <p>
+     * A diferencia de {@code lock}, admite que el hilo ya tenga otros cerrojos: si no consigue todos los
+     * pares a tiempo, libera los que haya obtenido y devuelve {@code null}, de modo que nunca queda
+     * esperando a un hilo que a su vez le espera a él.
+     *
+     * @param datesByEmployee Días que se bloquean de cada empleado.
+     * @param timeoutMillis Tiempo máximo de espera, en milisegundos.
+     * @return Cerrojo adquirido, o {@code null} si algún par sigue ocupado al agotarse el tiempo.
+     */
+    public SlotLock tryLock(Map<Long, ? extends Collection<LocalDate>> datesByEmployee, long timeoutMillis) {
+        TreeSet<Slot> sorted = new TreeSet<>(ORDER);
+        for (Map.Entry<Long, ? extends Collection<LocalDate>> employee : datesByEmployee.entrySet()) {
+            for (LocalDate date : employee.getValue()) {
+                sorted.add(new Slot(employee.getKey(), date));
+            }
+        }
+
+        Slot[] ordered = sorted.toArray(new Slot[0]);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        int acquired = 0;
+
+        while (acquired < ordered.length && tryLockSlot(ordered[acquired], deadline - System.nanoTime())) {
+            acquired++;
+        }
+
+        if (acquired < ordered.length) {
+            for (int i = acquired - 1; i >= 0; i--) {
+                unlockSlot(ordered[i]);
+            }
+            return null;
+        }
+        return new SlotLock(ordered);
+    }
+
+    private SlotLock acquire(Collection<Slot> slots) {
+        TreeSet<Slot> sorted = new TreeSet<>(ORDER);
+        sorted.addAll(slots);
+        Slot[] ordered = sorted.toArray(new Slot[0]);
+        int acquired = 0;
+
+        try {
+            for (Slot slot : ordered) {
+                lockSlot(slot);
+                acquired++;
+            }
+        } catch (RuntimeException e) {
+            for (int i = acquired - 1; i >= 0; i--) {
+                unlockSlot(ordered[i]);
+            }
+            throw e;
+        }
+
+        return new SlotLock(ordered);
+    }
+
+    private void lockSlot(Slot slot) {
+        Entry entry = entries.compute(slot, (key, current) -> {
+            Entry target = current != null ? current : new Entry();
+            target.holders++;
+            return target;
+        });
+        entry.lock.lock();
+    }
+
+    private boolean tryLockSlot(Slot slot, long timeoutNanos) {
+        Entry entry = entries.compute(slot, (key, current) -> {
+            Entry target = current != null ? current : new Entry();
+            target.holders++;
+            return target;
+        });
+
+        boolean locked = false;
+        try {
+            locked = entry.lock.tryLock(Math.max(timeoutNanos, 0L), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (!locked) {
+            release(slot);
+        }
+        return locked;
+    }
+
+    private void unlockSlot(Slot slot) {
+        entries.get(slot).lock.unlock();
+        release(slot);
+    }
+
+    private void release(Slot slot) {
+        entries.computeIfPresent(slot, (key, current) -> --current.holders == 0 ? null : current);
+    }
+
+    /** Par (empleado, día) que se bloquea. */
+    private record Slot(Long employeeId, LocalDate date) { }
+
+    /**
+     * Cerrojo de un par junto al número de hilos que lo tienen o lo esperan; se descarta al llegar a cero.
+     * El contador solo se modifica dentro de {@code compute}, que lo protege.
+     */
+    private static final class Entry {
+        private final ReentrantLock lock = new ReentrantLock();
+        private int holders;
+    }
+
+    /**
+     * Cerrojo adquirido sobre uno o varios pares (empleado, día).
+     * <p>
+     * Al cerrarlo dentro de una transacción activa, la liberación se difiere hasta que la
+     * transacción se confirma o se deshace.
+     */
+    public final class SlotLock implements AutoCloseable {
+
+        private final Slot[] slots;
+
+        private SlotLock(Slot[] slots) {
+            this.slots = slots;
+        }
+
+        @Override
+        public void close() {
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        unlock();
+                    }
+                });
+                return;
+            }
+
+            unlock();
+        }
+
+        private void unlock() {
+            for (int i = slots.length - 1; i >= 0; i--) {
+                unlockSlot(slots[i]);
+            }
+        }
+    }
+}
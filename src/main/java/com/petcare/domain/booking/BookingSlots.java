@@ -0,0 +1,115 @@
+package com.petcare.domain.booking;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static com.petcare.utils.constants.GlobalConstants.*;
+
+/**
+ * Clase utilitaria que representa la rejilla de franjas horarias en las que se pueden agendar citas.
+ * <p>
+ * El horario de atención se divide en franjas de {@code BOOKING_SLOT_MINUTES} minutos:
+ * primero las franjas de mañana y a continuación las de tarde. Cada franja se identifica
+ * por un índice consecutivo que permite representar la ocupación de un día completo
+ * en un único valor {@code long} (un bit por franja).
+ * <p>
+ * Los límites horarios son los mismos que aplica
+ * {@link com.petcare.validators.BookingValidator#validateDateAndTime(LocalDate, LocalTime)}.
+ * Esta clase no es instanciable.
+ */
+public final class BookingSlots {
+
+    /** Número de franjas del turno de mañana. */
+    public static final int MORNING_SLOTS =
+            (OPENING_MORNING_END_HOUR - OPENING_MORNING_START_HOUR) * 60 / BOOKING_SLOT_MINUTES;
+
+    /** Número de franjas del turno de tarde. */
+    public static final int AFTERNOON_SLOTS =
+            (OPENING_AFTERNOON_END_HOUR - OPENING_AFTERNOON_START_HOUR) * 60 / BOOKING_SLOT_MINUTES;
+
+    /** Número total de franjas de un día laborable completo. */
+    public static final int TOTAL_SLOTS = MORNING_SLOTS + AFTERNOON_SLOTS;
+
+    /** Máscara con las franjas del turno de mañana. */
+    public static final long MORNING_MASK = (1L << MORNING_SLOTS) - 1;
+
+    /** Máscara con todas las franjas de un día laborable. */
+    public static final long FULL_DAY_MASK = (1L << TOTAL_SLOTS) - 1;
+
+    /**
+     * Constructor privado para evitar la instanciación.
+     */
+    private BookingSlots() { }
+
+    /**
+     * Devuelve el índice de franja correspondiente a una hora.
+     *
+     * @param time Hora de la cita.
+     * @return Índice de la franja (0 a {@link #TOTAL_SLOTS} - 1), o {@code -1} si la hora
+     *         no coincide con el inicio de ninguna franja del horario de atención.
+     */
+    public static int indexOf(LocalTime time) {
+        if (time == null || time.getSecond() != 0 || time.getNano() != 0
+                || time.getMinute() % BOOKING_SLOT_MINUTES != 0) {
+            return -1;
+        }
+
+        int minutes = time.getHour() * 60 + time.getMinute();
+        int morningStart = OPENING_MORNING_START_HOUR * 60;
+        int morningEnd = OPENING_MORNING_END_HOUR * 60;
+        int afternoonStart = OPENING_AFTERNOON_START_HOUR * 60;
+        int afternoonEnd = OPENING_AFTERNOON_END_HOUR * 60;
+
+        if (minutes >= morningStart && minutes < morningEnd) {
+            return (minutes - morningStart) / BOOKING_SLOT_MINUTES;
+        }
+
+        if (minutes >= afternoonStart && minutes < afternoonEnd) {
+            return MORNING_SLOTS + (minutes - afternoonStart) / BOOKING_SLOT_MINUTES;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Devuelve las franjas en las que se atiende un día concreto: de lunes a viernes mañana y tarde,
+     * los sábados solo por la mañana y los domingos ninguna.
+     *
+     * @param date Día a consultar.
+     * @return Máscara con un bit activo por cada franja abierta.
+     */
+    public static long openMask(LocalDate date) {
+        DayOfWeek day = date.getDayOfWeek();
+
+        if (day == DayOfWeek.SUNDAY) {
+            return 0L;
+        }
+
+        if (day == DayOfWeek.SATURDAY) {
+            return MORNING_MASK;
+        }
+
+        return FULL_DAY_MASK;
+    }
+
+    /**
+     * Devuelve la hora de inicio de una franja.
+     *
+     * @param index Índice de la franja.
+     * @return Hora de inicio de la franja.
+     * @throws IllegalArgumentException si el índice está fuera de rango.
+     */
+    public static LocalTime timeOf(int index) {
+        if (index < 0 || index >= TOTAL_SLOTS) {
+            throw new IllegalArgumentException("Índice de franja fuera de rango: " + index);
+        }
+
+        if (index < MORNING_SLOTS) {
+            return LocalTime.of(OPENING_MORNING_START_HOUR, 0).plusMinutes((long) index * BOOKING_SLOT_MINUTES);
+        }
+
+        return LocalTime.of(OPENING_AFTERNOON_START_HOUR, 0)
+                .plusMinutes((long) (index - MORNING_SLOTS) * BOOKING_SLOT_MINUTES);
+    }
+}
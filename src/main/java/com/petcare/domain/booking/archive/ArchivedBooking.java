@@ -0,0 +1,96 @@
+package com.petcare.domain.booking.archive;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import org.hibernate.annotations.Immutable;
+
+import com.petcare.domain.employee.Employee;
+import com.petcare.domain.pet.Pet;
+import com.petcare.enums.BookingStatus;
+import com.petcare.enums.BookingType;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Entidad JPA de solo lectura que representa una cita finalizada trasladada al histórico.
+ * <p>
+ * Conserva el mismo ID y los mismos datos que tenía en la tabla {@code citas}, más la fecha en la que
+ * se archivó. Las filas solo se crean desde {@link BookingArchive} y nunca se modifican.
+ * <p>
+ * Las relaciones con la mascota y el empleado no generan clave foránea, para que el histórico no impida
+ * eliminar una mascota o un empleado; las citas archivadas de una mascota eliminada dejan de mostrarse.
+ *
+ * @see com.petcare.domain.booking.Booking
+ */
+
+@Entity
+@Immutable
+@Table(name = "citas_historico")
+@Getter
+@NoArgsConstructor
+public class ArchivedBooking {
+
+    // ╔════════════════════════════════════════════════════╗
+    // ║                 IDENTIFICADOR PRINCIPAL            ║
+    // ╚════════════════════════════════════════════════════╝
+
+    @Id
+    @Column(name = "id_cita")
+    private Long id;
+
+    // ╔════════════════════════════════════════════════════╗
+    // ║             FECHA Y HORA DE LA CITA                ║
+    // ╚════════════════════════════════════════════════════╝
+
+    @Column(name = "fecha", nullable = false)
+    private LocalDate date;
+
+    @Column(name = "hora", nullable = false)
+    private LocalTime time;
+
+    // ╔════════════════════════════════════════════════════╗
+    // ║              RECORDATORIOS Y ESTADO                ║
+    // ╚════════════════════════════════════════════════════╝
+
+    @Column(name = "recordatorio", nullable = false)
+    private Boolean reminderRequest;
+
+    @Column(name = "notificado", nullable = false)
+    private Boolean reminderSent;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "estado", nullable = false)
+    private BookingStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "tipo", nullable = false)
+    private BookingType type;
+
+    // ╔════════════════════════════════════════════════════╗
+    // ║        RELACIONES: MASCOTA Y PROFESIONAL           ║
+    // ╚════════════════════════════════════════════════════╝
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "id_mascota", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private Pet pet;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "id_empleado", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private Employee employee;
+
+    // ╔════════════════════════════════════════════════════╗
+    // ║                    AUDITORÍA                       ║
+    // ╚════════════════════════════════════════════════════╝
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "archivada_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,135 @@
+package com.petcare.domain.booking.archive;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import com.petcare.domain.booking.BookingCount;
+import com.petcare.domain.booking.BookingRow;
+
+/**
+ * Consultas sobre el histórico de citas ({@code citas_historico}).
+ * <p>
+ * Replican las consultas de listado de {@link com.petcare.domain.booking.BookingRepository} con la misma
+ * proyección {@link BookingRow} y el mismo orden por (fecha, hora, id_cita), de modo que sus resultados
+ * se pueden combinar con los de la tabla de citas activa sin distinguir de dónde procede cada fila.
+ * Todas las citas del histórico están finalizadas y son anteriores al horizonte de archivo.
+ * <p>
+ * Como en la tabla activa, el cursor se compara como valor de fila para que cada página sea un único
+ * recorrido acotado de los índices (…, fecha, hora, id_cita) de la migración V4.
+ */
+public interface ArchivedBookingRepository extends JpaRepository<ArchivedBooking, Long> {
+
+    /**
+     * Cuenta las citas archivadas agrupadas por estado y tipo.
+     */
+    @Query("""
+        SELECT b.status AS status, b.type AS type, COUNT(b) AS total
+        FROM ArchivedBooking b
+        GROUP BY b.status, b.type
+    """)
+    List<BookingCount> countGroupedByStatusAndType();
+
+    /**
+     * Devuelve todas las citas archivadas de una mascota, ordenadas por fecha y hora ascendentes.
+     */
+    @Query("""
+        SELECT new com.petcare.domain.booking.BookingRow(
+            b.id, b.date, b.time, b.status, b.type, b.reminderRequest, b.reminderSent,
+            p.id, p.name, p.type, p.customType,
+            e.id, e.name, e.lastName1, e.lastName2, e.profile,
+            c.id, c.name, c.lastName1)
+        FROM ArchivedBooking b
+        JOIN b.pet p
+        JOIN p.client c
+        JOIN b.employee e
+        WHERE p.id = :petId
+        ORDER BY b.date ASC, b.time ASC, b.id ASC
+    """)
+    List<BookingRow> findRowsByPetId(Long petId);
+
+    // ╔════════════════════════════════════════════════════╗
+    // ║          LISTADOS PAGINADOS POR CURSOR             ║
+    // ╚════════════════════════════════════════════════════╝
+
+    /**
+     * Página de las citas archivadas de un cliente.
+     */
+    @Query("""
+        SELECT new com.petcare.domain.booking.BookingRow(
+            b.id, b.date, b.time, b.status, b.type, b.reminderRequest, b.reminderSent,
+            p.id, p.name, p.type, p.customType,
+            e.id, e.name, e.lastName1, e.lastName2, e.profile,
+            c.id, c.name, c.lastName1)
+        FROM ArchivedBooking b
+        JOIN b.pet p
+        JOIN p.client c
+        JOIN b.employee e
+        WHERE c.id = :clientId
+          AND (b.date, b.time, b.id) < (:date, :time, :id)
+        ORDER BY b.date DESC, b.time DESC, b.id DESC
+    """)
+    List<BookingRow> findPageByClientId(Long clientId, LocalDate date, LocalTime time, Long id, Pageable pageable);
+
+    /**
+     * Página de las citas archivadas de un empleado.
+     */
+    @Query("""
+        SELECT new com.petcare.domain.booking.BookingRow(
+            b.id, b.date, b.time, b.status, b.type, b.reminderRequest, b.reminderSent,
+            p.id, p.name, p.type, p.customType,
+            e.id, e.name, e.lastName1, e.lastName2, e.profile,
+            c.id, c.name, c.lastName1)
+        FROM ArchivedBooking b
+        JOIN b.pet p
+        JOIN p.client c
+        JOIN b.employee e
+        WHERE e.id = :employeeId
+          AND (b.date, b.time, b.id) < (:date, :time, :id)
+        ORDER BY b.date DESC, b.time DESC, b.id DESC
+    """)
+    List<BookingRow> findPageByEmployeeId(Long employeeId, LocalDate date, LocalTime time, Long id, Pageable pageable);
+
+    /**
+     * Página de las citas archivadas de una mascota de un cliente.
+     */
+    @Query("""
+        SELECT new com.petcare.domain.booking.BookingRow(
+            b.id, b.date, b.time, b.status, b.type, b.reminderRequest, b.reminderSent,
+            p.id, p.name, p.type, p.customType,
+            e.id, e.name, e.lastName1, e.lastName2, e.profile,
+            c.id, c.name, c.lastName1)
+        FROM ArchivedBooking b
+        JOIN b.pet p
+        JOIN p.client c
+        JOIN b.employee e
+        WHERE p.id = :petId
+          AND c.id = :clientId
+          AND (b.date, b.time, b.id) < (:date, :time, :id)
+        ORDER BY b.date DESC, b.time DESC, b.id DESC
+    """)
+    List<BookingRow> findHistoryPageByPetId(Long petId, Long clientId, LocalDate date, LocalTime time, Long id,
+            Pageable pageable);
+
+    /**
+     * Página de todas las citas archivadas.
+     */
+    @Query("""
+        SELECT new com.petcare.domain.booking.BookingRow(
+            b.id, b.date, b.time, b.status, b.type, b.reminderRequest, b.reminderSent,
+            p.id, p.name, p.type, p.customType,
+            e.id, e.name, e.lastName1, e.lastName2, e.profile,
+            c.id, c.name, c.lastName1)
+        FROM ArchivedBooking b
+        JOIN b.pet p
+        JOIN p.client c
+        JOIN b.employee e
+        WHERE (b.date, b.time, b.id) < (:date, :time, :id)
+        ORDER BY b.date DESC, b.time DESC, b.id DESC
+    """)
+    List<BookingRow> findPage(LocalDate date, LocalTime time, Long id, Pageable pageable);
+}
@@ -0,0 +1,176 @@
+package com.petcare.domain.booking.archive;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.petcare.domain.booking.BookingRow;
+import com.petcare.enums.BookingStatus;
+
+/**
+ * Histórico de citas finalizadas, separado de la tabla de citas activa.
+ * <p>
+ * Las citas en estado final (ANULADA, CANCELADA o COMPLETADA) con una fecha anterior a
+ * {@code booking.archive.after-days} días se trasladan por lotes a la tabla {@code citas_historico},
+ * de modo que la tabla {@code citas} y sus índices solo contienen la actividad reciente y la futura.
+ * <p>
+ * Cada lote se mueve con una única sentencia que borra las filas de {@code citas} y las inserta en el
+ * histórico, por lo que una cita nunca está en las dos tablas ni en ninguna. Las filas se bloquean con
+ * {@code SKIP LOCKED} para no esperar a citas que se estén modificando en ese momento.
+ * <p>
+ * Los listados paginados consultan primero la tabla activa y solo recurren al histórico cuando la
+ * página alcanza el horizonte de archivo, combinando ambos resultados en el mismo orden.
+ *
+ * @see ArchivedBooking
+ */
+@Component
+public class BookingArchive {
+
+    private static final String ARCHIVE_BATCH_SQL =
+            "WITH moved AS ("
+            + " DELETE FROM citas WHERE id_cita IN ("
+            + " SELECT id_cita FROM citas WHERE estado IN (" + finalStatuses() + ") AND fecha < ?"
+            + " ORDER BY id_cita LIMIT ? FOR UPDATE SKIP LOCKED)"
+            + " RETURNING id_cita, fecha, hora, recordatorio, notificado, estado, tipo, id_mascota, id_empleado,"
+            + " created_at, updated_at)"
+            + " INSERT INTO citas_historico (id_cita, fecha, hora, recordatorio, notificado, estado, tipo,"
+            + " id_mascota, id_empleado, created_at, updated_at, archivada_at)"
+            + " SELECT id_cita, fecha, hora, recordatorio, notificado, estado, tipo, id_mascota, id_empleado,"
+            + " created_at, updated_at, ? FROM moved";
+
+    /** Orden descendente de los listados paginados: (fecha, hora, id_cita). */
+    private static final Comparator<BookingRow> NEWEST_FIRST = new Comparator<BookingRow>() {
+        @Override
+        public int compare(BookingRow a, BookingRow b) {
+            int result = b.date().compareTo(a.date());
+            if (result == 0) {
+                result = b.time().compareTo(a.time());
+            }
+            if (result == 0) {
+                result = b.id().compareTo(a.id());
+            }
+            return result;
+        }
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int afterDays;
+
+    public BookingArchive(JdbcTemplate jdbcTemplate, @Value("${booking.archive.after-days:365}") int afterDays) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.afterDays = afterDays;
+    }
+
+    // ╔════════════════════════════════════════════════════╗
+    // ║                 TRASLADO AL HISTÓRICO              ║
+    // ╚════════════════════════════════════════════════════╝
+
+    /**
+     * Devuelve la fecha a partir de la cual las citas finalizadas permanecen en la tabla activa.
+     *
+     * @return Primer día que no se archiva.
+     */
+    public LocalDate cutoff() {
+        return LocalDate.now().minusDays(afterDays);
+    }
+
+    /**
+     * Traslada al histórico un lote de citas finalizadas anteriores a la fecha indicada.
+     *
+     * @param cutoff Las citas con fecha anterior a este día se archivan.
+     * @param batchSize Número máximo de citas del lote.
+     * @return Número de citas archivadas.
+     */
+    public int archiveBatch(LocalDate cutoff, int batchSize) {
+        return jdbcTemplate.update(ARCHIVE_BATCH_SQL, Date.valueOf(cutoff), batchSize,
+                Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    // ╔════════════════════════════════════════════════════╗
+    // ║          LECTURA COMBINADA CON LA TABLA ACTIVA     ║
+    // ╚════════════════════════════════════════════════════╝
+
+    /**
+     * Indica si una página leída de la tabla activa puede continuar en el histórico.
+     * <p>
+     * Todas las citas archivadas son anteriores al horizonte de archivo. Si la página está completa y su
+     * última cita es igual o posterior a ese horizonte, ninguna cita del histórico puede entrar en ella.
+     *
+     * @param rows Filas de la tabla activa (hasta {@code pageSize + 1}), en orden descendente.
+     * @param pageSize Tamaño de página solicitado.
+     * @return {@code true} si hay que consultar también el histórico.
+     */
+    public boolean reaches(List<BookingRow> rows, int pageSize) {
+        if (rows.size() <= pageSize) {
+            return true;
+        }
+        return rows.get(rows.size() - 1).date().isBefore(cutoff());
+    }
+
+    /**
+     * Combina una página de la tabla activa con la misma página del histórico.
+     *
+     * @param hot Filas de la tabla activa, en orden descendente.
+     * @param archived Filas del histórico, en orden descendente.
+     * @param pageSize Tamaño de página solicitado.
+     * @return Hasta {@code pageSize + 1} filas en orden descendente.
+     */
+    public List<BookingRow> merge(List<BookingRow> hot, List<BookingRow> archived, int pageSize) {
+        List<BookingRow> rows = new ArrayList<>(pageSize + 1);
+        int i = 0;
+        int j = 0;
+
+        while (rows.size() <= pageSize && (i < hot.size() || j < archived.size())) {
+            if (j >= archived.size() || (i < hot.size() && NEWEST_FIRST.compare(hot.get(i), archived.get(j)) <= 0)) {
+                rows.add(hot.get(i++));
+            } else {
+                rows.add(archived.get(j++));
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Une las citas de una mascota de ambas tablas en orden ascendente de fecha y hora.
+     *
+     * @param hot Filas de la tabla activa.
+     * @param archived Filas del histórico.
+     * @return Lista combinada.
+     */
+    public List<BookingRow> concat(List<BookingRow> hot, List<BookingRow> archived) {
+        if (archived.isEmpty()) {
+            return hot;
+        }
+
+        List<BookingRow> rows = new ArrayList<>(hot.size() + archived.size());
+        rows.addAll(archived);
+        rows.addAll(hot);
+        rows.sort(NEWEST_FIRST.reversed());
+        return rows;
+    }
+
+    // ╔════════════════════════════════════════════════════╗
+    // ║                MÉTODOS AUXILIARES                  ║
+    // ╚════════════════════════════════════════════════════╝
+
+    private static String finalStatuses() {
+        StringBuilder statuses = new StringBuilder();
+        for (BookingStatus status : BookingStatus.values()) {
+            if (status.isFinal()) {
+                if (statuses.length() > 0) {
+                    statuses.append(", ");
+                }
+                statuses.append('\'').append(status.name()).append('\'');
+            }
+        }
+        return statuses.toString();
+    }
+}
@@ -0,0 +1,318 @@
+package com.petcare.domain.booking.calendar;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.zone.ZoneOffsetTransitionRule;
+import java.time.zone.ZoneRules;
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.petcare.domain.booking.BookingCursor;
+import com.petcare.domain.booking.BookingFeedVersion;
+import com.petcare.domain.booking.BookingRepository;
+import com.petcare.domain.booking.BookingRow;
+import com.petcare.enums.BookingStatus;
+import com.petcare.utils.NameFormatter;
+
+import lombok.RequiredArgsConstructor;
+
+import static com.petcare.utils.constants.EmailConstants.DEFAULT_LOCATION;
+import static com.petcare.utils.constants.GlobalConstants.*;
+
+/**
+ * Exportación de las agendas de empleados y clientes en formato iCalendar (RFC 5545).
+ * <p>
+ * El calendario se escribe directamente en la respuesta, un {@code VEVENT} por cita, recorriendo las citas
+ * por páginas de {@code CALENDAR_FEED_PAGE_SIZE} con las mismas consultas por cursor que los listados
+ * paginados. Nunca se mantiene en memoria la agenda completa. Se incluyen las citas futuras y las de los
+ * últimos {@code CALENDAR_FEED_HISTORY_DAYS} días; las canceladas o anuladas se publican con
+ * {@code STATUS:CANCELLED} para que desaparezcan de los calendarios ya suscritos.
+ * <p>
+ * Las horas de las citas se publican en la zona horaria de la clínica ({@code CALENDAR_TIME_ZONE}) con
+ * {@code TZID} y su {@code VTIMEZONE}, de modo que se muestran bien aunque el móvil esté en otra zona.
+ * <p>
+ * La versión del calendario (ETag) se obtiene de la última modificación ({@code updated_at}) y del
+ * número de citas dentro de la ventana publicada, junto con la fecha de inicio de esa ventana: cuando
+ * una cita antigua sale del histórico la versión cambia aunque nadie haya modificado la agenda. Así los
+ * clientes de calendario que consultan el enlace cada pocos minutos reciben un 304 sin que se genere el
+ * contenido, pero nunca conservan una versión que ya no coincide con lo publicado.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingCalendarFeed {
+
+    private static final String CRLF = "\r\n";
+    private static final int MAX_LINE_OCTETS = 75;
+    private static final DateTimeFormatter LOCAL_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final DateTimeFormatter UTC_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+    private static final ZoneId TIME_ZONE = ZoneId.of(CALENDAR_TIME_ZONE);
+
+    /** Año desde el que se aplican las reglas de cambio de hora publicadas en el {@code VTIMEZONE}. */
+    private static final int TIME_ZONE_BASE_YEAR = 1970;
+
+    private final BookingRepository bookingRepository;
+
+    // ╔════════════════════════════════════════════════════╗
+    // ║                     VERSIONES                      ║
+    // ╚════════════════════════════════════════════════════╝
+
+    /**
+     * Calcula la versión actual del calendario de un empleado.
+     *
+     * @param employeeId ID del empleado.
+     * @return Valor del ETag, sin comillas.
+     */
+    public String employeeVersion(Long employeeId) {
+        LocalDate cutoff = cutoff();
+        return "e" + employeeId + "-" + versionOf(cutoff,
+                bookingRepository.findFeedVersionByEmployeeId(employeeId, cutoff));
+    }
+
+    /**
+     * Calcula la versión actual del calendario de un cliente.
+     *
+     * @param clientId ID del cliente.
+     * @return Valor del ETag, sin comillas.
+     */
+    public String clientVersion(Long clientId) {
+        LocalDate cutoff = cutoff();
+        return "c" + clientId + "-" + versionOf(cutoff, bookingRepository.findFeedVersionByClientId(clientId, cutoff));
+    }
+
+    // ╔════════════════════════════════════════════════════╗
+    // ║                    CALENDARIOS                     ║
+    // ╚════════════════════════════════════════════════════╝
+
+    /**
+     * Prepara el calendario de un empleado para escribirlo en la respuesta.
+     *
+     * @param employeeId ID del empleado.
+     * @param calendarName Nombre visible del calendario.
+     * @return Cuerpo de la respuesta, que se escribe al enviarla.
+     */
+    public StreamingResponseBody employeeFeed(final Long employeeId, final String calendarName) {
+        return new StreamingResponseBody() {
+            @Override
+            public void writeTo(OutputStream outputStream) throws IOException {
+                write(outputStream, calendarName, new PageSource() {
+                    @Override
+                    public List<BookingRow> next(BookingCursor cursor, Pageable page) {
+                        return bookingRepository.findPageByEmployeeId(employeeId, cursor.date(), cursor.time(),
+                                cursor.id(), page);
+                    }
+                }, true);
+            }
+        };
+    }
+
+    /**
+     * Prepara el calendario de un cliente para escribirlo en la respuesta.
+     *
+     * @param clientId ID del cliente.
+     * @param calendarName Nombre visible del calendario.
+     * @return Cuerpo de la respuesta, que se escribe al enviarla.
+     */
+    public StreamingResponseBody clientFeed(final Long clientId, final String calendarName) {
+        return new StreamingResponseBody() {
+            @Override
+            public void writeTo(OutputStream outputStream) throws IOException {
+                write(outputStream, calendarName, new PageSource() {
+                    @Override
+                    public List<BookingRow> next(BookingCursor cursor, Pageable page) {
+                        return bookingRepository.findPageByClientId(clientId, cursor.date(), cursor.time(),
+                                cursor.id(), page);
+                    }
+                }, false);
+            }
+        };
+    }
+
+    // ╔════════════════════════════════════════════════════╗
+    // ║                MÉTODOS AUXILIARES                  ║
+    // ╚════════════════════════════════════════════════════╝
+
+    /** Primer día incluido en los calendarios exportados. */
+    private static LocalDate cutoff() {
+        return LocalDate.now(TIME_ZONE).minusDays(CALENDAR_FEED_HISTORY_DAYS);
+    }
+
+    private static String versionOf(LocalDate cutoff, BookingFeedVersion version) {
+        LocalDateTime lastUpdate = version != null ? version.getLastUpdate() : null;
+        long total = version != null ? version.getTotal() : 0L;
+        long stamp = lastUpdate != null ? lastUpdate.toInstant(ZoneOffset.UTC).toEpochMilli() : 0L;
+        return cutoff.format(DateTimeFormatter.BASIC_ISO_DATE) + "-" + total + "-" + Long.toHexString(stamp);
+    }
+
+    /**
+     * Escribe el calendario completo recorriendo las citas de la más reciente a la más antigua
+     * y deteniéndose al llegar al límite del histórico.
+     */
+    private void write(OutputStream outputStream, String calendarName, PageSource source, boolean forEmployee)
+            throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        LocalDate cutoff = cutoff();
+        String stamp = LocalDateTime.now(ZoneOffset.UTC).format(UTC_DATE_TIME);
+        Pageable page = PageRequest.of(0, CALENDAR_FEED_PAGE_SIZE);
+
+        line(writer, "BEGIN:VCALENDAR");
+        line(writer, "VERSION:2.0");
+        line(writer, "PRODID:-//PetCare//Agenda de citas//ES");
+        line(writer, "CALSCALE:GREGORIAN");
+        line(writer, "METHOD:PUBLISH");
+        line(writer, "X-WR-CALNAME:" + escape(calendarName));
+        line(writer, "X-WR-TIMEZONE:" + CALENDAR_TIME_ZONE);
+        timeZone(writer);
+
+        BookingCursor cursor = BookingCursor.FIRST;
+        boolean more = true;
+        while (more) {
+            List<BookingRow> rows = source.next(cursor, page);
+            for (BookingRow row : rows) {
+                if (row.date().isBefore(cutoff)) {
+                    more = false;
+                    break;
+                }
+                event(writer, row, stamp, forEmployee);
+            }
+
+            if (rows.size() < CALENDAR_FEED_PAGE_SIZE) {
+                more = false;
+            } else if (more) {
+                cursor = BookingCursor.of(rows.get(rows.size() - 1));
+            }
+            writer.flush();
+        }
+
+        line(writer, "END:VCALENDAR");
+        writer.flush();
+    }
+
+    private void event(Writer writer, BookingRow row, String stamp, boolean forEmployee) throws IOException {
+        LocalDateTime start = LocalDateTime.of(row.date(), row.time());
+        LocalDateTime end = start.plusMinutes(BOOKING_DEFAULT_DURATION_MINUTES);
+        boolean cancelled = row.status() == BookingStatus.CANCELADA || row.status() == BookingStatus.ANULADA;
+
+        String withWhom = forEmployee
+                ? "Cliente: " + NameFormatter.getShortFullName(row.clientName(), row.clientLastName1())
+                : "Profesional: " + NameFormatter.getFullName(row.employeeName(), row.employeeLastName1(),
+                        row.employeeLastName2());
+
+        line(writer, "BEGIN:VEVENT");
+        line(writer, "UID:cita-" + row.id() + "@petcare");
+        line(writer, "DTSTAMP:" + stamp);
+        line(writer, "DTSTART;TZID=" + CALENDAR_TIME_ZONE + ":" + start.format(LOCAL_DATE_TIME));
+        line(writer, "DTEND;TZID=" + CALENDAR_TIME_ZONE + ":" + end.format(LOCAL_DATE_TIME));
+        line(writer, "SUMMARY:" + escape(row.type().getLabel() + " - " + row.petName()));
+        line(writer, "DESCRIPTION:" + escape(withWhom + "\n" + "Estado: " + row.status().getLabel()));
+        line(writer, "LOCATION:" + escape(DEFAULT_LOCATION));
+        line(writer, "STATUS:" + (cancelled ? "CANCELLED" : "CONFIRMED"));
+        line(writer, "END:VEVENT");
+    }
+
+    /**
+     * Escribe el {@code VTIMEZONE} de la zona de la clínica a partir de sus reglas actuales de cambio de hora.
+     * Si la zona no cambia de hora, se publica un único desfase fijo.
+     */
+    private static void timeZone(Writer writer) throws IOException {
+        ZoneRules rules = TIME_ZONE.getRules();
+
+        line(writer, "BEGIN:VTIMEZONE");
+        line(writer, "TZID:" + CALENDAR_TIME_ZONE);
+        if (rules.getTransitionRules().isEmpty()) {
+            ZoneOffset offset = rules.getStandardOffset(Instant.now());
+            line(writer, "BEGIN:STANDARD");
+            line(writer, "DTSTART:" + LocalDateTime.of(TIME_ZONE_BASE_YEAR, 1, 1, 0, 0).format(LOCAL_DATE_TIME));
+            line(writer, "TZOFFSETFROM:" + offset(offset));
+            line(writer, "TZOFFSETTO:" + offset(offset));
+            line(writer, "END:STANDARD");
+        } else {
+            for (ZoneOffsetTransitionRule rule : rules.getTransitionRules()) {
+                String component = rule.getOffsetAfter().equals(rule.getStandardOffset()) ? "STANDARD" : "DAYLIGHT";
+                LocalDateTime start = rule.createTransition(TIME_ZONE_BASE_YEAR).getDateTimeBefore();
+
+                line(writer, "BEGIN:" + component);
+                line(writer, "DTSTART:" + start.format(LOCAL_DATE_TIME));
+                line(writer, "RRULE:FREQ=YEARLY;BYMONTH=" + rule.getMonth().getValue() + recurrenceDay(rule));
+                line(writer, "TZOFFSETFROM:" + offset(rule.getOffsetBefore()));
+                line(writer, "TZOFFSETTO:" + offset(rule.getOffsetAfter()));
+                line(writer, "END:" + component);
+            }
+        }
+        line(writer, "END:VTIMEZONE");
+    }
+
+    /**
+     * Traduce el día de una regla de cambio de hora a {@code BYDAY}/{@code BYMONTHDAY}. Una regla como
+     * "domingo a partir del día 25" equivale a {@code BYDAY=SU;BYMONTHDAY=25,...,31}; los días negativos
+     * se cuentan desde el final del mes.
+     */
+    private static String recurrenceDay(ZoneOffsetTransitionRule rule) {
+        int indicator = rule.getDayOfMonthIndicator();
+        if (rule.getDayOfWeek() == null) {
+            return ";BYMONTHDAY=" + indicator;
+        }
+
+        StringBuilder days = new StringBuilder(";BYDAY=")
+                .append(rule.getDayOfWeek().name(), 0, 2)
+                .append(";BYMONTHDAY=");
+        for (int i = 0; i < 7; i++) {
+            days.append(i > 0 ? "," : "").append(indicator > 0 ? indicator + i : indicator - i);
+        }
+        return days.toString();
+    }
+
+    private static String offset(ZoneOffset offset) {
+        int seconds = offset.getTotalSeconds();
+        int minutes = Math.abs(seconds) / 60;
+        return String.format("%s%02d%02d", seconds < 0 ? "-" : "+", minutes / 60, minutes % 60);
+    }
+
+    /**
+     * Escribe una línea de contenido, plegándola en líneas de como máximo 75 octetos.
+     */
+    private static void line(Writer writer, String content) throws IOException {
+        int octets = 0;
+        for (int i = 0; i < content.length(); ) {
+            int codePoint = content.codePointAt(i);
+            int size = new String(Character.toChars(codePoint)).getBytes(StandardCharsets.UTF_8).length;
+            if (octets + size > MAX_LINE_OCTETS) {
+                writer.write(CRLF);
+                writer.write(' ');
+                octets = 1;
+            }
+            writer.write(Character.toChars(codePoint));
+            octets += size;
+            i += Character.charCount(codePoint);
+        }
+        writer.write(CRLF);
+    }
+
+    private static String escape(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.replace("\\", "\\\\")
+                .replace(";", "\\;")
+                .replace(",", "\\,")
+                .replace("\n", "\\n");
+    }
+
+    /** Origen de las páginas de citas de una agenda. */
+    private interface PageSource {
+        List<BookingRow> next(BookingCursor cursor, Pageable page);
+    }
+}
@@ -0,0 +1,93 @@
+package com.petcare.domain.booking.calendar;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Optional;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.petcare.domain.user.User;
+import com.petcare.domain.user.UserRepository;
+import com.petcare.exceptions.NotFoundException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import static com.petcare.utils.constants.GlobalConstants.*;
+
+/**
+ * Tokens de los enlaces de suscripción a los calendarios {@code .ics}.
+ * <p>
+ * Las aplicaciones de calendario de los móviles solo admiten una URL y no pueden enviar la cabecera
+ * {@code Authorization}, así que cada usuario puede generar un enlace propio con un token aleatorio de
+ * {@code CALENDAR_TOKEN_BYTES} bytes. Solo se guarda su huella SHA-256: quien lea la base de datos no puede
+ * reconstruir el enlace. Generar un enlace nuevo invalida el anterior, y revocarlo los invalida todos.
+ * <p>
+ * El token solo autentica las dos descargas de calendario; lo comprueba {@code CalendarFeedTokenFilter}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CalendarFeedTokens {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final UserRepository userRepository;
+
+    /**
+     * Genera un token nuevo para el usuario y sustituye al anterior, si lo había.
+     *
+     * @param userId ID del usuario.
+     * @return Token en claro, que solo se muestra en este momento.
+     */
+    @Transactional
+    public String issue(Long userId) {
+        User user = find(userId);
+
+        byte[] bytes = new byte[CALENDAR_TOKEN_BYTES];
+        RANDOM.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        user.setCalendarTokenHash(hash(token));
+        userRepository.save(user);
+        log.info("Enlace de calendario generado para el usuario ID {}.", userId);
+        return token;
+    }
+
+    /**
+     * Revoca el enlace de calendario del usuario.
+     *
+     * @param userId ID del usuario.
+     */
+    @Transactional
+    public void revoke(Long userId) {
+        User user = find(userId);
+        user.setCalendarTokenHash(null);
+        userRepository.save(user);
+        log.info("Enlace de calendario revocado para el usuario ID {}.", userId);
+    }
+
+    /**
+     * Busca el usuario al que pertenece un token.
+     *
+     * @param token Token recibido en la URL.
+     * @return Usuario, o vacío si el token no existe o se ha revocado.
+     */
+    public Optional<User> findUser(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+        return userRepository.findByCalendarTokenHash(hash(token));
+    }
+
+    private User find(Long userId) {
+        return userRepository.findById(userId)
+                .orElseThrow(() -> new NotFoundException("Usuario no encontrado."));
+    }
+
+    private static String hash(String token) {
+        return DigestUtils.sha256Hex(token);
+    }
+}
@@ -0,0 +1,46 @@
+package com.petcare.domain.booking.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import com.petcare.enums.BookingType;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * DTO de respuesta que representa un hueco libre en el que se puede agendar una cita.
+ * <p>
+ * Cada hueco indica la fecha, la hora y el profesional compatible que está disponible,
+ * de forma que el cliente puede reservarlo directamente sin probar horarios a ciegas.
+ */
+@Getter
+@Setter
+@Builder
+public class AvailableSlotResponse {
+
+    /** Fecha del hueco libre. */
+    private LocalDate date;
+
+    /** Hora de inicio del hueco libre. */
+    private LocalTime time;
+
+    /** Tipo de cita buscado. */
+    private BookingType type;
+
+    /** Texto legible del tipo de cita. */
+    private String typeLabel;
+
+    /** ID del empleado disponible. */
+    private Long employeeId;
+
+    /** Nombre completo del empleado disponible. */
+    private String employeeName;
+
+    /** Texto legible del perfil del empleado. */
+    private String employeeProfileLabel;
+
+    /** Duración estándar de la cita en minutos. */
+    private Integer durationMinutes;
+}
@@ -1,12 +1,16 @@
 package com.petcare.domain.booking.dto;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
 
 import com.petcare.domain.booking.Booking;
+import com.petcare.domain.booking.BookingRow;
 import com.petcare.domain.employee.Employee;
 import com.petcare.domain.pet.Pet;
 import com.petcare.enums.BookingStatus;
+import com.petcare.enums.BookingType;
 import com.petcare.enums.PetType;
 import com.petcare.utils.constants.*;
 import com.petcare.utils.NameFormatter;
@@ -57,6 +61,36 @@ public class BookingMapper {
         return booking;
     }
 
+    /**
+     * Construye una de las citas de una serie periódica a partir de la petición de la serie.
+     * <p>
+     * Todas las citas de la serie comparten los datos de la petición salvo la fecha, que se recibe
+     * ya calculada.
+     *
+     * @param request Datos de la serie.
+     * @param date Fecha de esta cita.
+     * @param pet Mascota asociada a la cita.
+     * @param employee Empleado que atenderá la cita.
+     * @return Nueva instancia de Booking lista para persistir, o {@code null} si algún dato es nulo.
+     */
+    public static Booking toEntity(BookingSeriesRequest request, LocalDate date, Pet pet, Employee employee) {
+        if (request == null || date == null || pet == null || employee == null) {
+            return null;
+        }
+
+        Booking booking = new Booking();
+        booking.setDate(date);
+        booking.setTime(request.getTime());
+        booking.setType(request.getType());
+        booking.setStatus(BookingStatus.CONFIRMADA);
+        booking.setReminderRequest(Boolean.TRUE.equals(request.getReminderRequest()));
+        booking.setReminderSent(false);
+        booking.setPet(pet);
+        booking.setEmployee(employee);
+
+        return booking;
+    }
+
     // ╔════════════════════════════════════════════════════╗
     // ║         Entidad >> BookingResponse                ║
     // ╚════════════════════════════════════════════════════╝
@@ -88,12 +122,7 @@ public class BookingMapper {
 	    if (pet != null) {
 	        petId = pet.getId();
 	        petName = pet.getName();
-
-	        if (pet.getType() == PetType.OTRO && pet.getCustomType() != null) {
-	            petType = pet.getCustomType();
-	        } else if (pet.getType() != null) {
-	            petType = pet.getType().name();
-	        }
+	        petType = petTypeOf(pet.getType(), pet.getCustomType());
 	    }
 
 	    String clientName = null;
@@ -136,6 +165,78 @@ public class BookingMapper {
 	            .build();
 	}
 
+    // ╔════════════════════════════════════════════════════╗
+    // ║         Proyección >> BookingResponse              ║
+    // ╚════════════════════════════════════════════════════╝
+
+    /**
+     * Convierte una proyección {@link BookingRow} en un objeto {@link BookingResponse}.
+     * <p>
+     * Produce exactamente el mismo resultado que {@link #toResponse(Booking)}, pero a partir
+     * de las columnas ya seleccionadas en la consulta, sin acceder a entidades relacionadas.
+     *
+     * @param row Proyección de la cita.
+     * @return DTO con todos los datos para mostrar en pantalla, o {@code null} si la proyección es nula.
+     */
+
+	public static BookingResponse toResponse(BookingRow row) {
+	    if (row == null) {
+	        return null;
+	    }
+
+	    return BookingResponse.builder()
+	            .id(row.id())
+	            .date(row.date())
+	            .time(row.time())
+	            .status(row.status())
+	            .statusLabel(row.status() != null ? row.status().getLabel() : null)
+	            .type(row.type())
+	            .typeLabel(row.type() != null ? row.type().getLabel() : null)
+	            .reminderRequest(row.reminderRequest())
+	            .reminderSent(row.reminderSent())
+	            .petId(row.petId())
+	            .petName(row.petName())
+	            .petType(petTypeOf(row.petType(), row.petCustomType()))
+	            .employeeId(row.employeeId())
+	            .employeeName(NameFormatter.getFullName(row.employeeName(), row.employeeLastName1(),
+	                    row.employeeLastName2()))
+	            .employeeProfileLabel(row.employeeProfile() != null ? row.employeeProfile().getLabel() : null)
+	            .clientName(NameFormatter.getShortFullName(row.clientName(), row.clientLastName1()))
+	            .durationMinutes(GlobalConstants.BOOKING_DEFAULT_DURATION_MINUTES)
+	            .build();
+	}
+
+    // ╔════════════════════════════════════════════════════╗
+    // ║         Hueco libre >> AvailableSlotResponse       ║
+    // ╚════════════════════════════════════════════════════╝
+
+    /**
+     * Construye un {@link AvailableSlotResponse} para un hueco libre de un profesional.
+     *
+     * @param employee Empleado disponible.
+     * @param type Tipo de cita buscado.
+     * @param date Fecha del hueco.
+     * @param time Hora de inicio del hueco.
+     * @return DTO con los datos del hueco, o {@code null} si falta algún dato.
+     */
+
+	public static AvailableSlotResponse toAvailableSlot(Employee employee, BookingType type, LocalDate date, LocalTime time) {
+	    if (employee == null || type == null || date == null || time == null) {
+	        return null;
+	    }
+
+	    return AvailableSlotResponse.builder()
+	            .date(date)
+	            .time(time)
+	            .type(type)
+	            .typeLabel(type.getLabel())
+	            .employeeId(employee.getId())
+	            .employeeName(NameFormatter.getFullName(employee))
+	            .employeeProfileLabel(employee.getProfile() != null ? employee.getProfile().getLabel() : null)
+	            .durationMinutes(GlobalConstants.BOOKING_DEFAULT_DURATION_MINUTES)
+	            .build();
+	}
+
     // ╔════════════════════════════════════════════════════╗
     // ║         Actualización desde BookingUpdateRequest   ║
     // ╚════════════════════════════════════════════════════╝
@@ -198,4 +299,29 @@ public class BookingMapper {
         }
         return responses;
     }
-}
\ No newline at end of file
+
+    /**
+     * Transforma una lista de proyecciones {@link BookingRow} en una lista de {@link BookingResponse}.
+     *
+     * @param rows Proyecciones a convertir.
+     * @return Lista de respuestas mapeadas, vacía si no hay resultados.
+     */
+
+    public static List<BookingResponse> toResponseListFromRows(List<BookingRow> rows) {
+        List<BookingResponse> responses = new ArrayList<>();
+        for (BookingRow row : rows) {
+            responses.add(toResponse(row));
+        }
+        return responses;
+    }
+
+    /**
+     * Devuelve el tipo de mascota a mostrar: el personalizado si es {@code OTRO}, o el nombre del tipo.
+     */
+    private static String petTypeOf(PetType type, String customType) {
+        if (type == PetType.OTRO && customType != null) {
+            return customType;
+        }
+        return type != null ? type.name() : null;
+    }
+}
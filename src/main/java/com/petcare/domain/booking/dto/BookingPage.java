@@ -0,0 +1,29 @@
+package com.petcare.domain.booking.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * DTO de respuesta que representa una página de un listado de citas paginado por cursor.
+ * <p>
+ * Las citas se devuelven de la más reciente a la más antigua. Para obtener la página siguiente
+ * basta con repetir la petición enviando {@code nextCursor}; cuando {@code hasMore} es {@code false}
+ * no quedan más citas.
+ */
+@Getter
+@Setter
+@Builder
+public class BookingPage {
+
+    /** Citas de la página actual. */
+    private List<BookingResponse> items;
+
+    /** Cursor opaco para pedir la página siguiente, o {@code null} si no hay más. */
+    private String nextCursor;
+
+    /** Indica si existen más citas tras esta página. */
+    private boolean hasMore;
+}
@@ -0,0 +1,32 @@
+package com.petcare.domain.booking.dto;
+
+import java.time.LocalDate;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * DTO utilizado para liberar la agenda de un empleado en un rango de días (por ejemplo, por una baja).
+ * <p>
+ * Todas las citas confirmadas del empleado en el rango se reasignan a un compañero compatible
+ * y libre o, si no se solicita reasignar o no hay nadie disponible, se anulan.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class BookingReleaseRequest {
+
+    /** Primer día del rango (incluido). */
+    @NotNull(message = "Indica el primer día que se debe liberar")
+    private LocalDate fromDate;
+
+    /** Último día del rango (incluido). */
+    @NotNull(message = "Indica el último día que se debe liberar")
+    private LocalDate toDate;
+
+    /** Indica si se debe intentar reasignar cada cita antes de anularla. */
+    @NotNull(message = "Indica si las citas deben reasignarse a otro profesional")
+    private Boolean reassign;
+}
@@ -0,0 +1,34 @@
+package com.petcare.domain.booking.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * DTO de respuesta con el resultado de liberar la agenda de un empleado.
+ * <p>
+ * Indica qué citas se han reasignado a otro profesional y cuáles se han anulado.
+ */
+@Getter
+@Setter
+@Builder
+public class BookingReleaseResponse {
+
+    /** ID del empleado cuya agenda se ha liberado. */
+    private Long employeeId;
+
+    /** Primer día liberado. */
+    private LocalDate fromDate;
+
+    /** Último día liberado. */
+    private LocalDate toDate;
+
+    /** IDs de las citas reasignadas a otro profesional. */
+    private List<Long> reassignedIds;
+
+    /** IDs de las citas anuladas. */
+    private List<Long> abortedIds;
+}
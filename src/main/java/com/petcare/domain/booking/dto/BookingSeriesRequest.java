@@ -0,0 +1,63 @@
+package com.petcare.domain.booking.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import com.petcare.enums.BookingType;
+import com.petcare.enums.RecurrenceFrequency;
+
+import jakarta.validation.constraints.FutureOrPresent;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * DTO utilizado para registrar una serie de citas periódicas (por ejemplo, una sesión semanal).
+ * <p>
+ * Todas las citas de la serie comparten hora, tipo, mascota y empleado; solo cambia la fecha,
+ * que se calcula a partir de la primera según la frecuencia indicada. La serie termina tras un
+ * número de repeticiones o en una fecha límite: debe indicarse exactamente uno de los dos.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class BookingSeriesRequest {
+
+    /** Fecha de la primera cita de la serie (no puede ser en el pasado). */
+    @NotNull(message = "La fecha de la primera cita es obligatoria")
+    @FutureOrPresent(message = "La fecha no puede ser anterior a la actual")
+    private LocalDate date;
+
+    /** Hora de todas las citas de la serie. */
+    @NotNull(message = "Indica la hora de las citas")
+    private LocalTime time;
+
+    /** Tipo de cita a realizar (vacuna, revisión, etc.). */
+    @NotNull(message = "Selecciona qué tipo de cita quieres agendar")
+    private BookingType type;
+
+    /** Indica si el cliente desea recibir un recordatorio por email de cada cita. */
+    @NotNull(message = "Indica si deseas recibir un recordatorio")
+    private Boolean reminderRequest;
+
+    /** ID de la mascota a la que corresponden las citas. */
+    @NotNull(message = "Selecciona la mascota para la que quieres agendar las citas")
+    private Long petId;
+
+    /** ID del empleado que atenderá las citas. */
+    @NotNull(message = "Selecciona el nombre de uno de nuestros empleados")
+    private Long employeeId;
+
+    /** Frecuencia con la que se repiten las citas. */
+    @NotNull(message = "Indica cada cuánto se repiten las citas")
+    private RecurrenceFrequency frequency;
+
+    /** Número total de citas de la serie, incluida la primera (alternativa a {@code untilDate}). */
+    @Min(value = 1, message = "La serie debe tener al menos una cita")
+    private Integer occurrences;
+
+    /** Fecha límite de la serie, incluida (alternativa a {@code occurrences}). */
+    private LocalDate untilDate;
+}
@@ -0,0 +1,20 @@
+package com.petcare.domain.booking.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * DTO de respuesta con el enlace de suscripción a un calendario {@code .ics}.
+ * <p>
+ * El enlace incluye un token propio del usuario, de modo que las aplicaciones de calendario
+ * pueden descargarlo sin enviar la cabecera {@code Authorization}.
+ */
+@Getter
+@Setter
+@Builder
+public class CalendarLinkResponse {
+
+    /** URL completa del calendario, con el token de suscripción. */
+    private String url;
+}
@@ -0,0 +1,32 @@
+package com.petcare.domain.booking.event;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import com.petcare.enums.BookingType;
+
+/**
+ * Evento publicado al registrar una nueva cita confirmada.
+ * <p>
+ * Contiene una copia de los datos necesarios para los suscriptores, de modo que ninguno
+ * necesita volver a consultar la cita ni acceder a entidades fuera de la transacción.
+ *
+ * @param bookingId ID de la cita.
+ * @param employeeId ID del empleado asignado.
+ * @param employeeEmail Correo de acceso del empleado asignado.
+ * @param clientName Nombre del cliente.
+ * @param petName Nombre de la mascota.
+ * @param date Fecha de la cita.
+ * @param time Hora de la cita.
+ * @param type Tipo de cita.
+ */
+public record BookingCreated(
+        Long bookingId,
+        Long employeeId,
+        String employeeEmail,
+        String clientName,
+        String petName,
+        LocalDate date,
+        LocalTime time,
+        BookingType type) {
+}
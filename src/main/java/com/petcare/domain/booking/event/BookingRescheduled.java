@@ -0,0 +1,42 @@
+package com.petcare.domain.booking.event;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import com.petcare.enums.BookingType;
+
+/**
+ * Evento publicado al modificar una cita: cambio de fecha, hora, profesional o tipo.
+ *
+ * @param bookingId ID de la cita.
+ * @param active Indica si la cita está confirmada (y por tanto ocupa franja).
+ * @param previousEmployeeId ID del empleado antes del cambio.
+ * @param previousDate Fecha antes del cambio.
+ * @param previousTime Hora antes del cambio.
+ * @param previousType Tipo antes del cambio.
+ * @param employeeId ID del empleado tras el cambio.
+ * @param date Fecha tras el cambio.
+ * @param time Hora tras el cambio.
+ * @param type Tipo tras el cambio.
+ */
+public record BookingRescheduled(
+        Long bookingId,
+        boolean active,
+        Long previousEmployeeId,
+        LocalDate previousDate,
+        LocalTime previousTime,
+        BookingType previousType,
+        Long employeeId,
+        LocalDate date,
+        LocalTime time,
+        BookingType type) {
+
+    /**
+     * Indica si la cita ha cambiado de franja (empleado, fecha u hora).
+     *
+     * @return {@code true} si la franja es distinta a la anterior.
+     */
+    public boolean slotChanged() {
+        return !employeeId.equals(previousEmployeeId) || !date.equals(previousDate) || !time.equals(previousTime);
+    }
+}
@@ -0,0 +1,36 @@
+package com.petcare.domain.booking.event;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import com.petcare.enums.BookingType;
+import com.petcare.enums.RecurrenceFrequency;
+
+/**
+ * Evento publicado al registrar una serie de citas periódicas confirmadas.
+ * <p>
+ * Sustituye a un {@link BookingCreated} por cada cita, de modo que los suscriptores pueden
+ * tratar la serie de una sola vez (por ejemplo, enviando un único aviso al empleado).
+ *
+ * @param bookingIds IDs de las citas, en el mismo orden que {@code dates}.
+ * @param employeeId ID del empleado asignado.
+ * @param employeeEmail Correo de acceso del empleado asignado.
+ * @param clientName Nombre del cliente.
+ * @param petName Nombre de la mascota.
+ * @param dates Fechas de las citas, en orden ascendente.
+ * @param time Hora de las citas.
+ * @param type Tipo de cita.
+ * @param frequency Frecuencia de la serie.
+ */
+public record BookingSeriesCreated(
+        List<Long> bookingIds,
+        Long employeeId,
+        String employeeEmail,
+        String clientName,
+        String petName,
+        List<LocalDate> dates,
+        LocalTime time,
+        BookingType type,
+        RecurrenceFrequency frequency) {
+}
@@ -0,0 +1,43 @@
+package com.petcare.domain.booking.event;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import com.petcare.enums.BookingStatus;
+
+/**
+ * Evento publicado cuando una cita cambia de estado (cancelada, anulada, completada o reactivada).
+ *
+ * @param bookingId ID de la cita.
+ * @param employeeId ID del empleado asignado.
+ * @param date Fecha de la cita.
+ * @param time Hora de la cita.
+ * @param previousStatus Estado anterior.
+ * @param newStatus Estado nuevo.
+ */
+public record BookingStatusChanged(
+        Long bookingId,
+        Long employeeId,
+        LocalDate date,
+        LocalTime time,
+        BookingStatus previousStatus,
+        BookingStatus newStatus) {
+
+    /**
+     * Indica si la cita ha dejado de ocupar su franja.
+     *
+     * @return {@code true} si pasa de CONFIRMADA a un estado final.
+     */
+    public boolean releasesSlot() {
+        return previousStatus == BookingStatus.CONFIRMADA && newStatus != BookingStatus.CONFIRMADA;
+    }
+
+    /**
+     * Indica si la cita vuelve a ocupar su franja.
+     *
+     * @return {@code true} si pasa de un estado final a CONFIRMADA.
+     */
+    public boolean occupiesSlot() {
+        return previousStatus != BookingStatus.CONFIRMADA && newStatus == BookingStatus.CONFIRMADA;
+    }
+}
@@ -0,0 +1,38 @@
+package com.petcare.domain.booking.event;
+
+import java.util.List;
+
+import com.petcare.domain.booking.AffectedBooking;
+
+/**
+ * Evento publicado al liberar la agenda de un empleado en un rango de días.
+ * <p>
+ * Agrupa en un solo evento todas las citas afectadas, de modo que los suscriptores pueden
+ * actualizar la ocupación y enviar las notificaciones por lotes.
+ *
+ * @param employeeId ID del empleado cuya agenda se ha liberado.
+ * @param employeeName Nombre completo del empleado.
+ * @param aborted Citas anuladas.
+ * @param reassigned Citas reasignadas a otro profesional.
+ */
+public record BookingsReleased(
+        Long employeeId,
+        String employeeName,
+        List<AffectedBooking> aborted,
+        List<Reassignment> reassigned) {
+
+    /**
+     * Cita reasignada a otro profesional.
+     *
+     * @param booking Cita afectada.
+     * @param employeeId ID del nuevo empleado.
+     * @param employeeEmail Correo de acceso del nuevo empleado.
+     * @param employeeName Nombre completo del nuevo empleado, que se comunica al cliente.
+     */
+    public record Reassignment(
+            AffectedBooking booking,
+            Long employeeId,
+            String employeeEmail,
+            String employeeName) {
+    }
+}
@@ -0,0 +1,145 @@
+package com.petcare.domain.booking.stream;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.petcare.domain.booking.AffectedBooking;
+import com.petcare.domain.booking.BookingRepository;
+import com.petcare.domain.booking.BookingRow;
+import com.petcare.domain.booking.dto.BookingMapper;
+import com.petcare.domain.booking.dto.BookingResponse;
+import com.petcare.domain.booking.event.BookingCreated;
+import com.petcare.domain.booking.event.BookingRescheduled;
+import com.petcare.domain.booking.event.BookingSeriesCreated;
+import com.petcare.domain.booking.event.BookingStatusChanged;
+import com.petcare.domain.booking.event.BookingsReleased;
+
+import lombok.RequiredArgsConstructor;
+
+import static com.petcare.domain.booking.stream.BookingStreamRegistry.*;
+
+/**
+ * Suscriptor de los eventos de citas que envía los cambios a los calendarios abiertos en tiempo real.
+ * <p>
+ * Se ejecuta una vez confirmada la transacción y en el ejecutor {@code bookingEventExecutor}. Por cada
+ * evento se lee una única vez el estado de las citas afectadas, sea cual sea el número de conexiones
+ * abiertas, y no se consulta nada si no hay ningún calendario abierto.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingStreamPublisher {
+
+    private final BookingRepository bookingRepository;
+    private final BookingStreamRegistry registry;
+
+    /**
+     * Añade la nueva cita a los calendarios de su empleado y de su cliente.
+     *
+     * @param event Cita registrada.
+     */
+    @Async("bookingEventExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBookingCreated(BookingCreated event) {
+        for (BookingRow row : load(List.of(event.bookingId()))) {
+            BookingResponse booking = BookingMapper.toResponse(row);
+            registry.sendToEmployee(row.employeeId(), CREATED, booking);
+            registry.sendToClient(row.clientId(), CREATED, booking);
+        }
+    }
+
+    /**
+     * Añade las citas de una serie a los calendarios de su empleado y de su cliente.
+     *
+     * @param event Serie registrada.
+     */
+    @Async("bookingEventExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBookingSeriesCreated(BookingSeriesCreated event) {
+        for (BookingRow row : load(event.bookingIds())) {
+            BookingResponse booking = BookingMapper.toResponse(row);
+            registry.sendToEmployee(row.employeeId(), CREATED, booking);
+            registry.sendToClient(row.clientId(), CREATED, booking);
+        }
+    }
+
+    /**
+     * Actualiza una cita modificada. Si ha cambiado de empleado, desaparece del calendario
+     * del anterior y aparece en el del nuevo.
+     *
+     * @param event Cita modificada.
+     */
+    @Async("bookingEventExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBookingRescheduled(BookingRescheduled event) {
+        for (BookingRow row : load(List.of(event.bookingId()))) {
+            BookingResponse booking = BookingMapper.toResponse(row);
+            if (event.previousEmployeeId().equals(row.employeeId())) {
+                registry.sendToEmployee(row.employeeId(), UPDATED, booking);
+            } else {
+                registry.sendToEmployee(event.previousEmployeeId(), REMOVED, booking);
+                registry.sendToEmployee(row.employeeId(), CREATED, booking);
+            }
+            registry.sendToClient(row.clientId(), UPDATED, booking);
+        }
+    }
+
+    /**
+     * Quita de los calendarios una cita que pasa a un estado final, o la vuelve a añadir si se reactiva.
+     *
+     * @param event Cambio de estado de la cita.
+     */
+    @Async("bookingEventExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBookingStatusChanged(BookingStatusChanged event) {
+        String eventName = event.releasesSlot() ? REMOVED : event.occupiesSlot() ? CREATED : UPDATED;
+        for (BookingRow row : load(List.of(event.bookingId()))) {
+            BookingResponse booking = BookingMapper.toResponse(row);
+            registry.sendToEmployee(row.employeeId(), eventName, booking);
+            registry.sendToClient(row.clientId(), eventName, booking);
+        }
+    }
+
+    /**
+     * Refleja en los calendarios la liberación de la agenda de un empleado: las citas anuladas
+     * desaparecen y las reasignadas pasan al calendario del nuevo profesional.
+     *
+     * @param event Agenda liberada.
+     */
+    @Async("bookingEventExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBookingsReleased(BookingsReleased event) {
+        List<Long> ids = new ArrayList<>();
+        for (AffectedBooking booking : event.aborted()) {
+            ids.add(booking.id());
+        }
+        for (BookingsReleased.Reassignment reassignment : event.reassigned()) {
+            ids.add(reassignment.booking().id());
+        }
+
+        for (BookingRow row : load(ids)) {
+            BookingResponse booking = BookingMapper.toResponse(row);
+            registry.sendToEmployee(event.employeeId(), REMOVED, booking);
+            if (event.employeeId().equals(row.employeeId())) {
+                registry.sendToClient(row.clientId(), REMOVED, booking);
+            } else {
+                registry.sendToEmployee(row.employeeId(), CREATED, booking);
+                registry.sendToClient(row.clientId(), UPDATED, booking);
+            }
+        }
+    }
+
+    /**
+     * Lee el estado actual de las citas indicadas, o ninguna si no hay calendarios abiertos.
+     */
+    private List<BookingRow> load(List<Long> ids) {
+        if (ids.isEmpty() || !registry.hasStreams()) {
+            return List.of();
+        }
+        return bookingRepository.findRowsByIds(ids);
+    }
+}
@@ -0,0 +1,289 @@
+package com.petcare.domain.booking.stream;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.petcare.domain.booking.BookingService;
+import com.petcare.domain.booking.dto.BookingResponse;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import static com.petcare.utils.constants.GlobalConstants.*;
+
+/**
+ * Registro de los calendarios abiertos en tiempo real mediante Server-Sent Events.
+ * <p>
+ * Cada conexión recibe primero un evento {@value #SNAPSHOT} con sus próximas citas y, a continuación,
+ * un evento {@value #CREATED}, {@value #UPDATED} o {@value #REMOVED} por cada cita que cambia. Los cambios
+ * que llegan mientras se calcula la instantánea se guardan y se envían justo después de ella, de modo
+ * que no se pierde ninguno.
+ * <p>
+ * Las conexiones se sirven con {@link SseEmitter} sobre el soporte asíncrono del contenedor: una conexión
+ * inactiva no ocupa ningún hilo. Cada {@code BOOKING_STREAM_HEARTBEAT_MS} ms se envía un comentario a todas
+ * las conexiones para mantenerlas abiertas a través de proxies y detectar las que se han cerrado.
+ * <p>
+ * Publicar un evento nunca escribe en la red: solo lo añade a la cola de la conexión, de como mucho
+ * {@code BOOKING_STREAM_QUEUE_CAPACITY} eventos, que vacía el ejecutor {@code bookingStreamExecutor}.
+ * Un cliente lento no frena al publicador ni a la tarea de latidos; si su cola se llena, se cierra su
+ * conexión y, al reconectar, recibe una instantánea nueva.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BookingStreamRegistry {
+
+    /** Evento inicial con las próximas citas. */
+    public static final String SNAPSHOT = "snapshot";
+
+    /** Cita nueva en el calendario. */
+    public static final String CREATED = "created";
+
+    /** Cita del calendario modificada. */
+    public static final String UPDATED = "updated";
+
+    /** Cita que deja de estar en el calendario (cancelada, anulada, completada o reasignada). */
+    public static final String REMOVED = "removed";
+
+    private final BookingService bookingService;
+    private final ThreadPoolTaskExecutor bookingStreamExecutor;
+
+    private final Map<Long, Set<Subscription>> employeeStreams = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Subscription>> clientStreams = new ConcurrentHashMap<>();
+
+    // ╔════════════════════════════════════════════════════╗
+    // ║                APERTURA DE CONEXIONES              ║
+    // ╚════════════════════════════════════════════════════╝
+
+    /**
+     * Abre el calendario en tiempo real de un empleado.
+     *
+     * @param employeeId ID del empleado.
+     * @return Conexión SSE que recibirá la instantánea y los cambios.
+     */
+    public SseEmitter openEmployeeStream(Long employeeId) {
+        Subscription subscription = register(employeeStreams, employeeId);
+        subscription.start(bookingService.getUpcomingBookingsByEmployee(employeeId));
+        log.debug("Calendario en tiempo real abierto para el empleado ID {}.", employeeId);
+        return subscription.emitter;
+    }
+
+    /**
+     * Abre el calendario en tiempo real de un cliente.
+     *
+     * @param clientId ID del cliente.
+     * @return Conexión SSE que recibirá la instantánea y los cambios.
+     */
+    public SseEmitter openClientStream(Long clientId) {
+        Subscription subscription = register(clientStreams, clientId);
+        subscription.start(bookingService.getUpcomingBookingsByClient(clientId));
+        log.debug("Calendario en tiempo real abierto para el cliente ID {}.", clientId);
+        return subscription.emitter;
+    }
+
+    // ╔════════════════════════════════════════════════════╗
+    // ║                  ENVÍO DE CAMBIOS                  ║
+    // ╚════════════════════════════════════════════════════╝
+
+    /**
+     * Indica si hay algún calendario abierto. Permite omitir las consultas cuando nadie escucha.
+     *
+     * @return {@code true} si existe al menos una conexión.
+     */
+    public boolean hasStreams() {
+        return !employeeStreams.isEmpty() || !clientStreams.isEmpty();
+    }
+
+    /**
+     * Envía un cambio a los calendarios abiertos de un empleado.
+     *
+     * @param employeeId ID del empleado.
+     * @param eventName Tipo de cambio ({@value #CREATED}, {@value #UPDATED} o {@value #REMOVED}).
+     * @param booking Cita afectada.
+     */
+    public void sendToEmployee(Long employeeId, String eventName, BookingResponse booking) {
+        send(employeeStreams.get(employeeId), eventName, booking);
+    }
+
+    /**
+     * Envía un cambio a los calendarios abiertos de un cliente.
+     *
+     * @param clientId ID del cliente.
+     * @param eventName Tipo de cambio ({@value #CREATED}, {@value #UPDATED} o {@value #REMOVED}).
+     * @param booking Cita afectada.
+     */
+    public void sendToClient(Long clientId, String eventName, BookingResponse booking) {
+        send(clientStreams.get(clientId), eventName, booking);
+    }
+
+    /**
+     * Envía un comentario a todas las conexiones para mantenerlas abiertas y descartar las cerradas.
+     */
+    @Scheduled(fixedDelay = BOOKING_STREAM_HEARTBEAT_MS)
+    public void heartbeat() {
+        heartbeat(employeeStreams);
+        heartbeat(clientStreams);
+    }
+
+    // ╔════════════════════════════════════════════════════╗
+    // ║                MÉTODOS AUXILIARES                  ║
+    // ╚════════════════════════════════════════════════════╝
+
+    private Subscription register(Map<Long, Set<Subscription>> streams, Long ownerId) {
+        Subscription subscription = new Subscription(new SseEmitter(BOOKING_STREAM_TIMEOUT_MS), streams, ownerId);
+
+        subscription.emitter.onCompletion(subscription::unregister);
+        subscription.emitter.onTimeout(subscription::unregister);
+        subscription.emitter.onError(error -> subscription.unregister());
+
+        // El alta se hace dentro de compute(): así no puede añadirse a un conjunto que unregister()
+        // acaba de quitar del mapa por haberse quedado vacío.
+        streams.compute(ownerId, (id, subscriptions) -> {
+            Set<Subscription> current = subscriptions != null ? subscriptions : ConcurrentHashMap.newKeySet();
+            current.add(subscription);
+            return current;
+        });
+        return subscription;
+    }
+
+    private void send(Set<Subscription> subscriptions, String eventName, BookingResponse booking) {
+        if (subscriptions == null) {
+            return;
+        }
+        for (Subscription subscription : subscriptions) {
+            subscription.deliver(SseEmitter.event().name(eventName).data(booking));
+        }
+    }
+
+    private void heartbeat(Map<Long, Set<Subscription>> streams) {
+        for (Set<Subscription> subscriptions : streams.values()) {
+            for (Subscription subscription : subscriptions) {
+                subscription.deliver(SseEmitter.event().comment("ping"));
+            }
+        }
+    }
+
+    /**
+     * Conexión abierta con su cola de eventos pendientes.
+     * <p>
+     * Hasta que se envía la instantánea, los cambios recibidos solo se acumulan. Después, como mucho una
+     * tarea del ejecutor vacía la cola, de modo que los eventos se escriben en orden y siempre fuera del
+     * monitor de la conexión.
+     */
+    private final class Subscription {
+
+        private final SseEmitter emitter;
+        private final Map<Long, Set<Subscription>> streams;
+        private final Long ownerId;
+        private final Deque<SseEmitter.SseEventBuilder> queue = new ArrayDeque<>();
+        private boolean ready;
+        private boolean draining;
+        private boolean closed;
+
+        private Subscription(SseEmitter emitter, Map<Long, Set<Subscription>> streams, Long ownerId) {
+            this.emitter = emitter;
+            this.streams = streams;
+            this.ownerId = ownerId;
+        }
+
+        private void start(List<BookingResponse> snapshot) {
+            synchronized (this) {
+                queue.addFirst(SseEmitter.event().name(SNAPSHOT).data(snapshot));
+                ready = true;
+            }
+            scheduleDrain();
+        }
+
+        private void deliver(SseEmitter.SseEventBuilder event) {
+            boolean overflow;
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                overflow = queue.size() >= BOOKING_STREAM_QUEUE_CAPACITY;
+                if (overflow) {
+                    closed = true;
+                    queue.clear();
+                } else {
+                    queue.addLast(event);
+                }
+            }
+
+            if (overflow) {
+                log.debug("Cola llena en un calendario en tiempo real de ID {}; se cierra la conexión.", ownerId);
+                unregister();
+                emitter.complete();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            synchronized (this) {
+                if (!ready || draining || closed || queue.isEmpty()) {
+                    return;
+                }
+                draining = true;
+            }
+
+            try {
+                bookingStreamExecutor.execute(this::drain);
+            } catch (TaskRejectedException e) {
+                synchronized (this) {
+                    closed = true;
+                    queue.clear();
+                }
+                discard(e);
+                emitter.complete();
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                SseEmitter.SseEventBuilder event;
+                synchronized (this) {
+                    event = closed ? null : queue.pollFirst();
+                    if (event == null) {
+                        draining = false;
+                        return;
+                    }
+                }
+
+                try {
+                    emitter.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    synchronized (this) {
+                        closed = true;
+                        queue.clear();
+                        draining = false;
+                    }
+                    discard(e);
+                    return;
+                }
+            }
+        }
+
+        private void discard(Exception e) {
+            log.debug("Calendario en tiempo real cerrado: {}", e.getMessage());
+            unregister();
+        }
+
+        private void unregister() {
+            streams.computeIfPresent(ownerId, (id, subscriptions) -> {
+                subscriptions.remove(this);
+                return subscriptions.isEmpty() ? null : subscriptions;
+            });
+        }
+    }
+}
@@ -12,6 +12,7 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
+@Cacheable(false)
 @Table(name = "clientes")
 @Getter
 @Setter
@@ -2,9 +2,9 @@ package com.petcare.domain.client;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import com.petcare.auth.security.CurrentUser;
 import com.petcare.domain.client.dto.ClientMapper;
 import com.petcare.domain.client.dto.ClientResponse;
 import com.petcare.domain.client.dto.ClientUpdate;
@@ -49,7 +49,7 @@ public class ClientController {
 	 */
 	@GetMapping("/dashboard")
 	@PreAuthorize("hasRole('CLIENTE')")
-	public ResponseEntity<MessageResponse> getClientDashboard(@AuthenticationPrincipal Client client) {
+	public ResponseEntity<MessageResponse> getClientDashboard(@CurrentUser Client client) {
 		ClientValidator.validateAuthenticatedClient(client);
 		log.info("Acceso concedido al panel del cliente ID {}", client.getId());
 		return ResponseEntity.ok(new MessageResponse(CLIENT + client.getName()));
@@ -64,7 +64,7 @@ public class ClientController {
 	@PutMapping("/profile")
 	@PreAuthorize("hasRole('CLIENTE')")
 	public ResponseEntity<MessageResponse> updateClientProfile(
-	        @Valid @RequestBody ClientUpdate request, @AuthenticationPrincipal User user) {
+	        @Valid @RequestBody ClientUpdate request, @CurrentUser User user) {
 
 		// Validamos que el usuario autenticado es un cliente
 	    Client client = ClientValidator.validateUserIsClient(user);
@@ -79,7 +79,7 @@ public class ClientController {
 	
 	@GetMapping("/profile")
 	@PreAuthorize("hasRole('CLIENTE')")
-	public ResponseEntity<ClientResponse> getClientProfile(@AuthenticationPrincipal User user) {
+	public ResponseEntity<ClientResponse> getClientProfile(@CurrentUser User user) {
 	    Client client = ClientValidator.validateUserIsClient(user);
 	    ClientValidator.validateAuthenticatedClient(client);
 	    log.info("Cliente ID {} accedió a su perfil personal", client.getId());
@@ -6,6 +6,7 @@ import java.util.List;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import com.petcare.auth.security.TokenRevocationList;
 import com.petcare.domain.client.dto.ClientMapper;
 import com.petcare.domain.client.dto.ClientRequest;
 import com.petcare.domain.client.dto.ClientUpdate;
@@ -30,6 +31,7 @@ public class ClientServiceImpl implements ClientService {
     private final PasswordEncoder passwordEncoder;
     private final PetRepository petRepository;
     private final SystemEmailService systemEmailService;
+    private final TokenRevocationList revocationList;
 
 
     @Override
@@ -150,6 +152,7 @@ public class ClientServiceImpl implements ClientService {
         }
 
         userRepository.delete(client);
+        revocationList.revokeUser(client.getUsername());
         log.info("Cuenta eliminada para cliente con username: {}", client.getUsername());
     }
 }
\ No newline at end of file
@@ -6,6 +6,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.petcare.auth.security.CurrentUser;
 import com.petcare.domain.employee.dto.EmployeeMapper;
 import com.petcare.domain.employee.dto.EmployeeResponse;
 import com.petcare.domain.employee.dto.EmployeeUpdate;
@@ -13,7 +14,6 @@ import com.petcare.utils.dto.MessageResponse;
 import com.petcare.validators.EmployeeValidator;
 import static com.petcare.utils.constants.MessageConstants.*;
 
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 
@@ -49,7 +49,7 @@ public class EmployeeController {
 	 */
 	@GetMapping("/dashboard")
 	@PreAuthorize("hasRole('EMPLEADO')")
-	public ResponseEntity<MessageResponse> getClientDashboard(@AuthenticationPrincipal Employee employee) {
+	public ResponseEntity<MessageResponse> getClientDashboard(@CurrentUser Employee employee) {
 		EmployeeValidator.validateAuthenticatedEmployee(employee);
 		log.info("Acceso concedido al panel del cliente ID {}", employee.getId());
 		return ResponseEntity.ok(new MessageResponse(CLIENT + employee.getName()));
@@ -65,7 +65,7 @@ public class EmployeeController {
 	@PutMapping("/profile")
 	@PreAuthorize("hasRole('EMPLEADO')")
 	public ResponseEntity<MessageResponse> updateEmployeeProfile(@RequestBody EmployeeUpdate request,
-	                                                             @AuthenticationPrincipal Employee employee) {
+	                                                             @CurrentUser Employee employee) {
 		EmployeeValidator.validateAuthenticatedEmployee(employee);
 		employeeService.updateEmployeeProfile(employee, request);
 		log.info("Empleado ID {} actualizó su perfil correctamente", employee.getId());
@@ -74,7 +74,7 @@ public class EmployeeController {
 	
 	@GetMapping("/profile")
 	@PreAuthorize("hasRole('EMPLEADO')")
-	public ResponseEntity<EmployeeResponse> getEmployeeProfile(@AuthenticationPrincipal Employee employee) {
+	public ResponseEntity<EmployeeResponse> getEmployeeProfile(@CurrentUser Employee employee) {
 	    EmployeeValidator.validateAuthenticatedEmployee(employee);
 	    log.info("Empleado ID {} accedió a su perfil personal", employee.getId());
 	    return ResponseEntity.ok(EmployeeMapper.toResponse(employee));
@@ -3,11 +3,23 @@ package com.petcare.domain.employee;
 import java.time.LocalDate;
 import java.util.List;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import com.petcare.enums.Profile;
+
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface EmployeeRepository extends JpaRepository<Employee, Long> {
 
     List<Employee> findByStartDateAfter(LocalDate date);
-}
\ No newline at end of file
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "empleados-consultas")
+    })
+    List<Employee> findByProfileOrderByIdAsc(Profile profile);
+}
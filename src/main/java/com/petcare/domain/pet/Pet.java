@@ -24,7 +24,8 @@ import lombok.*;
 public class Pet extends Auditable {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "mascotas_seq")
+    @SequenceGenerator(name = "mascotas_seq", sequenceName = "mascotas_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "nombre", nullable = false)
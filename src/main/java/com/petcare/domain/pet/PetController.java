@@ -1,5 +1,7 @@
 package com.petcare.domain.pet;
 
+import com.petcare.auth.security.AuthenticatedUser;
+import com.petcare.auth.security.CurrentUser;
 import com.petcare.domain.client.Client;
 import com.petcare.domain.pet.dto.PetRequest;
 import com.petcare.domain.pet.dto.PetResponse;
@@ -13,7 +15,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -52,7 +53,7 @@ public class PetController {
 	 */
 	@PostMapping
 	public ResponseEntity<PetResponse> registerPet(@Valid @RequestBody PetRequest request,
-			@AuthenticationPrincipal User user) {
+			@CurrentUser User user) {
 
 		Client client = ClientValidator.validateUserIsClient(user);
 		
@@ -72,7 +73,7 @@ public class PetController {
 	@PutMapping("/{petId}")
 	public ResponseEntity<PetResponse> updatePet(@PathVariable Long petId,
 			@Valid @RequestBody PetUpdate request,
-			@AuthenticationPrincipal User user) {
+			@CurrentUser User user) {
 
 		Client client = ClientValidator.validateUserIsClient(user);
 		
@@ -90,7 +91,7 @@ public class PetController {
 	 */
 	@DeleteMapping("/{petId}")
 	public ResponseEntity<Void> deletePet(@PathVariable Long petId,
-	                                      @AuthenticationPrincipal User user) {
+	                                      @CurrentUser User user) {
 	    Client client = ClientValidator.validateUserIsClient(user);
 	    petService.deletePet(petId, client);
 	    log.info("Cliente ID {} eliminó la mascota ID {}", client.getId(), petId);
@@ -103,16 +104,16 @@ public class PetController {
 	/**
 	 * Devuelve todas las mascotas registradas por el cliente autenticado.
 	 *
-	 * @param user Usuario autenticado (debe ser cliente).
+	 * @param principal Usuario autenticado (debe ser cliente).
 	 * @return Lista de mascotas asociadas al cliente.
 	 */
 	@GetMapping
-	public ResponseEntity<List<PetResponse>> getClientPets(@AuthenticationPrincipal User user) {
+	public ResponseEntity<List<PetResponse>> getClientPets(@CurrentUser AuthenticatedUser principal) {
 
-		Client client = ClientValidator.validateUserIsClient(user);
+		Long clientId = ClientValidator.validateAuthenticatedClient(principal);
 		
-		List<PetResponse> pets = petService.getPetsByClient(client.getId());
-		log.info("Cliente ID {} solicitó su lista de mascotas ({} encontradas)", client.getId(), pets.size());
+		List<PetResponse> pets = petService.getPetsByClient(clientId);
+		log.info("Cliente ID {} solicitó su lista de mascotas ({} encontradas)", clientId, pets.size());
 		return ResponseEntity.ok(pets);
 	}
 
@@ -3,6 +3,9 @@ package com.petcare.domain.product;
 import com.petcare.config.Auditable;
 import com.petcare.enums.ProductCategory;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import jakarta.persistence.*;
 
 import lombok.AllArgsConstructor;
@@ -13,8 +16,13 @@ import lombok.Setter;
 /**
  * Entidad que representa un producto disponible en la clínica veterinaria.
  * Incluye información básica como nombre, precios, stock y categoría.
+ * <p>
+ * Se guarda en la caché de segundo nivel (región {@code productos}): el catálogo se consulta mucho
+ * más de lo que cambia, y cada modificación hecha a través de Hibernate actualiza la entrada cacheada.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "productos")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -23,7 +31,8 @@ import lombok.Setter;
 public class Product extends Auditable {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "productos_seq")
+    @SequenceGenerator(name = "productos_seq", sequenceName = "productos_seq", allocationSize = 50)
     @Column(name = "id_producto")
     private Long id;
 
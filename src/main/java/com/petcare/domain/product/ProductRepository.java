@@ -3,13 +3,39 @@ package com.petcare.domain.product;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import jakarta.persistence.QueryHint;
+
+/**
+ * Consultas sobre el catálogo de productos.
+ * <p>
+ * Las consultas del catálogo se guardan en la caché de consultas (región {@code productos-consultas}),
+ * que solo conserva los IDs y resuelve cada producto desde la región {@code productos}. Hibernate
+ * descarta estos resultados en cuanto se modifica cualquier producto.
+ */
 public interface ProductRepository extends JpaRepository<Product, Long> {
 
+	@Override
+	@QueryHints({
+		@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+		@QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "productos-consultas")
+	})
+	List<Product> findAll();
+
+	@QueryHints({
+		@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+		@QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "productos-consultas")
+	})
 	List<Product> findByProductCategory(String productCategory);
 
 	List<Product> findByStockLessThan(int threshold);
 
+	@QueryHints({
+		@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+		@QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "productos-consultas")
+	})
 	Optional<Product> findByNameIgnoreCase(String name);
-}
\ No newline at end of file
+}
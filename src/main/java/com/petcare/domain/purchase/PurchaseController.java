@@ -4,10 +4,10 @@ import java.util.List;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import com.petcare.domain.client.Client;
+import com.petcare.auth.security.AuthenticatedUser;
+import com.petcare.auth.security.CurrentUser;
 import com.petcare.domain.purchase.dto.PurchaseRequest;
 import com.petcare.domain.purchase.dto.PurchaseResponse;
 
@@ -61,9 +61,9 @@ public class PurchaseController {
      */
     @GetMapping("/client")
     @PreAuthorize("hasRole('CLIENTE')")
-    public ResponseEntity<List<PurchaseResponse>> getPurchasesByClient(@AuthenticationPrincipal Client client) {
-    	log.info("Consulta de historial de compras para cliente con ID: {}", client.getId());
-    	List<PurchaseResponse> purchases = purchaseService.getPurchasesByClientId(client.getId());
+    public ResponseEntity<List<PurchaseResponse>> getPurchasesByClient(@CurrentUser AuthenticatedUser principal) {
+    	log.info("Consulta de historial de compras para cliente con ID: {}", principal.id());
+    	List<PurchaseResponse> purchases = purchaseService.getPurchasesByClientId(principal.id());
     	return ResponseEntity.ok(purchases);
     }
 
@@ -5,10 +5,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import com.petcare.domain.client.Client;
+import com.petcare.auth.security.AuthenticatedUser;
+import com.petcare.auth.security.CurrentUser;
 import com.petcare.domain.report.dto.LatestReportResponse;
 import com.petcare.domain.report.dto.ReportRequest;
 import com.petcare.domain.report.dto.ReportResponse;
@@ -83,16 +83,16 @@ public class ReportController {
      * Solo se permiten consultas por parte del cliente propietario de la mascota.
      *
      * @param petId ID de la mascota.
-     * @param client Cliente autenticado que realiza la consulta.
+     * @param principal Cliente autenticado que realiza la consulta.
      * @return Lista de informes o respuesta vacía si no hay resultados.
      */
     @GetMapping("/pet/{petId}")
     @PreAuthorize("hasRole('CLIENTE')")
     public ResponseEntity<List<ReportResponse>> getReportsByPet(
             @PathVariable @NotNull Long petId,
-            @AuthenticationPrincipal Client client) {
+            @CurrentUser AuthenticatedUser principal) {
 
-        List<ReportResponse> reports = reportService.getReportsByPet(petId, client.getId());
+        List<ReportResponse> reports = reportService.getReportsByPet(petId, principal.id());
         return reports.isEmpty() ? ResponseEntity.noContent().build() : ResponseEntity.ok(reports);
     }
 
@@ -4,10 +4,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import com.petcare.domain.client.Client;
+import com.petcare.auth.security.AuthenticatedUser;
+import com.petcare.auth.security.CurrentUser;
 import com.petcare.domain.treatment.dto.TreatmentRequest;
 import com.petcare.domain.treatment.dto.TreatmentResponse;
 import com.petcare.domain.treatment.dto.TreatmentUpdate;
@@ -78,15 +78,15 @@ public class TreatmentController {
 	 * Devuelve los tratamientos asociados a una mascota específica del cliente autenticado.
 	 *
 	 * @param petId ID de la mascota.
-	 * @param client Cliente autenticado.
+	 * @param principal Cliente autenticado.
 	 * @return Lista de tratamientos o respuesta vacía si no hay registros.
 	 */
 	@GetMapping("/pet/{petId}")
 	@PreAuthorize("hasRole('CLIENTE')")
 	public ResponseEntity<List<TreatmentResponse>> getTreatmentsByPet(@PathVariable Long petId,
-			@AuthenticationPrincipal Client client) {
-		log.info("El cliente ID {} consulta los tratamientos de su mascota ID {}", client.getId(), petId);
-		List<TreatmentResponse> treatments = treatmentService.getTreatmentsByPet(petId, client.getId());
+			@CurrentUser AuthenticatedUser principal) {
+		log.info("El cliente ID {} consulta los tratamientos de su mascota ID {}", principal.id(), petId);
+		List<TreatmentResponse> treatments = treatmentService.getTreatmentsByPet(petId, principal.id());
 		return treatments.isEmpty() ? ResponseEntity.noContent().build() : ResponseEntity.ok(treatments);
 	}
 }
\ No newline at end of file
@@ -0,0 +1,112 @@
+package com.petcare.domain.user;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import static com.petcare.utils.constants.GlobalConstants.*;
+
+/**
+ * Registro en memoria del último acceso de cada usuario, volcado a base de datos de forma periódica.
+ * <p>
+ * Cada petición autenticada solo anota la hora en un mapa concurrente; si un mismo usuario accede
+ * varias veces entre dos volcados, únicamente se conserva la hora más reciente. Cada
+ * {@value com.petcare.utils.constants.GlobalConstants#LAST_ACCESS_FLUSH_INTERVAL_MS} ms los valores
+ * pendientes se escriben con una única sentencia {@code UPDATE} por lotes, y también al detener la aplicación.
+ * <p>
+ * La columna {@code ultimo_acceso} está marcada como no actualizable en {@link User}, de modo que
+ * guardar la entidad nunca sobrescribe el valor registrado aquí.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LastAccessTracker {
+
+    private static final String UPDATE_LAST_ACCESS_SQL =
+            "UPDATE usuarios SET ultimo_acceso = ? WHERE id = ? AND (ultimo_acceso IS NULL OR ultimo_acceso < ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ConcurrentHashMap<Long, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    /**
+     * Anota el acceso de un usuario en el momento actual.
+     *
+     * @param userId ID del usuario. Los usuarios sin ID (como el administrador del sistema) se ignoran.
+     */
+    public void record(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        pending.put(userId, LocalDateTime.now());
+    }
+
+    /**
+     * Escribe en base de datos los accesos pendientes con una única sentencia por lotes.
+     * <p>
+     * Solo se actualizan las filas cuyo último acceso guardado sea anterior, por lo que un volcado
+     * tardío nunca retrasa la fecha. Si la escritura falla, los valores se devuelven al mapa para el
+     * siguiente intento.
+     *
+     * @return Número de usuarios volcados.
+     */
+    @Scheduled(fixedDelay = LAST_ACCESS_FLUSH_INTERVAL_MS)
+    public synchronized int flush() {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        List<Map.Entry<Long, LocalDateTime>> batch = new ArrayList<>();
+        for (Map.Entry<Long, LocalDateTime> entry : pending.entrySet()) {
+            if (pending.remove(entry.getKey(), entry.getValue())) {
+                batch.add(Map.entry(entry.getKey(), entry.getValue()));
+            }
+        }
+
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_LAST_ACCESS_SQL, batch, batch.size(), (ps, entry) -> {
+                Timestamp lastAccess = Timestamp.valueOf(entry.getValue());
+                ps.setTimestamp(1, lastAccess);
+                ps.setLong(2, entry.getKey());
+                ps.setTimestamp(3, lastAccess);
+            });
+        } catch (RuntimeException e) {
+            for (Map.Entry<Long, LocalDateTime> entry : batch) {
+                pending.merge(entry.getKey(), entry.getValue(), LastAccessTracker::latest);
+            }
+            log.error("No se pudo volcar el último acceso de {} usuarios: {}", batch.size(), e.getMessage());
+            return 0;
+        }
+
+        log.debug("Último acceso volcado para {} usuarios.", batch.size());
+        return batch.size();
+    }
+
+    /**
+     * Vuelca los accesos pendientes antes de detener la aplicación.
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        int flushed = flush();
+        log.info("Último acceso volcado al detener la aplicación para {} usuarios.", flushed);
+    }
+
+    private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+}
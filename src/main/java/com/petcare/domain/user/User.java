@@ -9,10 +9,15 @@ import com.petcare.enums.AccountStatus;
 import com.petcare.enums.Role;
 import com.petcare.enums.UserGender;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "usuarios")
 @Inheritance(strategy = InheritanceType.JOINED)
 @EntityListeners(org.springframework.data.jpa.domain.support.AuditingEntityListener.class)
 @Getter
@@ -25,7 +30,8 @@ public class User extends Auditable implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "usuarios_seq")
+    @SequenceGenerator(name = "usuarios_seq", sequenceName = "usuarios_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "nombre", nullable = false)
@@ -81,4 +87,8 @@ public class User extends Auditable implements Serializable {
 
     @Column(name = "expiracion")
     private LocalDateTime recoveryTokenExpiration;
-}
\ No newline at end of file
+
+    /** Huella SHA-256 del token del enlace de suscripción a su calendario ({@code .ics}); nunca el token. */
+    @Column(name = "token_calendario")
+    private String calendarTokenHash;
+}
@@ -8,6 +8,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import com.petcare.auth.security.JwtUtil;
+import com.petcare.auth.security.TokenRevocationList;
 import com.petcare.domain.client.Client;
 import com.petcare.domain.client.ClientRepository;
 import com.petcare.domain.employee.Employee;
@@ -33,6 +34,7 @@ public class UserAccountServiceImpl implements UserAccountService {
 	private final EmployeeRepository employeeRepository;
 
 	private final UserService userService;
+	private final TokenRevocationList revocationList;
 
 	@Override
 	public void activateAccount(Long id) {
@@ -47,6 +49,7 @@ public class UserAccountServiceImpl implements UserAccountService {
 		User user = userService.getUserById(id);
 		user.setAccountStatus(AccountStatus.DESACTIVADA);
 		userService.saveForUserType(user);
+		revocationList.revokeUser(user.getUsername());
 		log.info("Cuenta desactivada para el usuario con ID: {}", id);
 	}
 
@@ -66,6 +69,7 @@ public class UserAccountServiceImpl implements UserAccountService {
 	    user.setRecoveryTokenExpiration(null);
 	    
 	    userService.saveForUserType(user);
+	    revocationList.revokeUser(user.getUsername());
 	    
 		log.info("Cuenta eliminada para el usuario con username: {}", user.getUsername());
 	}
@@ -79,6 +83,8 @@ public class UserAccountServiceImpl implements UserAccountService {
 	        throw new BusinessException("No se puede eliminar al administrador del sistema.");
 	    }
 
+	    revocationList.revokeUser(user.getUsername());
+
 	    if (user instanceof Client && user.getRole() == Role.CLIENTE) {
 	        clientRepository.delete((Client) user);
 	        log.info("Cliente con ID {} eliminado permanentemente del sistema.", id);
@@ -147,6 +153,7 @@ public class UserAccountServiceImpl implements UserAccountService {
 		user.setRecoveryToken(null);
 		user.setRecoveryTokenExpiration(null);
 		userService.saveForUserType(user);
+		revocationList.revokeUser(email);
 
 		log.info("Contraseña actualizada correctamente para el usuario: {}", email);
 		return true;
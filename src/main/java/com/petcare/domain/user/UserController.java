@@ -7,9 +7,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import com.petcare.auth.security.CurrentUser;
 import com.petcare.domain.user.dto.UserResponse;
 import com.petcare.domain.user.dto.UserUpdate;
 import com.petcare.utils.dto.MessageResponse;
@@ -45,7 +45,7 @@ public class UserController {
 	 */
 	@GetMapping("/me")
 	@PreAuthorize("isAuthenticated()")
-	public ResponseEntity<UserResponse> getCurrentProfile(@AuthenticationPrincipal User user) {
+	public ResponseEntity<UserResponse> getCurrentProfile(@CurrentUser User user) {
 		UserResponse response = userService.getProfile(user);
 		log.info("Perfil consultado para usuario ID {}: tipo {}", user.getId(), user.getClass().getSimpleName());
 		return ResponseEntity.ok(response);
@@ -62,7 +62,7 @@ public class UserController {
 	 */
 	@PatchMapping("/me")
 	@PreAuthorize("isAuthenticated()")
-	public ResponseEntity<MessageResponse> updateMyProfile(@AuthenticationPrincipal User user,
+	public ResponseEntity<MessageResponse> updateMyProfile(@CurrentUser User user,
 	                                                       @Valid @RequestBody UserUpdate request) {
 	    userService.updateUserProfile(user, request);
 	    return ResponseEntity.ok(new MessageResponse("Perfil actualizado correctamente."));
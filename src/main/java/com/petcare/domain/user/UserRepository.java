@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -23,6 +24,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByRecoveryEmail(String email);
 
+    Optional<User> findByCalendarTokenHash(String calendarTokenHash);
+
     boolean existsByUsername(String username);
 
     List<User> findByLastAccessBeforeAndAccountStatus(LocalDateTime cutoffDate, AccountStatus status);
@@ -35,4 +38,42 @@ public interface UserRepository extends JpaRepository<User, Long> {
     	                              @Param("status") AccountStatus status,
     	                              @Param("name") String name,
     	                              Pageable pageable);
+
+    // ╔════════════════════════════════════════════════════╗
+    // ║        CONTADOR DE INTENTOS DE LOGIN FALLIDOS      ║
+    // ╚════════════════════════════════════════════════════╝
+    // Sentencias de una sola fila que no cargan ni guardan la entidad: el valor se calcula en la propia
+    // base de datos, de modo que los intentos concurrentes nunca se pisan. Al no pasar por Hibernate,
+    // quien las invoque debe descartar las copias en caché del usuario.
+
+    /**
+     * Suma un intento fallido al usuario y devuelve el total resultante.
+     */
+    @Transactional
+    @Query(value = "UPDATE usuarios SET errores = COALESCE(errores, 0) + 1 WHERE id = :id RETURNING errores",
+            nativeQuery = true)
+    Integer incrementFailedLoginAttempts(@Param("id") Long userId);
+
+    /**
+     * Pone a cero los intentos fallidos del usuario, solo si tenía alguno.
+     *
+     * @return ID del usuario si se ha modificado, o vacío si ya estaba a cero.
+     */
+    @Transactional
+    @Query(value = "UPDATE usuarios SET errores = 0 WHERE id = :id AND errores <> 0 RETURNING id",
+            nativeQuery = true)
+    List<Long> resetFailedLoginAttempts(@Param("id") Long userId);
+
+    /**
+     * Bloquea la cuenta y guarda el token de recuperación, solo si el usuario ha alcanzado el límite
+     * de intentos y no estaba ya bloqueado. Entre varios intentos simultáneos, solo uno lo consigue.
+     *
+     * @return ID del usuario si esta llamada lo ha bloqueado, o vacío en otro caso.
+     */
+    @Transactional
+    @Query(value = "UPDATE usuarios SET estado = 'BLOQUEADA', token = :token, expiracion = :expiration "
+            + "WHERE id = :id AND estado <> 'BLOQUEADA' AND errores >= :threshold RETURNING id",
+            nativeQuery = true)
+    List<Long> blockAtFailedLoginThreshold(@Param("id") Long userId, @Param("threshold") int threshold,
+            @Param("token") String token, @Param("expiration") LocalDateTime expiration);
 }
\ No newline at end of file
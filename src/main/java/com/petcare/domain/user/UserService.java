@@ -1,5 +1,6 @@
 package com.petcare.domain.user;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import com.petcare.domain.user.dto.UserResponse;
@@ -15,6 +16,12 @@ public interface UserService {
 	User getUserByUsername(String username);
 	
 	void saveForUserType(User User);
+
+	int registerFailedLogin(User user);
+
+	void resetFailedLogins(User user);
+
+	boolean blockAfterFailedLogins(User user, int threshold, String recoveryToken, LocalDateTime expiration);
 	
 	void updateUserProfile(User user, UserUpdate request);
 	
@@ -1,5 +1,6 @@
 package com.petcare.domain.user;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -8,6 +9,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import com.petcare.auth.security.TokenRevocationList;
 import com.petcare.domain.client.Client;
 import com.petcare.domain.client.ClientRepository;
 import com.petcare.domain.client.dto.ClientMapper;
@@ -22,6 +24,7 @@ import com.petcare.enums.Role;
 import com.petcare.validators.AccountValidator;
 import com.petcare.validators.UserValidator;
 
+import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -33,6 +36,8 @@ public class UserServiceImpl implements UserService {
     private final ClientRepository clientRepository;
     private final EmployeeRepository employeeRepository;
     private final UserRepository userRepository;
+    private final TokenRevocationList revocationList;
+    private final EntityManagerFactory entityManagerFactory;
 
     @Override
     public List<User> listUsers() {
@@ -161,4 +166,69 @@ public class UserServiceImpl implements UserService {
 
         log.info("Perfil actualizado correctamente para el usuario con ID: {}", user.getId());
     }
-}
\ No newline at end of file
+
+    // ╔════════════════════════════════════════════════════╗
+    // ║        CONTADOR DE INTENTOS DE LOGIN FALLIDOS      ║
+    // ╚════════════════════════════════════════════════════╝
+
+    /**
+     * Suma un intento de login fallido con una única sentencia atómica.
+     *
+     * @param user Usuario que ha fallado el login.
+     * @return Número de intentos fallidos tras sumar este.
+     */
+    @Override
+    public int registerFailedLogin(User user) {
+        Integer attempts = userRepository.incrementFailedLoginAttempts(user.getId());
+        evictCached(user);
+        user.setFailedLoginAttempts(attempts);
+        return attempts;
+    }
+
+    /**
+     * Pone a cero los intentos fallidos tras un login correcto. Si ya estaban a cero no se escribe nada.
+     *
+     * @param user Usuario autenticado.
+     */
+    @Override
+    public void resetFailedLogins(User user) {
+        if (!userRepository.resetFailedLoginAttempts(user.getId()).isEmpty()) {
+            evictCached(user);
+        }
+        user.setFailedLoginAttempts(0);
+    }
+
+    /**
+     * Bloquea la cuenta al alcanzar el límite de intentos fallidos, guardando el token de recuperación.
+     * <p>
+     * La condición se evalúa en la propia sentencia, por lo que ante varios fallos simultáneos solo uno
+     * bloquea la cuenta (y solo ese debe enviar el correo de recuperación).
+     *
+     * @param user Usuario que ha fallado el login.
+     * @param threshold Número de intentos a partir del cual se bloquea la cuenta.
+     * @param recoveryToken Token para recuperar la cuenta.
+     * @param expiration Caducidad del token.
+     * @return {@code true} si esta llamada ha bloqueado la cuenta.
+     */
+    @Override
+    public boolean blockAfterFailedLogins(User user, int threshold, String recoveryToken, LocalDateTime expiration) {
+        boolean blocked = !userRepository.blockAtFailedLoginThreshold(user.getId(), threshold, recoveryToken,
+                expiration).isEmpty();
+
+        if (blocked) {
+            evictCached(user);
+            revocationList.revokeUser(user.getUsername());
+            user.setAccountStatus(AccountStatus.BLOQUEADA);
+            user.setRecoveryToken(recoveryToken);
+            user.setRecoveryTokenExpiration(expiration);
+        }
+        return blocked;
+    }
+
+    /**
+     * Descarta la copia del usuario en la caché de segundo nivel de Hibernate tras modificarlo con SQL directo.
+     */
+    private void evictCached(User user) {
+        entityManagerFactory.getCache().evict(User.class, user.getId());
+    }
+}
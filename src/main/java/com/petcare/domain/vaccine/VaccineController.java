@@ -5,10 +5,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import com.petcare.domain.client.Client;
+import com.petcare.auth.security.AuthenticatedUser;
+import com.petcare.auth.security.CurrentUser;
 import com.petcare.domain.vaccine.dto.LatestVaccineResponse;
 import com.petcare.domain.vaccine.dto.VaccineRequest;
 import com.petcare.domain.vaccine.dto.VaccineResponse;
@@ -80,15 +80,15 @@ public class VaccineController {
 	 * Solo accesible por usuarios con rol CLIENTE.
 	 *
 	 * @param petId ID de la mascota.
-	 * @param client Cliente autenticado.
+	 * @param principal Cliente autenticado.
 	 * @return Lista de vacunas o respuesta vacía si no tiene ninguna.
 	 */
 	@GetMapping("/pet/{petId}")
 	@PreAuthorize("hasRole('CLIENTE')")
 	public ResponseEntity<List<VaccineResponse>> getVaccinesByPet(@PathVariable @NotNull Long petId,
-			@AuthenticationPrincipal Client client) {
+			@CurrentUser AuthenticatedUser principal) {
 
-		List<VaccineResponse> vaccines = vaccineService.getVaccinesByPet(petId, client.getId());
+		List<VaccineResponse> vaccines = vaccineService.getVaccinesByPet(petId, principal.id());
 		return vaccines.isEmpty() ? ResponseEntity.noContent().build() : ResponseEntity.ok(vaccines);
 	}
 
@@ -0,0 +1,34 @@
+package com.petcare.enums;
+
+/**
+ * Enum que representa el estado de un correo en la bandeja de salida del sistema.
+ * <p>
+ * Los valores posibles son:
+ * <ul>
+ *     <li>{@code PENDIENTE}: el correo está en cola, esperando su envío o un nuevo intento.</li>
+ *     <li>{@code ENVIADO}: el servidor de correo ha aceptado el mensaje.</li>
+ *     <li>{@code FALLIDO}: se agotaron los intentos de envío y el correo no se volverá a intentar.</li>
+ * </ul>
+ */
+public enum EmailStatus implements Labeled {
+
+    PENDIENTE("Pendiente"),
+    ENVIADO("Enviado"),
+    FALLIDO("Fallido");
+
+    /** Etiqueta legible asociada al estado. */
+    private final String label;
+
+    EmailStatus(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Devuelve la etiqueta legible del estado.
+     * @return Texto visible (ej. "Pendiente").
+     */
+    @Override
+    public String getLabel() {
+        return label;
+    }
+}
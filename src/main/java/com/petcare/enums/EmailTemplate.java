@@ -25,7 +25,7 @@ public enum EmailTemplate {
     PASSWORD_RECOVERY("recovery", "Recuperación de contraseña - PetCare"),
 
     /** Correo que informa al usuario de que su cuenta ha sido desactivada */
-    ACCOUNT_DEACTIVATION("deactivated", "Cuenta desactivada por inactividad"),
+    ACCOUNT_DEACTIVATION("desactivated", "Cuenta desactivada por inactividad"),
 
     /** Correo que notifica un bloqueo temporal de la cuenta */
     ACCOUNT_BLOCKED("blocked", "Cuenta bloqueada temporalmente"),
@@ -46,7 +46,10 @@ public enum EmailTemplate {
     BOOKING_ABORTED("aborted", "Cita anulada por la clínica"),
 
     /** Notificación enviada al empleado cuando se le asigna una nueva cita */
-    BOOKING_ASSIGNED("assigned", "Nueva cita asignada - PetCare");
+    BOOKING_ASSIGNED("assigned", "Nueva cita asignada - PetCare"),
+
+    /** Notificación enviada al empleado cuando se le asigna una serie de citas periódicas */
+    BOOKING_SERIES("series", "Nuevas citas periódicas asignadas - PetCare");
 
     private final String fileName;
     private final String subject;
@@ -0,0 +1,51 @@
+package com.petcare.enums;
+
+import java.time.LocalDate;
+
+/**
+ * Enum que representa la frecuencia con la que se repiten las citas de una serie periódica.
+ * <p>
+ * Cada frecuencia sabe calcular la fecha de cualquier repetición a partir de la primera,
+ * de forma que las fechas de una serie mensual se calculan siempre desde el día inicial
+ * (el 31 de enero da lugar al 28 o 29 de febrero y después al 31 de marzo).
+ */
+public enum RecurrenceFrequency implements Labeled {
+
+    SEMANAL("Cada semana"),
+    QUINCENAL("Cada dos semanas"),
+    MENSUAL("Cada mes");
+
+    /** Texto descriptivo para mostrar en formularios o resultados. */
+    private final String label;
+
+    RecurrenceFrequency(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Devuelve el nombre visible de la frecuencia.
+     * @return Etiqueta legible (ej. "Cada semana").
+     */
+    @Override
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Calcula la fecha de una repetición de la serie.
+     *
+     * @param first Fecha de la primera cita.
+     * @param occurrence Posición de la repetición (0 para la primera).
+     * @return Fecha de la repetición indicada.
+     */
+    public LocalDate dateAt(LocalDate first, int occurrence) {
+        switch (this) {
+            case QUINCENAL:
+                return first.plusWeeks(2L * occurrence);
+            case MENSUAL:
+                return first.plusMonths(occurrence);
+            default:
+                return first.plusWeeks(occurrence);
+        }
+    }
+}
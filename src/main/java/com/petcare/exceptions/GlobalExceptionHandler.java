@@ -47,6 +47,11 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(ex.getMessage(), HttpStatus.FORBIDDEN, request, "ACCOUNT_ERROR");
     }
 
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyRequests(TooManyRequestsException ex, HttpServletRequest request) {
+        return buildErrorResponse(ex.getMessage(), HttpStatus.TOO_MANY_REQUESTS, request, "TOO_MANY_REQUESTS");
+    }
+
     @ExceptionHandler(BookingException.class)
     public ResponseEntity<ErrorResponse> handleBooking(BookingException ex, HttpServletRequest request) {
         return buildErrorResponse(ex.getMessage(), HttpStatus.BAD_REQUEST, request, "BOOKING_ERROR");
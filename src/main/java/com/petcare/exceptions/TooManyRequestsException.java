@@ -0,0 +1,12 @@
+package com.petcare.exceptions;
+
+/**
+ * Excepción para peticiones rechazadas por exceso de carga o por superar el límite de intentos.
+ */
+public class TooManyRequestsException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+}
@@ -1,5 +1,7 @@
 package com.petcare.notification;
 
+import java.util.List;
+
 /**
  * Interfaz especializada para el envío de correos relacionados con la gestión
  * de citas.
@@ -23,4 +25,10 @@ public interface BookingEmailService {
 
 	void sendBookingAssigned(String recipientEmail, String clientName, String petName, String date, String time,
 			String type);
+
+	void sendBookingReassigned(String recipientEmail, String clientName, String date, String time,
+			String employeeName, String type);
+
+	void sendBookingSeriesAssigned(String recipientEmail, String clientName, String petName, List<String> dates,
+			String time, String type, String frequency);
 }
\ No newline at end of file
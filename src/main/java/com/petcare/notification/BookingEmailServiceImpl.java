@@ -1,11 +1,13 @@
 package com.petcare.notification;
 
+import com.petcare.enums.BookingStatus;
 import com.petcare.enums.EmailTemplate;
 import com.petcare.utils.constants.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -56,6 +58,29 @@ public class BookingEmailServiceImpl implements BookingEmailService {
         }
     }
 
+    /**
+     * Informa al cliente del profesional que atenderá su cita tras reasignarse. Usa la plantilla de
+     * confirmación con el estado {@code CONFIRMADA}, que no muestra el bloque de estado.
+     */
+    @Override
+    public void sendBookingReassigned(String recipientEmail, String clientName, String date, String time,
+                                      String employeeName, String type) {
+        try {
+            Map<String, Object> variables = Map.of(
+                "clientName", clientName,
+                "date", date,
+                "time", time,
+                "employeeName", employeeName,
+                "type", type,
+                "status", BookingStatus.CONFIRMADA
+            );
+            String content = emailTemplate.render(EmailTemplate.BOOKING_CONFIRMATION, variables);
+            systemEmailService.sendHtmlEmail(recipientEmail, EmailTemplate.BOOKING_CONFIRMATION.getSubject(), content);
+        } catch (Exception e) {
+            throw new RuntimeException(EmailConstants.SEND_BOOKING_CONFIRMATION_ERROR, e);
+        }
+    }
+
     @Override
     public void sendBookingAssigned(String recipientEmail, String clientName, String petName,
                                     String date, String time, String type) {
@@ -74,6 +99,25 @@ public class BookingEmailServiceImpl implements BookingEmailService {
         }
     }
 
+    @Override
+    public void sendBookingSeriesAssigned(String recipientEmail, String clientName, String petName,
+                                          List<String> dates, String time, String type, String frequency) {
+        try {
+            Map<String, Object> variables = Map.of(
+                "clientName", clientName,
+                "petName", petName,
+                "dates", dates,
+                "time", time,
+                "type", type,
+                "frequency", frequency
+            );
+            String content = emailTemplate.render(EmailTemplate.BOOKING_SERIES, variables);
+            systemEmailService.sendHtmlEmail(recipientEmail, EmailTemplate.BOOKING_SERIES.getSubject(), content);
+        } catch (Exception e) {
+            throw new RuntimeException(EmailConstants.SEND_BOOKING_SERIES_ERROR, e);
+        }
+    }
+
     @Override
     public void sendBookingInfoUpdate(String recipientEmail, String clientName, String petName, String oldDate, String date,
                                       String time, String employeeName, String type) {
@@ -0,0 +1,163 @@
+package com.petcare.notification;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.stereotype.Component;
+
+import com.petcare.domain.booking.AffectedBooking;
+import com.petcare.domain.booking.BookingRepository;
+import com.petcare.domain.booking.event.BookingCreated;
+import com.petcare.domain.booking.event.BookingRescheduled;
+import com.petcare.domain.booking.event.BookingSeriesCreated;
+import com.petcare.domain.booking.event.BookingsReleased;
+import com.petcare.utils.constants.UrlConstants;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import static com.petcare.utils.constants.GlobalConstants.*;
+
+/**
+ * Suscriptor de los eventos de citas que generan notificaciones.
+ * <p>
+ * Se ejecuta justo antes de confirmar la transacción que publica el evento y dentro de ella, de modo
+ * que los correos quedan en la bandeja de salida ({@link EmailOutbox}) si y solo si el cambio de la cita
+ * se confirma: una caída tras la confirmación ya no puede perder avisos. El envío real sigue siendo
+ * asíncrono, a cargo de {@link EmailOutboxDispatcher}.
+ * <p>
+ * Solo los suscriptores que no escriben nada que deba sobrevivir a un fallo (notificaciones en directo,
+ * índice de disponibilidad y estadísticas) se ejecutan tras la confirmación y en segundo plano.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BookingNotificationListener {
+
+    private final BookingEmailService bookingEmailService;
+    private final BookingRepository bookingRepository;
+
+    /**
+     * Avisa al empleado asignado de que tiene una nueva cita.
+     *
+     * @param event Cita registrada.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onBookingCreated(BookingCreated event) {
+        try {
+            bookingEmailService.sendBookingAssigned(
+                event.employeeEmail(),
+                event.clientName(),
+                event.petName(),
+                event.date().format(DATE_FORMATTER),
+                event.time().format(TIME_FORMATTER),
+                event.type().name()
+            );
+        } catch (Exception e) {
+            log.error("No se pudo notificar al empleado la cita ID {}: {}", event.bookingId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Avisa al empleado asignado de una nueva serie de citas con un único correo que resume todas las fechas.
+     *
+     * @param event Serie registrada.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onBookingSeriesCreated(BookingSeriesCreated event) {
+        List<String> dates = new ArrayList<>(event.dates().size());
+        for (LocalDate date : event.dates()) {
+            dates.add(date.format(DATE_FORMATTER));
+        }
+
+        try {
+            bookingEmailService.sendBookingSeriesAssigned(
+                event.employeeEmail(),
+                event.clientName(),
+                event.petName(),
+                dates,
+                event.time().format(TIME_FORMATTER),
+                event.type().name(),
+                event.frequency().getLabel()
+            );
+        } catch (Exception e) {
+            log.error("No se pudo notificar al empleado la serie de citas {}: {}", event.bookingIds(), e.getMessage());
+        }
+    }
+
+    /**
+     * Deja de nuevo pendiente el recordatorio de una cita confirmada que cambia de día,
+     * para que se envíe también para la nueva fecha.
+     *
+     * @param event Cita modificada.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onBookingRescheduled(BookingRescheduled event) {
+        if (!event.active() || event.date().equals(event.previousDate())) {
+            return;
+        }
+
+        if (bookingRepository.resetReminder(event.bookingId(), LocalDateTime.now()) > 0) {
+            log.info("Recordatorio de la cita ID {} pendiente de nuevo tras cambiar al {}.", event.bookingId(), event.date());
+        }
+    }
+
+    /**
+     * Avisa a los clientes de las citas anuladas o reasignadas, y a los profesionales de las citas que
+     * reciben, al liberarse la agenda de un empleado.
+     * <p>
+     * Todos los correos se registran en la misma transacción que la liberación; al confirmarla, Hibernate
+     * los inserta en la bandeja de salida en lotes JDBC en lugar de una escritura independiente por correo.
+     * Si un correo no se puede preparar, se registra el error y se continúa con los demás.
+     *
+     * @param event Agenda liberada.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onBookingsReleased(BookingsReleased event) {
+        for (AffectedBooking booking : event.aborted()) {
+            try {
+                bookingEmailService.sendBookingAborted(
+                    booking.clientEmail(),
+                    booking.clientName(),
+                    event.employeeName(),
+                    booking.date().format(DATE_FORMATTER),
+                    booking.time().format(TIME_FORMATTER),
+                    UrlConstants.BOOKINGS_URL
+                );
+            } catch (Exception e) {
+                log.error("No se pudo avisar de la anulación de la cita ID {}: {}", booking.id(), e.getMessage());
+            }
+        }
+
+        for (BookingsReleased.Reassignment reassignment : event.reassigned()) {
+            AffectedBooking booking = reassignment.booking();
+            try {
+                bookingEmailService.sendBookingAssigned(
+                    reassignment.employeeEmail(),
+                    booking.clientName(),
+                    booking.petName(),
+                    booking.date().format(DATE_FORMATTER),
+                    booking.time().format(TIME_FORMATTER),
+                    booking.type().name()
+                );
+                bookingEmailService.sendBookingReassigned(
+                    booking.clientEmail(),
+                    booking.clientName(),
+                    booking.date().format(DATE_FORMATTER),
+                    booking.time().format(TIME_FORMATTER),
+                    reassignment.employeeName(),
+                    booking.type().name()
+                );
+            } catch (Exception e) {
+                log.error("No se pudo avisar de la reasignación de la cita ID {}: {}", booking.id(), e.getMessage());
+            }
+        }
+
+        log.info("Avisos de la agenda liberada del empleado ID {} encolados: {} anulaciones, {} reasignaciones.",
+                event.employeeId(), event.aborted().size(), event.reassigned().size());
+    }
+}
@@ -0,0 +1,47 @@
+package com.petcare.notification;
+
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.petcare.enums.EmailStatus;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bandeja de salida de correos del sistema.
+ * <p>
+ * Guarda cada correo ya renderizado como una fila de {@link OutboxEmail}. Si existe una transacción
+ * en curso, el correo se registra dentro de ella: solo se enviará si la operación que lo genera
+ * se confirma. El envío real lo realiza {@link EmailOutboxDispatcher} en segundo plano.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmailOutbox {
+
+    private final OutboxEmailRepository outboxEmailRepository;
+
+    /**
+     * Añade un correo a la bandeja de salida.
+     *
+     * @param recipient Dirección del destinatario.
+     * @param subject Asunto del correo.
+     * @param body Contenido HTML ya renderizado y con estilos aplicados.
+     */
+    @Transactional
+    public void enqueue(String recipient, String subject, String body) {
+        OutboxEmail email = new OutboxEmail();
+        email.setRecipient(recipient);
+        email.setSubject(subject);
+        email.setBody(body);
+        email.setStatus(EmailStatus.PENDIENTE);
+        email.setAttempts(0);
+        email.setNextAttemptAt(LocalDateTime.now());
+
+        OutboxEmail saved = outboxEmailRepository.save(email);
+        log.debug("Correo [{}] para {} añadido a la bandeja de salida (ID {}).", subject, recipient, saved.getId());
+    }
+}
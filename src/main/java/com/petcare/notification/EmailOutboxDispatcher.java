@@ -0,0 +1,204 @@
+package com.petcare.notification;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import com.petcare.enums.EmailStatus;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import static com.petcare.utils.constants.EmailConstants.*;
+
+/**
+ * Tarea en segundo plano que vacía la bandeja de salida de correos.
+ * <p>
+ * Cada {@code OUTBOX_DISPATCH_DELAY_MS} milisegundos recoge los correos pendientes, los reparte en lotes
+ * de {@code OUTBOX_BATCH_SIZE} y envía cada lote desde el ejecutor {@code emailExecutor}. Cada lote
+ * se envía con una única llamada a {@link JavaMailSender#send(MimeMessage...)}, que reutiliza la misma
+ * conexión SMTP para todos sus mensajes.
+ * <p>
+ * Los correos que fallan se reprograman con espera exponencial a partir de
+ * {@code OUTBOX_RETRY_BASE_SECONDS}; tras {@code OUTBOX_MAX_ATTEMPTS} intentos quedan como
+ * {@link EmailStatus#FALLIDO}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmailOutboxDispatcher {
+
+    private final OutboxEmailRepository outboxEmailRepository;
+    private final JavaMailSender mailSender;
+    private final TemplateRenderer templateRenderer;
+    private final ThreadPoolTaskExecutor emailExecutor;
+
+    @Value("${mail.from.address}")
+    private String emailFromAddress;
+
+    /**
+     * Envía todos los correos pendientes cuyo siguiente intento ha vencido.
+     */
+    @Scheduled(fixedDelay = OUTBOX_DISPATCH_DELAY_MS)
+    public void dispatch() {
+        LocalDateTime now = LocalDateTime.now();
+        Pageable page = PageRequest.of(0, OUTBOX_PAGE_SIZE);
+
+        List<OutboxEmail> due = outboxEmailRepository.findDue(now, page);
+        while (!due.isEmpty()) {
+            List<List<OutboxEmail>> batches = new ArrayList<>();
+            List<Future<Map<OutboxEmail, String>>> deliveries = new ArrayList<>();
+            for (int from = 0; from < due.size(); from += OUTBOX_BATCH_SIZE) {
+                List<OutboxEmail> batch = due.subList(from, Math.min(from + OUTBOX_BATCH_SIZE, due.size()));
+                batches.add(batch);
+                deliveries.add(emailExecutor.submit(() -> deliver(batch)));
+            }
+
+            Map<OutboxEmail, String> failures = new HashMap<>();
+            for (int i = 0; i < deliveries.size(); i++) {
+                try {
+                    failures.putAll(deliveries.get(i).get());
+                } catch (ExecutionException e) {
+                    log.error("Error inesperado al enviar un lote de correos: {}", e.getCause().getMessage());
+                    for (OutboxEmail email : batches.get(i)) {
+                        failures.put(email, String.valueOf(e.getCause().getMessage()));
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+
+            List<Long> sentIds = new ArrayList<>();
+            List<OutboxEmail> retries = new ArrayList<>();
+            for (OutboxEmail email : due) {
+                String error = failures.get(email);
+                if (error == null) {
+                    sentIds.add(email.getId());
+                } else {
+                    scheduleRetry(email, error);
+                    retries.add(email);
+                }
+            }
+
+            if (!sentIds.isEmpty()) {
+                outboxEmailRepository.markSent(sentIds, LocalDateTime.now());
+            }
+            if (!retries.isEmpty()) {
+                outboxEmailRepository.saveAll(retries);
+            }
+
+            log.info("Bandeja de salida: {} correos enviados, {} con error.", sentIds.size(), retries.size());
+
+            if (due.size() < OUTBOX_PAGE_SIZE) {
+                return;
+            }
+            due = outboxEmailRepository.findDue(now, page);
+        }
+    }
+
+    /**
+     * Envía un lote de correos. Se ejecuta en el ejecutor de correo.
+     *
+     * @return Correos que han fallado junto a su error.
+     */
+    private Map<OutboxEmail, String> deliver(List<OutboxEmail> batch) {
+        Map<OutboxEmail, String> failures = new HashMap<>();
+        Map<MimeMessage, OutboxEmail> owners = new HashMap<>();
+        List<MimeMessage> messages = new ArrayList<>();
+
+        for (OutboxEmail email : batch) {
+            try {
+                MimeMessage message = toMimeMessage(email);
+                messages.add(message);
+                owners.put(message, email);
+            } catch (MessagingException e) {
+                failures.put(email, e.getMessage());
+            }
+        }
+
+        if (messages.isEmpty()) {
+            return failures;
+        }
+
+        try {
+            mailSender.send(messages.toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            Map<Object, Exception> failedMessages = e.getFailedMessages();
+            if (failedMessages.isEmpty()) {
+                for (MimeMessage message : messages) {
+                    failures.put(owners.get(message), e.getMessage());
+                }
+            }
+            for (Map.Entry<Object, Exception> failed : failedMessages.entrySet()) {
+                OutboxEmail owner = owners.get(failed.getKey());
+                if (owner != null) {
+                    failures.put(owner, failed.getValue().getMessage());
+                }
+            }
+        } catch (MailException e) {
+            for (MimeMessage message : messages) {
+                failures.put(owners.get(message), e.getMessage());
+            }
+        }
+
+        return failures;
+    }
+
+    private MimeMessage toMimeMessage(OutboxEmail email) throws MessagingException {
+        MimeMessage mimeMessage = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, StandardCharsets.UTF_8.name());
+
+        helper.setFrom(emailFromAddress);
+        helper.setTo(email.getRecipient());
+        helper.setSubject(email.getSubject());
+        helper.setText(email.getBody(), true);
+
+        helper.addInline(LOGO_CID, templateRenderer.getLogo(), LOGO_CONTENT_TYPE);
+
+        return mimeMessage;
+    }
+
+    private void scheduleRetry(OutboxEmail email, String error) {
+        int attempts = email.getAttempts() + 1;
+        email.setAttempts(attempts);
+        email.setLastError(truncate(error));
+
+        if (attempts >= OUTBOX_MAX_ATTEMPTS) {
+            email.setStatus(EmailStatus.FALLIDO);
+            log.error("Correo ID {} para {} descartado tras {} intentos: {}", email.getId(), email.getRecipient(),
+                    attempts, error);
+            return;
+        }
+
+        long delaySeconds = OUTBOX_RETRY_BASE_SECONDS << (attempts - 1);
+        email.setNextAttemptAt(LocalDateTime.now().plusSeconds(delaySeconds));
+        log.warn("Correo ID {} para {} reprogramado en {} s (intento {}): {}", email.getId(), email.getRecipient(),
+                delaySeconds, attempts, error);
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= OUTBOX_ERROR_MAX_LENGTH) {
+            return error;
+        }
+        return error.substring(0, OUTBOX_ERROR_MAX_LENGTH);
+    }
+}
@@ -0,0 +1,59 @@
+package com.petcare.notification;
+
+import java.time.LocalDateTime;
+
+import com.petcare.config.Auditable;
+import com.petcare.enums.EmailStatus;
+
+import jakarta.persistence.*;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Entidad que representa un correo ya renderizado en la bandeja de salida.
+ * <p>
+ * Los correos se guardan en la misma transacción que la operación que los genera
+ * y se envían después en segundo plano desde {@link EmailOutboxDispatcher}.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "correos_salida")
+public class OutboxEmail extends Auditable {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "correos_salida_seq")
+    @SequenceGenerator(name = "correos_salida_seq", sequenceName = "correos_salida_seq", allocationSize = 50)
+    @Column(name = "id_correo")
+    private Long id;
+
+    @Column(name = "destinatario", nullable = false)
+    private String recipient;
+
+    @Column(name = "asunto", nullable = false)
+    private String subject;
+
+    @Column(name = "contenido", nullable = false, columnDefinition = "TEXT")
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "estado", nullable = false)
+    private EmailStatus status = EmailStatus.PENDIENTE;
+
+    @Column(name = "intentos", nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "siguiente_intento", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "ultimo_error", length = 500)
+    private String lastError;
+
+    @Column(name = "fecha_envio")
+    private LocalDateTime sentAt;
+}
@@ -0,0 +1,41 @@
+package com.petcare.notification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface OutboxEmailRepository extends JpaRepository<OutboxEmail, Long> {
+
+    /**
+     * Devuelve los correos pendientes cuyo siguiente intento ya ha vencido, en orden de llegada.
+     */
+    @Query("""
+        SELECT e
+        FROM OutboxEmail e
+        WHERE e.status = 'PENDIENTE'
+          AND e.nextAttemptAt <= :now
+        ORDER BY e.id ASC
+    """)
+    List<OutboxEmail> findDue(LocalDateTime now, Pageable pageable);
+
+    /**
+     * Marca como enviados un conjunto de correos en una única sentencia.
+     *
+     * @return Número de correos actualizados.
+     */
+    @Modifying
+    @Transactional
+    @Query("""
+        UPDATE OutboxEmail e
+        SET e.status = 'ENVIADO', e.sentAt = :now, e.updatedAt = :now, e.lastError = NULL
+        WHERE e.id IN :ids
+    """)
+    int markSent(List<Long> ids, LocalDateTime now);
+}
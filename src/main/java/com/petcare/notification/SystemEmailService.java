@@ -25,6 +25,6 @@ public interface SystemEmailService {
 	/** Enviar email cuando una cuenta ha sido bloqueada por seguridad. */
 	void sendAccountBlockedEmail(String recipientEmail, String displayName, String recoveryLink);
 
-	/** Enviar cualquier email HTML ya renderizado. */
+	/** Encolar cualquier email HTML ya renderizado en la bandeja de salida para su envío en segundo plano. */
 	void sendHtmlEmail(String to, String subject, String htmlBody);
 }
\ No newline at end of file
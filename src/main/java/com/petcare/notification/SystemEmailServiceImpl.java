@@ -3,18 +3,10 @@ package com.petcare.notification;
 import com.petcare.enums.EmailTemplate;
 import com.petcare.enums.Role;
 import com.petcare.utils.constants.*;
-import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.ResourceLoader;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
 @Service
@@ -22,13 +14,9 @@ import java.util.Map;
 @Slf4j
 public class SystemEmailServiceImpl implements SystemEmailService {
 
-    private final JavaMailSender mailSender;
-    private final ResourceLoader resourceLoader;
+    private final EmailOutbox emailOutbox;
     private final TemplateRenderer emailTemplate;
 
-    @Value("${mail.from.address}")
-    private String emailFromAddress;
-
     @Override
     public void sendWelcomeEmail(String recipientEmail, String role, String displayName, String username, String password) {
         EmailTemplate template;
@@ -132,35 +120,17 @@ public class SystemEmailServiceImpl implements SystemEmailService {
         }
     }
 
+    /**
+     * Deja en la bandeja de salida un correo ya renderizado por {@link TemplateRenderer}
+     * (con los estilos comunes aplicados). El envío real se realiza en segundo plano desde
+     * {@link EmailOutboxDispatcher}.
+     */
     @Override
     public void sendHtmlEmail(String to, String subject, String htmlBody) {
         try {
-            String styledHtml = applyStyles(htmlBody);
-            MimeMessage mimeMessage = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, StandardCharsets.UTF_8.name());
-
-            helper.setFrom(emailFromAddress);
-            helper.setTo(to);
-            helper.setSubject(subject);
-            helper.setText(styledHtml, true);
-
-            Resource logo = resourceLoader.getResource(EmailConstants.LOGO_IMAGE_PATH);
-            helper.addInline("logo", logo);
-
-            mailSender.send(mimeMessage);
+            emailOutbox.enqueue(to, subject, htmlBody);
         } catch (Exception e) {
             throw new RuntimeException(EmailConstants.SEND_HTML_ERROR, e);
         }
     }
-
-    private String applyStyles(String htmlContent) {
-        try {
-            Resource resource = resourceLoader.getResource("classpath:templates/css/templates.css");
-            byte[] fileData = resource.getInputStream().readAllBytes();
-            String commonStyles = new String(fileData, StandardCharsets.UTF_8);
-            return htmlContent.replace("/* {{styles}} */", commonStyles);
-        } catch (IOException e) {
-            throw new RuntimeException(EmailConstants.LOAD_STYLESHEET_ERROR, e);
-        }
-    }
 }
\ No newline at end of file
@@ -2,32 +2,64 @@ package com.petcare.notification;
 
 import com.petcare.enums.EmailTemplate;
 import com.petcare.utils.constants.*;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Component;
 import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.context.Context;
 import org.thymeleaf.spring6.SpringTemplateEngine;
-import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.StringTemplateResolver;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
 import java.util.Locale;
 import java.util.Map;
 
 /**
  * Componente que gestiona la carga y renderizado de plantillas HTML de correo usando Thymeleaf.
- * Configura la carpeta de plantillas, codificación y modo de procesamiento.
+ * <p>
+ * Al arrancar, lee una única vez todas las plantillas de {@link EmailTemplate}, les incorpora
+ * la hoja de estilos común y las registra en un resolutor en memoria con caché, de modo que cada
+ * plantilla se analiza solo la primera vez que se usa. El logotipo que se incrusta en los correos
+ * también se mantiene en memoria.
+ * <p>
+ * El HTML se genera sobre un búfer reutilizado por hilo, evitando reservar uno nuevo en cada correo.
  */
 @Component
 public class TemplateRenderer {
 
+    /** Tamaño inicial del búfer de renderizado, suficiente para las plantillas actuales. */
+    private static final int RENDER_BUFFER_SIZE = 16 * 1024;
+
     private final TemplateEngine templateEngine;
+    private final Map<EmailTemplate, String> templates = new EnumMap<>(EmailTemplate.class);
+    private final ByteArrayResource logo;
+
+    private final ThreadLocal<StringWriter> buffers = new ThreadLocal<StringWriter>() {
+        @Override
+        protected StringWriter initialValue() {
+            return new StringWriter(RENDER_BUFFER_SIZE);
+        }
+    };
 
     public TemplateRenderer() {
-        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
-        resolver.setPrefix(EmailConstants.TEMPLATE_FOLDER);
-        resolver.setSuffix(EmailConstants.TEMPLATE_SUFFIX);
-        resolver.setTemplateMode(EmailConstants.TEMPLATE_MODE);
-        resolver.setCharacterEncoding(StandardCharsets.UTF_8.name());
-        resolver.setCheckExistence(true); // Evita fallos silenciosos si la plantilla no existe
+        String commonStyles = read(EmailConstants.STYLESHEET_PATH, EmailConstants.LOAD_STYLESHEET_ERROR);
+        for (EmailTemplate template : EmailTemplate.values()) {
+            String path = EmailConstants.TEMPLATE_FOLDER + template.getFileName() + EmailConstants.TEMPLATE_SUFFIX;
+            String html = read(path, EmailConstants.LOAD_TEMPLATE_ERROR + path);
+            templates.put(template, html.replace(EmailConstants.STYLES_PLACEHOLDER, commonStyles));
+        }
+
+        this.logo = new ByteArrayResource(readBytes(EmailConstants.LOGO_IMAGE_PATH, EmailConstants.LOAD_LOGO_ERROR));
+
+        StringTemplateResolver resolver = new StringTemplateResolver();
+        resolver.setTemplateMode(TemplateMode.parse(EmailConstants.TEMPLATE_MODE));
+        resolver.setCacheable(true); // Cada plantilla se analiza una sola vez y se reutiliza sin caducidad
+        resolver.setCacheTTLMs(null);
 
         this.templateEngine = new SpringTemplateEngine();
         this.templateEngine.setTemplateResolver(resolver);
@@ -38,11 +70,36 @@ public class TemplateRenderer {
      *
      * @param template  plantilla definida en el enum EmailTemplate
      * @param variables mapa clave-valor con los datos que serán reemplazados en el HTML
-     * @return el HTML renderizado como String
+     * @return el HTML renderizado como String, con los estilos comunes ya aplicados
      */
     public String render(EmailTemplate template, Map<String, Object> variables) {
         Context context = new Context(Locale.getDefault());
         context.setVariables(variables);
-        return templateEngine.process(template.getFileName(), context);
+
+        StringWriter buffer = buffers.get();
+        buffer.getBuffer().setLength(0);
+        templateEngine.process(templates.get(template), context, buffer);
+        return buffer.toString();
+    }
+
+    /**
+     * Devuelve el logotipo que se incrusta en los correos, cargado en memoria al arrancar.
+     *
+     * @return Imagen del logotipo.
+     */
+    public ByteArrayResource getLogo() {
+        return logo;
+    }
+
+    private static String read(String path, String errorMessage) {
+        return new String(readBytes(path, errorMessage), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] readBytes(String path, String errorMessage) {
+        try (InputStream input = new ClassPathResource(path).getInputStream()) {
+            return input.readAllBytes();
+        } catch (IOException e) {
+            throw new IllegalStateException(errorMessage, e);
+        }
     }
-}
\ No newline at end of file
+}
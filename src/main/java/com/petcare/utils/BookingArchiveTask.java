@@ -0,0 +1,62 @@
+package com.petcare.utils;
+
+import java.time.LocalDate;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.petcare.admin.BookingStatsCache;
+import com.petcare.domain.booking.archive.BookingArchive;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import static com.petcare.utils.constants.GlobalConstants.*;
+
+/**
+ * Tarea programada que traslada las citas finalizadas antiguas al histórico.
+ * <p>
+ * Las citas ANULADAS, CANCELADAS o COMPLETADAS con fecha anterior al horizonte configurado en
+ * {@code booking.archive.after-days} se mueven a {@code citas_historico} en lotes de
+ * {@code BOOKING_ARCHIVE_BATCH_SIZE} citas. Cada lote se confirma por separado, por lo que una
+ * ejecución interrumpida se retoma sin problemas en la siguiente.
+ * </p>
+ * Se ejecuta automáticamente todos los días a las 03:00 AM, después del cierre de citas pasadas.
+ */
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BookingArchiveTask {
+
+    private final BookingArchive bookingArchive;
+    private final BookingStatsCache bookingStatsCache;
+
+    /**
+     * Archiva las citas finalizadas anteriores al horizonte de archivo.
+     *
+     * @return Número de citas archivadas en la ejecución.
+     */
+
+    @Scheduled(cron = "0 0 3 * * *") // Ejecuta todos los días a las 03:00 AM
+    public int archiveClosedBookings() {
+        LocalDate cutoff = bookingArchive.cutoff();
+
+        int archived = 0;
+        int batches = 0;
+        int moved;
+        do {
+            moved = bookingArchive.archiveBatch(cutoff, BOOKING_ARCHIVE_BATCH_SIZE);
+            archived += moved;
+            batches++;
+        } while (moved == BOOKING_ARCHIVE_BATCH_SIZE);
+
+        if (archived > 0) {
+            bookingStatsCache.invalidate();
+        }
+
+        log.info("Histórico de citas: {} citas finalizadas anteriores al {} archivadas en {} lotes.",
+                archived, cutoff, batches);
+        return archived;
+    }
+}
@@ -0,0 +1,70 @@
+package com.petcare.utils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.petcare.admin.BookingStatsCache;
+import com.petcare.domain.booking.BookingIdRange;
+import com.petcare.domain.booking.BookingRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import static com.petcare.utils.constants.GlobalConstants.*;
+
+/**
+ * Tarea programada que cierra las citas pasadas que siguen confirmadas.
+ * <p>
+ * Las citas CONFIRMADAS de días anteriores al actual pasan a COMPLETADA, de modo que dejan de
+ * aparecer como activas en los listados y en las estadísticas.
+ * </p>
+ * Las citas se recorren por tramos de {@code BOOKING_COMPLETION_BATCH_SIZE} IDs consecutivos y cada
+ * tramo se actualiza con una única sentencia masiva, sin cargar entidades. Cada tramo se confirma por
+ * separado, por lo que una ejecución interrumpida se retoma sin problemas en la siguiente.
+ * Se ejecuta automáticamente todos los días a las 00:30 AM.
+ */
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BookingCompletionTask {
+
+    private final BookingRepository bookingRepository;
+    private final BookingStatsCache bookingStatsCache;
+
+    /**
+     * Marca como completadas las citas confirmadas de días anteriores.
+     *
+     * @return Número de citas actualizadas en la ejecución.
+     */
+
+    @Scheduled(cron = "0 30 0 * * *") // Ejecuta todos los días a las 00:30 AM
+    public int completePastBookings() {
+        LocalDate today = LocalDate.now();
+        BookingIdRange range = bookingRepository.findStaleIdRange(today);
+
+        if (range == null || range.getMinId() == null) {
+            log.info("Cierre de citas pasadas: no hay citas confirmadas anteriores al {}.", today);
+            return 0;
+        }
+
+        int updated = 0;
+        int batches = 0;
+        for (long fromId = range.getMinId(); fromId <= range.getMaxId(); fromId += BOOKING_COMPLETION_BATCH_SIZE) {
+            long toId = Math.min(fromId + BOOKING_COMPLETION_BATCH_SIZE - 1, range.getMaxId());
+            updated += bookingRepository.completeStale(fromId, toId, today, LocalDateTime.now());
+            batches++;
+        }
+
+        if (updated > 0) {
+            bookingStatsCache.invalidate();
+        }
+
+        log.info("Cierre de citas pasadas: {} citas anteriores al {} marcadas como completadas en {} tramos.",
+                updated, today, batches);
+        return updated;
+    }
+}
@@ -2,14 +2,15 @@ package com.petcare.utils;
 
 import com.petcare.enums.BookingStatus;
 import com.petcare.enums.BookingType;
-import com.petcare.domain.booking.Booking;
+import com.petcare.domain.booking.BookingCount;
 
 import java.util.*;
 
 /**
- * Clase de utilidades estadísticas para analizar listas de citas {@link Booking},
- * permitiendo contar por estado o tipo, calcular porcentajes, y detectar el tipo más o menos demandado.
+ * Clase de utilidades estadísticas para analizar los conteos agregados de citas ({@link BookingCount}),
+ * permitiendo totalizar por estado o tipo, calcular porcentajes, y detectar el tipo más o menos demandado.
  * <p>
+ * Trabaja sobre el resultado de una consulta {@code GROUP BY}, de modo que nunca necesita cargar las citas.
  * Todas sus funciones son estáticas y la clase no es instanciable.
  * </p>
  */
@@ -22,21 +23,38 @@ public final class BookingStats {
 	
     private BookingStats() { }
 
+    /**
+     * Calcula el número total de citas.
+     *
+     * @param counts Conteos agregados por estado y tipo (puede ser {@code null} o vacía).
+     * @return Suma de todos los conteos, o 0 si la lista es {@code null}.
+     */
+    
+    public static int total(List<BookingCount> counts) {
+        int total = 0;
+        if (counts == null) return total;
+
+        for (BookingCount count : counts) {
+            total += (int) count.getTotal();
+        }
+        return total;
+    }
+
     /**
      * Calcula la cantidad de citas agrupadas por estado.
      *
-     * @param bookings Lista de objetos {@link Booking} (puede ser {@code null} o vacía).
+     * @param counts Conteos agregados por estado y tipo (puede ser {@code null} o vacía).
      * @return Mapa con claves de tipo {@link BookingStatus} y su frecuencia correspondiente.
      *         Si la lista es {@code null}, se retorna un mapa vacío.
      */
     
-    public static Map<BookingStatus, Integer> countByStatus(List<Booking> bookings) {
+    public static Map<BookingStatus, Integer> countByStatus(List<BookingCount> counts) {
         Map<BookingStatus, Integer> result = new EnumMap<>(BookingStatus.class);
-        if (bookings == null) return result;
+        if (counts == null) return result;
 
-        for (Booking booking : bookings) {
-            BookingStatus status = booking.getStatus();
-            result.put(status, result.getOrDefault(status, 0) + 1);
+        for (BookingCount count : counts) {
+            BookingStatus status = count.getStatus();
+            result.put(status, result.getOrDefault(status, 0) + (int) count.getTotal());
         }
         return result;
     }
@@ -44,18 +62,18 @@ public final class BookingStats {
     /**
      * Calcula la cantidad de citas agrupadas por tipo de servicio.
      *
-     * @param bookings Lista de objetos {@link Booking} (puede ser {@code null} o vacía).
+     * @param counts Conteos agregados por estado y tipo (puede ser {@code null} o vacía).
      * @return Mapa con claves de tipo {@link BookingType} y su frecuencia correspondiente.
      *         Si la lista es {@code null}, se retorna un mapa vacío.
      */
     
-    public static Map<BookingType, Integer> countByType(List<Booking> bookings) {
+    public static Map<BookingType, Integer> countByType(List<BookingCount> counts) {
         Map<BookingType, Integer> result = new EnumMap<>(BookingType.class);
-        if (bookings == null) return result;
+        if (counts == null) return result;
 
-        for (Booking booking : bookings) {
-            BookingType type = booking.getType();
-            result.put(type, result.getOrDefault(type, 0) + 1);
+        for (BookingCount count : counts) {
+            BookingType type = count.getType();
+            result.put(type, result.getOrDefault(type, 0) + (int) count.getTotal());
         }
         return result;
     }
@@ -7,6 +7,7 @@ import java.util.UUID;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import com.petcare.domain.user.LastAccessTracker;
 import com.petcare.domain.user.User;
 import com.petcare.domain.user.UserAccountService;
 import com.petcare.domain.user.UserService;
@@ -36,6 +37,7 @@ public class MaintenanceTask {
     private final UserService userService;
     private final UserAccountService userAccountService;
     private final SystemEmailService systemEmailService;
+    private final LastAccessTracker lastAccessTracker;
 
     /**
      * Recorre los usuarios inactivos y realiza las siguientes acciones:
@@ -48,6 +50,7 @@ public class MaintenanceTask {
     
     @Scheduled(cron = "0 0 9 * * *") // Ejecuta todos los días a las 9:00 AM
     public void deactivateInactiveUsers() {
+        lastAccessTracker.flush(); // Vuelca los accesos pendientes para no desactivar a usuarios activos
         List<User> inactiveUsers = userAccountService.findInactiveUsers(ACCOUNT_INACTIVITY_DAYS_LIMIT);
 
         for (User user : inactiveUsers) {
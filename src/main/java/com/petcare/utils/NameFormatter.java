@@ -52,17 +52,30 @@ public final class NameFormatter {
      */
     
     public static String getShortFullName(User user) {
-        if (user == null || user.getName() == null) {
+        if (user == null) {
             return null;
         }
+        return getShortFullName(user.getName(), user.getLastName1());
+    }
 
-        String name = user.getName().trim();
-        String lastName1 = user.getLastName1();
+    /**
+     * Devuelve el nombre seguido del primer apellido a partir de sus partes.
+     * <p>Se usa cuando los datos proceden de una proyección y no de una entidad {@link User}.</p>
+     *
+     * @param name Nombre.
+     * @param lastName1 Primer apellido (opcional).
+     * @return Cadena con "nombre + primer apellido" (si existe), o {@code null} si el nombre es {@code null}.
+     */
+    
+    public static String getShortFullName(String name, String lastName1) {
+        if (name == null) {
+            return null;
+        }
 
         if (lastName1 != null && !lastName1.isBlank()) {
-            return name + " " + lastName1.trim();
+            return name.trim() + " " + lastName1.trim();
         } else {
-            return name;
+            return name.trim();
         }
     }
 
@@ -75,18 +88,35 @@ public final class NameFormatter {
      */
     
     public static String getFullName(User user) {
-        if (user == null || user.getName() == null) {
+        if (user == null) {
             return null;
         }
+        return getFullName(user.getName(), user.getLastName1(), user.getLastName2());
+    }
 
-        StringBuilder sb = new StringBuilder(user.getName().trim());
+    /**
+     * Devuelve el nombre completo a partir de sus partes.
+     * <p>Se usa cuando los datos proceden de una proyección y no de una entidad {@link User}.</p>
+     *
+     * @param name Nombre.
+     * @param lastName1 Primer apellido (opcional).
+     * @param lastName2 Segundo apellido (opcional).
+     * @return Cadena con el nombre completo formateado, o {@code null} si el nombre es {@code null}.
+     */
+    
+    public static String getFullName(String name, String lastName1, String lastName2) {
+        if (name == null) {
+            return null;
+        }
 
-        if (user.getLastName1() != null && !user.getLastName1().isBlank()) {
-            sb.append(" ").append(user.getLastName1().trim());
+        StringBuilder sb = new StringBuilder(name.trim());
+
+        if (lastName1 != null && !lastName1.isBlank()) {
+            sb.append(" ").append(lastName1.trim());
         }
 
-        if (user.getLastName2() != null && !user.getLastName2().isBlank()) {
-            sb.append(" ").append(user.getLastName2().trim());
+        if (lastName2 != null && !lastName2.isBlank()) {
+            sb.append(" ").append(lastName2.trim());
         }
 
         return sb.toString();
@@ -1,14 +1,22 @@
 package com.petcare.utils;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
 
 import com.petcare.domain.booking.Booking;
 import com.petcare.domain.booking.BookingRepository;
-import com.petcare.enums.BookingStatus;
+import com.petcare.domain.client.Client;
 import com.petcare.notification.BookingEmailService;
 
 import lombok.RequiredArgsConstructor;
@@ -24,6 +32,10 @@ import static com.petcare.utils.constants.GlobalConstants.*;
  * <p>
  * Se ejecuta automáticamente todos los días a las 10:00 AM.
  * </p>
+ * Las citas pendientes se recorren por páginas de {@code REMINDER_PAGE_SIZE} (paginación por ID),
+ * cada página se envía en paralelo con el ejecutor {@code reminderExecutor} y las citas enviadas
+ * se marcan con una única actualización masiva. No se mantiene ninguna conexión abierta mientras
+ * se envían los correos.
  */
 
 @Component
@@ -33,43 +45,89 @@ public class ReminderTask {
 
     private final BookingRepository bookingRepository;
     private final BookingEmailService bookingEmailService;
+    private final ThreadPoolTaskExecutor reminderExecutor;
 
     /**
      * Busca las citas confirmadas para el día siguiente que han solicitado recordatorio,
      * y envía un correo electrónico personalizado al cliente.
+     * <p>
+     * Si el envío de un recordatorio falla, la cita no se marca como notificada y se registra el error;
+     * el resto de la página continúa normalmente.
      */
     
     @Scheduled(cron = "0 0 10 * * *") // Executes every day at 10:00 AM
     public void sendReminders() {
         LocalDate tomorrow = LocalDate.now().plusDays(1);
-        List<Booking> bookings = bookingRepository.findByDate(tomorrow);
-
-        for (Booking booking : bookings) {
-            boolean reminderRequest = Boolean.TRUE.equals(booking.getReminderRequest());
-            boolean reminderNotSent = Boolean.FALSE.equals(booking.getReminderSent());
-            boolean isConfirmed = BookingStatus.CONFIRMADA.equals(booking.getStatus());
-
-            if (reminderRequest && reminderNotSent && isConfirmed) {
-                String recipientEmail = booking.getPet().getClient().getUsername();
-                String clientName = booking.getPet().getClient().getName();
-                String petName = booking.getPet().getName();
-                String formattedDate = booking.getDate().format(DATE_FORMATTER);
-                String formattedTime = booking.getTime().format(TIME_FORMATTER);
-
-                bookingEmailService.sendBookingReminder(
-                    recipientEmail,
-                    clientName,
-                    petName,
-                    formattedDate,
-                    formattedTime,
-                    DEFAULT_LOCATION
-                );
-
-                booking.setReminderSent(true);
-                bookingRepository.save(booking);
-
-                log.info("Reminder email sent to client {}", recipientEmail);
+        Pageable page = PageRequest.of(0, REMINDER_PAGE_SIZE);
+        Long lastId = 0L;
+        int sent = 0;
+        int failed = 0;
+
+        List<Booking> bookings = bookingRepository.findPendingReminders(tomorrow, lastId, page);
+        while (!bookings.isEmpty()) {
+            List<Future<Long>> deliveries = new ArrayList<>();
+            for (Booking booking : bookings) {
+                deliveries.add(reminderExecutor.submit(reminderFor(booking)));
+            }
+
+            List<Long> sentIds = new ArrayList<>();
+            for (Future<Long> delivery : deliveries) {
+                try {
+                    sentIds.add(delivery.get());
+                } catch (ExecutionException e) {
+                    failed++;
+                    log.error("Error al enviar recordatorio: {}", e.getCause().getMessage());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    markSent(sentIds);
+                    log.warn("Envío de recordatorios interrumpido tras {} correos.", sent + sentIds.size());
+                    return;
+                }
             }
+
+            markSent(sentIds);
+            sent += sentIds.size();
+
+            lastId = bookings.get(bookings.size() - 1).getId();
+            bookings = bookingRepository.findPendingReminders(tomorrow, lastId, page);
+        }
+
+        log.info("Recordatorios del {} enviados: {} correctos, {} con error.", tomorrow, sent, failed);
+    }
+
+    /**
+     * Prepara el envío del recordatorio de una cita. Los datos se extraen antes de pasar
+     * la tarea al ejecutor, de modo que el hilo de envío no accede a la entidad.
+     *
+     * @return Tarea que envía el correo y devuelve el ID de la cita notificada.
+     */
+    private Callable<Long> reminderFor(Booking booking) {
+        Long bookingId = booking.getId();
+        Client client = booking.getPet().getClient();
+        String recipientEmail = client.getUsername();
+        String clientName = client.getName();
+        String petName = booking.getPet().getName();
+        String formattedDate = booking.getDate().format(DATE_FORMATTER);
+        String formattedTime = booking.getTime().format(TIME_FORMATTER);
+
+        return () -> {
+            bookingEmailService.sendBookingReminder(
+                recipientEmail,
+                clientName,
+                petName,
+                formattedDate,
+                formattedTime,
+                DEFAULT_LOCATION
+            );
+
+            log.info("Reminder email sent to client {}", recipientEmail);
+            return bookingId;
+        };
+    }
+
+    private void markSent(List<Long> bookingIds) {
+        if (!bookingIds.isEmpty()) {
+            bookingRepository.markRemindersSent(bookingIds, LocalDateTime.now());
         }
     }
-}
\ No newline at end of file
+}
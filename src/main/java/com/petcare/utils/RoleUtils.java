@@ -1,5 +1,6 @@
 package com.petcare.utils;
 
+import com.petcare.auth.security.AuthenticatedUser;
 import com.petcare.domain.user.User;
 import com.petcare.enums.Role;
 
@@ -72,4 +73,28 @@ public final class RoleUtils {
 	public static boolean isClient(User user) {
 		return is(user, Role.CLIENTE);
 	}
+
+	/**
+     * Comprueba si el principal de la petición tiene el rol especificado, sin cargar la entidad.
+     *
+     * @param principal    Principal autenticado (puede ser {@code null}).
+     * @param expectedRole Rol que se espera tenga el usuario.
+     * @return {@code true} si el usuario tiene el rol esperado, {@code false} en caso contrario o si hay {@code null}.
+     */
+	
+	public static boolean is(AuthenticatedUser principal, Role expectedRole) {
+		return principal != null && expectedRole != null && expectedRole.equals(principal.role());
+	}
+
+	public static boolean isAdmin(AuthenticatedUser principal) {
+		return is(principal, Role.ADMIN);
+	}
+
+	public static boolean isEmployee(AuthenticatedUser principal) {
+		return is(principal, Role.EMPLEADO);
+	}
+
+	public static boolean isClient(AuthenticatedUser principal) {
+		return is(principal, Role.CLIENTE);
+	}
 }
\ No newline at end of file
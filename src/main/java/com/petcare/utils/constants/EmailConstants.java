@@ -20,9 +20,24 @@ public final class EmailConstants {
     public static final String TEMPLATE_FOLDER = "templates/email/";
     public static final String TEMPLATE_SUFFIX = ".html";
     public static final String TEMPLATE_MODE = "HTML";
-    public static final String LOGO_IMAGE_PATH = "classpath:templates/email/logo.png";
+    public static final String LOGO_IMAGE_PATH = "templates/email/logo.png";
+    public static final String LOGO_CONTENT_TYPE = "image/png";
+    public static final String STYLESHEET_PATH = "templates/css/templates.css";
+    public static final String STYLES_PLACEHOLDER = "/* {{styles}} */";
     public static final String LOGO_CID = "logo";
 
+    // ╔══════════════════════════════════════╗
+    // ║ Bandeja de salida                    ║
+    // ╚══════════════════════════════════════╝
+
+    public static final int OUTBOX_PAGE_SIZE = 100;
+    public static final int OUTBOX_BATCH_SIZE = 20;
+    public static final int OUTBOX_SEND_THREADS = 2;
+    public static final int OUTBOX_MAX_ATTEMPTS = 6;
+    public static final long OUTBOX_RETRY_BASE_SECONDS = 30;
+    public static final long OUTBOX_DISPATCH_DELAY_MS = 5000;
+    public static final int OUTBOX_ERROR_MAX_LENGTH = 500;
+
     // ╔══════════════════════════════════════╗
     // ║ Ubicación        					  ║
     // ╚══════════════════════════════════════╝
@@ -39,6 +54,8 @@ public final class EmailConstants {
     public static final String SEND_DEACTIVATION_ERROR = "Error al enviar el email de desactivación por inactividad.";
     public static final String SEND_HTML_ERROR = "Error al enviar el correo electrónico con formato HTML.";
     public static final String LOAD_STYLESHEET_ERROR = "No se pudo cargar la hoja de estilos comunes.";
+    public static final String LOAD_TEMPLATE_ERROR = "No se pudo cargar la plantilla de correo: ";
+    public static final String LOAD_LOGO_ERROR = "No se pudo cargar el logotipo de los correos.";
     public static final String ROLE_NOT_SUPPORTED_ERROR = "Rol no soportado: ";
 
     // ╔══════════════════════════════════════╗
@@ -48,6 +65,7 @@ public final class EmailConstants {
     public static final String SEND_BOOKING_REMINDER_ERROR = "Error al enviar el recordatorio de cita.";
     public static final String SEND_BOOKING_CONFIRMATION_ERROR = "Error al enviar la confirmación de cita al cliente.";
     public static final String SEND_BOOKING_ASSIGNED_ERROR = "Error al notificar la asignación de cita al empleado.";
+    public static final String SEND_BOOKING_SERIES_ERROR = "Error al notificar la asignación de la serie de citas al empleado.";
     public static final String SEND_BOOKING_UPDATE_ERROR = "Error al enviar notificación de cita modificada al empleado.";
     public static final String SEND_BOOKING_CANCELLED_ERROR = "Error al notificar la cancelación al empleado.";
     public static final String SEND_BOOKING_ABORTED_ERROR = "Error al informar al cliente de la anulación de cita.";
@@ -35,4 +35,95 @@ public final class GlobalConstants {
     public static final String MAIL_DOMAIN = "@petcare.com";
     public static final int BOOKING_DEFAULT_DURATION_MINUTES = 30;
     public static final int ACCOUNT_INACTIVITY_DAYS_LIMIT = 30;
+
+    // ╔══════════════════════════════════════╗
+    // ║ Horario de atención de citas         ║
+    // ╚══════════════════════════════════════╝
+
+    public static final int OPENING_MORNING_START_HOUR = 10;
+    public static final int OPENING_MORNING_END_HOUR = 14;
+    public static final int OPENING_AFTERNOON_START_HOUR = 17;
+    public static final int OPENING_AFTERNOON_END_HOUR = 20;
+    public static final int BOOKING_SLOT_MINUTES = 15;
+    public static final int BOOKING_MIN_NOTICE_MINUTES = 60;
+
+    // ╔══════════════════════════════════════╗
+    // ║ Búsqueda de huecos libres            ║
+    // ╚══════════════════════════════════════╝
+
+    public static final int AVAILABLE_SLOTS_DEFAULT_LIMIT = 10;
+    public static final int AVAILABLE_SLOTS_MAX_LIMIT = 50;
+    public static final int AVAILABLE_SLOTS_MAX_RANGE_DAYS = 31;
+
+    // ╔══════════════════════════════════════╗
+    // ║ Listados de citas paginados          ║
+    // ╚══════════════════════════════════════╝
+
+    public static final int BOOKING_PAGE_DEFAULT_SIZE = 20;
+    public static final int BOOKING_PAGE_MAX_SIZE = 100;
+
+    // ╔══════════════════════════════════════╗
+    // ║ Series de citas periódicas           ║
+    // ╚══════════════════════════════════════╝
+
+    public static final int BOOKING_SERIES_MAX_OCCURRENCES = 52;
+
+    // ╔══════════════════════════════════════╗
+    // ║ Liberación de agendas                ║
+    // ╚══════════════════════════════════════╝
+
+    public static final int BOOKING_RELEASE_MAX_RANGE_DAYS = 31;
+    public static final long BOOKING_RELEASE_LOCK_TIMEOUT_MS = 5_000;
+
+    // ╔══════════════════════════════════════╗
+    // ║ Envío de recordatorios               ║
+    // ╚══════════════════════════════════════╝
+
+    public static final int REMINDER_PAGE_SIZE = 200;
+    public static final int REMINDER_SEND_THREADS = 4;
+
+    // ╔══════════════════════════════════════╗
+    // ║ Cierre automático de citas pasadas   ║
+    // ╚══════════════════════════════════════╝
+
+    public static final int BOOKING_COMPLETION_BATCH_SIZE = 1000;
+
+    // ╔══════════════════════════════════════╗
+    // ║ Histórico de citas finalizadas       ║
+    // ╚══════════════════════════════════════╝
+
+    public static final int BOOKING_ARCHIVE_BATCH_SIZE = 1000;
+
+    // ╔══════════════════════════════════════╗
+    // ║ Eventos de citas                     ║
+    // ╚══════════════════════════════════════╝
+
+    public static final int BOOKING_EVENT_THREADS = 2;
+    public static final int BOOKING_EVENT_QUEUE_CAPACITY = 1000;
+
+    // ╔══════════════════════════════════════╗
+    // ║ Calendarios en tiempo real (SSE)     ║
+    // ╚══════════════════════════════════════╝
+
+    public static final long BOOKING_STREAM_TIMEOUT_MS = 30 * 60_000L;
+    public static final long BOOKING_STREAM_HEARTBEAT_MS = 25_000L;
+    public static final int BOOKING_STREAM_QUEUE_CAPACITY = 256;
+    public static final int BOOKING_STREAM_SEND_THREADS = 4;
+    public static final int BOOKING_STREAM_SEND_QUEUE_CAPACITY = 10_000;
+
+    // ╔══════════════════════════════════════╗
+    // ║ Exportación de calendarios (.ics)    ║
+    // ╚══════════════════════════════════════╝
+
+    public static final int CALENDAR_FEED_PAGE_SIZE = 200;
+    public static final int CALENDAR_FEED_HISTORY_DAYS = 90;
+    public static final String CALENDAR_TIME_ZONE = "Europe/Madrid";
+    public static final int CALENDAR_TOKEN_BYTES = 32;
+    public static final String CALENDAR_TOKEN_PARAM = "token";
+
+    // ╔══════════════════════════════════════╗
+    // ║ Registro de último acceso            ║
+    // ╚══════════════════════════════════════╝
+
+    public static final long LAST_ACCESS_FLUSH_INTERVAL_MS = 60_000L;
 }
\ No newline at end of file
@@ -44,6 +44,7 @@ public final class MessageConstants {
     public static final String CANCELLED = "Cita cancelada correctamente.";
     public static final String ABORTED = "Cita anulada correctamente.";
     public static final String COMPLETED = "Cita marcada como completada.";
+    public static final String CALENDAR_LINK_REVOKED = "Enlace de suscripción al calendario revocado.";
 
     // ╔══════════════════════════════════════╗
     // ║ Eliminación de usuarios              ║
@@ -18,6 +18,16 @@ public final class SecurityConstants {
 	public static final String TOKEN_HEADER = "Authorization";
     public static final String TOKEN_PREFIX = "Bearer ";
 
+    // ╔══════════════════════════════════════╗
+    // ║ Tipos de token JWT                   ║
+    // ╚══════════════════════════════════════╝
+
+    public static final String TOKEN_TYPE_CLAIM = "typ";
+    public static final String ACCESS_TOKEN_TYPE = "access";
+    public static final String REFRESH_TOKEN_TYPE = "refresh";
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String ISSUED_AT_MS_CLAIM = "iat_ms";
+
     // ╔══════════════════════════════════════╗
     // ║ Rutas de claves JWT                  ║
     // ╚══════════════════════════════════════╝
@@ -32,6 +42,40 @@ public final class SecurityConstants {
     public static final int BCRYPT_STRENGTH = 8;
     public static final int MAX_LOGIN_ATTEMPTS = 3;
 
+    // ╔══════════════════════════════════════╗
+    // ║ Verificación de contraseñas y login  ║
+    // ╚══════════════════════════════════════╝
+
+    public static final int PASSWORD_HASH_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+    public static final int PASSWORD_HASH_QUEUE_CAPACITY = 32;
+    public static final int LOGIN_USER_BUCKET_CAPACITY = 5;
+    public static final long LOGIN_USER_REFILL_SECONDS = 60;
+    public static final int LOGIN_IP_BUCKET_CAPACITY = 20;
+    public static final long LOGIN_IP_REFILL_SECONDS = 6;
+    public static final long LOGIN_THROTTLE_SWEEP_MS = 60_000L;
+
+    // ╔══════════════════════════════════════╗
+    // ║ Caché de tokens verificados          ║
+    // ╚══════════════════════════════════════╝
+
+    public static final int VERIFIED_TOKEN_CACHE_SIZE = 1024;
+
+    // ╔══════════════════════════════════════╗
+    // ║ Revocación de tokens                 ║
+    // ╚══════════════════════════════════════╝
+
+    public static final int REVOCATION_FILTER_BITS = 1 << 20;
+    public static final int REVOCATION_FILTER_HASHES = 5;
+    public static final long REVOCATION_SWEEP_MS = 10 * 60_000L;
+
+    // ╔══════════════════════════════════════╗
+    // ║ Códigos de login con Google          ║
+    // ╚══════════════════════════════════════╝
+
+    public static final int OAUTH_CODE_BYTES = 32;
+    public static final long OAUTH_CODE_TTL_SECONDS = 60;
+    public static final long OAUTH_CODE_SWEEP_MS = 60_000L;
+
     // ╔══════════════════════════════════════╗
     // ║ Expiración y lógica de cuenta        ║
     // ╚══════════════════════════════════════╝
@@ -34,8 +34,9 @@ public final class UrlConstants {
 
 	public static final String LOGIN_URL = FRONTEND_BASE_URL + "/login";
 	public static final String RECOVERY_URL = FRONTEND_BASE_URL + "/recover-account?token=";
-	public static final String FRONT_LOGIN_SUCCESS_URL = FRONTEND_BASE_URL + "/login-success?token=";
+	public static final String FRONT_LOGIN_SUCCESS_URL = FRONTEND_BASE_URL + "/login-success?code=";
 	public static final String FRONT_LOGIN_ERROR_URL = FRONTEND_BASE_URL + "/login-error";
+	public static final String BOOKINGS_URL = FRONTEND_BASE_URL + "/bookings";
 
 	// ╔══════════════════════════════════════╗
 	// ║ Rutas dinámicas					  ║
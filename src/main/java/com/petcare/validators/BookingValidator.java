@@ -8,8 +8,9 @@ import com.petcare.enums.BookingType;
 import com.petcare.enums.Profile;
 import com.petcare.exceptions.BookingException;
 import com.petcare.exceptions.DataException;
-import com.petcare.domain.booking.BookingRepository;
+import com.petcare.domain.booking.BookingAvailabilityIndex;
 import com.petcare.domain.client.Client;
+import static com.petcare.utils.constants.GlobalConstants.*;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -42,8 +43,8 @@ public class BookingValidator {
     // ═══════════════════════════════════════════════════════════════
     // VALIDACIÓN: Disponibilidad del profesional
     // ═══════════════════════════════════════════════════════════════
-    public static void validateAvailability(BookingRepository bookingRepository, Long employeeId, LocalDate date, LocalTime time) {
-        if (bookingRepository.existsByEmployeeIdAndDateAndTime(employeeId, date, time)) {
+    public static void validateAvailability(BookingAvailabilityIndex availabilityIndex, Long employeeId, LocalDate date, LocalTime time) {
+        if (availabilityIndex.isOccupied(employeeId, date, time)) {
             log.warn("El profesional [{}] ya tiene una cita asignada el {} a las {}.", employeeId, date, time);
             throw new BookingException("El empleado seleccionado ya tiene una cita en esa fecha y hora.");
         }
@@ -84,7 +85,7 @@ public class BookingValidator {
 
         if (date.equals(today)) {
             LocalTime now = LocalTime.now();
-            if (time.isBefore(now.plusMinutes(60))) {
+            if (time.isBefore(now.plusMinutes(BOOKING_MIN_NOTICE_MINUTES))) {
                 log.warn("Hora no válida: {} está a menos de 60 minutos desde ahora ({})", time, now);
                 throw new BookingException("Debes agendar la cita con al menos 60 minutos de antelación.");
             }
@@ -97,9 +98,12 @@ public class BookingValidator {
         boolean isWeekday = day.getValue() >= 1 && day.getValue() <= 5;
         boolean isSaturday = day == DayOfWeek.SATURDAY;
 
-        boolean validWeekdayTime = (hour >= 10 && hour < 14) || (hour >= 17 && hour < 20);
-        boolean validSaturdayTime = hour >= 10 && hour < 14;
-        boolean isQuarterHour = minute == 0 || minute == 15 || minute == 30 || minute == 45;
+        boolean isMorning = hour >= OPENING_MORNING_START_HOUR && hour < OPENING_MORNING_END_HOUR;
+        boolean isAfternoon = hour >= OPENING_AFTERNOON_START_HOUR && hour < OPENING_AFTERNOON_END_HOUR;
+
+        boolean validWeekdayTime = isMorning || isAfternoon;
+        boolean validSaturdayTime = isMorning;
+        boolean isQuarterHour = minute % BOOKING_SLOT_MINUTES == 0;
 
         if ((isWeekday && !validWeekdayTime) || (isSaturday && !validSaturdayTime) || !isQuarterHour) {
             log.warn("Horario inválido: {} {} no cumple las condiciones laborales ni el formato permitido.", date, time);
@@ -108,4 +112,26 @@ public class BookingValidator {
 
         log.info("Fecha y hora validadas correctamente: {} {}", date, time);
     }
-}
\ No newline at end of file
+
+    // ═══════════════════════════════════════════════════════════════
+    // VALIDACIÓN: Fin de una serie de citas periódicas
+    // ═══════════════════════════════════════════════════════════════
+    public static void validateSeriesEnd(Integer occurrences, LocalDate firstDate, LocalDate untilDate) {
+        if ((occurrences == null) == (untilDate == null)) {
+            log.warn("Serie de citas con fin no válido: repeticiones {} y fecha límite {}.", occurrences, untilDate);
+            throw new DataException("Indica el número de citas de la serie o la fecha en la que termina, pero no ambos.");
+        }
+
+        if (occurrences != null && (occurrences < 1 || occurrences > BOOKING_SERIES_MAX_OCCURRENCES)) {
+            log.warn("Número de repeticiones fuera de rango: {}.", occurrences);
+            throw new BookingException("Una serie puede tener como máximo " + BOOKING_SERIES_MAX_OCCURRENCES + " citas.");
+        }
+
+        if (untilDate != null && firstDate != null && untilDate.isBefore(firstDate)) {
+            log.warn("Fecha límite {} anterior a la primera cita {}.", untilDate, firstDate);
+            throw new BookingException("La fecha de fin de la serie no puede ser anterior a la primera cita.");
+        }
+
+        log.info("Fin de la serie validado: repeticiones {} | fecha límite {}.", occurrences, untilDate);
+    }
+}
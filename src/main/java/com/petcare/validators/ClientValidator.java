@@ -2,6 +2,7 @@ package com.petcare.validators;
 
 import java.util.Optional;
 
+import com.petcare.auth.security.AuthenticatedUser;
 import com.petcare.domain.client.Client;
 import com.petcare.domain.client.dto.ClientRequest;
 import com.petcare.domain.client.dto.ClientUpdate;
@@ -12,6 +13,7 @@ import com.petcare.exceptions.BusinessException;
 import com.petcare.exceptions.UnauthorizedException;
 import com.petcare.exceptions.DataException;
 import com.petcare.exceptions.NotFoundException;
+import com.petcare.utils.RoleUtils;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
@@ -76,6 +78,30 @@ public class ClientValidator {
         log.info("Cliente autenticado correctamente: ID [{}]", client.getId());
     }
 
+    /**
+     * Verifica que el principal de la petición sea un cliente con un ID válido, sin cargar la entidad.
+     *
+     * @param principal Principal autenticado.
+     * @return ID del cliente.
+     * @throws AuthenticationException si no hay principal o su ID no es válido.
+     * @throws UnauthorizedException si el usuario no es un cliente.
+     */
+    public static Long validateAuthenticatedClient(AuthenticatedUser principal) {
+        if (principal == null) {
+            log.warn("Acceso no permitido: no se encontró un cliente autenticado.");
+            throw new AuthenticationException("Debes estar autenticado para realizar esta acción. Por favor, inicia sesión e inténtalo de nuevo.");
+        }
+        if (!RoleUtils.isClient(principal)) {
+            log.warn("Acceso denegado: se requiere un cliente autenticado, pero el rol es: {}", principal.role());
+            throw new UnauthorizedException("Acceso denegado. Esta funcionalidad solo está disponible para clientes.");
+        }
+        if (principal.id() == null || principal.id() <= 0) {
+            log.warn("Cliente autenticado sin ID válido. ID actual: {}", principal.id());
+            throw new AuthenticationException("No se ha podido verificar tu identidad. Intenta iniciar sesión nuevamente.");
+        }
+        return principal.id();
+    }
+
     /**
      * Verifica que los datos de registro del cliente sean válidos y no duplicados.
      */
@@ -1,5 +1,6 @@
 package com.petcare.validators;
 
+import com.petcare.auth.security.AuthenticatedUser;
 import com.petcare.domain.employee.Employee;
 import com.petcare.domain.user.User;
 import com.petcare.domain.user.UserRepository;
@@ -31,6 +32,21 @@ public class EmployeeValidator {
 	    }
 	}
 
+	/**
+	 * Variante de {@link #validateEmployeeAccess(User, Long)} para el principal de la petición, sin cargar
+	 * la entidad del empleado.
+	 *
+	 * @param principal  Principal autenticado.
+	 * @param employeeId ID que se intenta consultar o modificar.
+	 * @throws UnauthorizedException si el usuario no tiene rol EMPLEADO, su ID es nulo,
+	 *                                o el ID no coincide con el proporcionado.
+	 */
+	public static void validateEmployeeAccess(AuthenticatedUser principal, Long employeeId) {
+	    if (!RoleUtils.isEmployee(principal) || principal.id() == null || !principal.id().equals(employeeId)) {
+	        throw new UnauthorizedException("Acceso denegado: no tienes permisos para consultar los datos de la cita.");
+	    }
+	}
+
 	/**
 	 * Verifica que el empleado autenticado no sea nulo ni tenga ID nulo.
 	 * <p>
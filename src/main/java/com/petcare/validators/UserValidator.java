@@ -1,7 +1,5 @@
 package com.petcare.validators;
 
-import java.time.Duration;
-import java.time.LocalDateTime;
 import java.util.Optional;
 
 import com.petcare.domain.user.User;
@@ -82,26 +80,4 @@ public class UserValidator {
         }
         return optionalUser.get();
     }
-    
-    /**
-     * Actualiza el campo lastAccess si ha pasado al menos un minuto desde el último acceso registrado.
-     *
-     * @param user el usuario autenticado
-     * @return true si se ha actualizado el campo, false si no fue necesario
-     */
-    public static boolean updateLastAccess(User user) {
-        if (user == null) {
-            return false;
-        }
-
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime last = user.getLastAccess();
-
-        if (last == null || Duration.between(last, now).toSeconds() >= 60) {
-            user.setLastAccess(now);
-            return true;
-        }
-
-        return false;
-    }
 }
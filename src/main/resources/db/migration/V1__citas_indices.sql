@@ -0,0 +1,39 @@
+-- ╔══════════════════════════════════════════════════╗
+-- ║        Citas: una cita activa por franja         ║
+-- ╚══════════════════════════════════════════════════╝
+-- Un empleado no puede tener dos citas CONFIRMADAS en la misma fecha y hora.
+-- Las citas canceladas, anuladas o completadas no ocupan franja.
+CREATE UNIQUE INDEX IF NOT EXISTS ux_citas_empleado_fecha_hora_activa
+    ON citas (id_empleado, fecha, hora)
+    WHERE estado = 'CONFIRMADA';
+
+-- ╔══════════════════════════════════════════════════╗
+-- ║        Citas: listados paginados por cursor      ║
+-- ╚══════════════════════════════════════════════════╝
+-- Siguen el orden (fecha, hora, id_cita) de las consultas por cursor, de modo que cada página
+-- es un recorrido acotado del índice. El de empleado cubre además las comprobaciones de
+-- disponibilidad por (id_empleado, fecha, hora) y el de mascota las consultas por id_mascota.
+CREATE INDEX IF NOT EXISTS ix_citas_fecha_hora_id
+    ON citas (fecha, hora, id_cita);
+
+CREATE INDEX IF NOT EXISTS ix_citas_empleado_fecha_hora_id
+    ON citas (id_empleado, fecha, hora, id_cita);
+
+CREATE INDEX IF NOT EXISTS ix_citas_mascota_fecha_hora_id
+    ON citas (id_mascota, fecha, hora, id_cita);
+
+-- ╔══════════════════════════════════════════════════╗
+-- ║        Citas: filtros por estado y tipo          ║
+-- ╚══════════════════════════════════════════════════╝
+-- Reconstrucción del índice de disponibilidad (estado + fecha desde hoy), listados por estado
+-- y conteos del panel de administración.
+CREATE INDEX IF NOT EXISTS ix_citas_estado_fecha
+    ON citas (estado, fecha);
+
+CREATE INDEX IF NOT EXISTS ix_citas_tipo
+    ON citas (tipo);
+
+-- Recordatorios pendientes de un día, recorridos por id_cita.
+CREATE INDEX IF NOT EXISTS ix_citas_recordatorio_pendiente
+    ON citas (fecha, id_cita)
+    WHERE estado = 'CONFIRMADA' AND recordatorio = TRUE AND notificado = FALSE;
@@ -0,0 +1,48 @@
+-- ╔══════════════════════════════════════════════════╗
+-- ║                    Usuarios                      ║
+-- ╚══════════════════════════════════════════════════╝
+-- "usuario" ya es único. Se indexan el token de recuperación y el correo de recuperación.
+CREATE INDEX IF NOT EXISTS ix_usuarios_token
+    ON usuarios (token);
+
+CREATE INDEX IF NOT EXISTS ix_usuarios_email
+    ON usuarios (email);
+
+-- Búsqueda de cuentas inactivas: igualdad sobre estado y rango sobre ultimo_acceso.
+CREATE INDEX IF NOT EXISTS ix_usuarios_estado_ultimo_acceso
+    ON usuarios (estado, ultimo_acceso);
+
+-- ╔══════════════════════════════════════════════════╗
+-- ║                    Empleados                     ║
+-- ╚══════════════════════════════════════════════════╝
+CREATE INDEX IF NOT EXISTS ix_empleados_perfil_id
+    ON empleados (perfil, id);
+
+CREATE INDEX IF NOT EXISTS ix_empleados_fecha_alta
+    ON empleados (fecha_alta);
+
+-- ╔══════════════════════════════════════════════════╗
+-- ║                    Mascotas                      ║
+-- ╚══════════════════════════════════════════════════╝
+-- "numero_chip" ya es único.
+CREATE INDEX IF NOT EXISTS ix_mascotas_cliente
+    ON mascotas (cliente_id);
+
+-- ╔══════════════════════════════════════════════════╗
+-- ║     Historial clínico: vacunas, informes y       ║
+-- ║                  tratamientos                    ║
+-- ╚══════════════════════════════════════════════════╝
+CREATE INDEX IF NOT EXISTS ix_vacunas_mascota_administracion
+    ON vacunas (id_mascota, fecha_administracion);
+
+CREATE INDEX IF NOT EXISTS ix_vacunas_fecha_caducidad
+    ON vacunas (fecha_caducidad);
+
+CREATE INDEX IF NOT EXISTS ix_informes_medicos_mascota_actualizacion
+    ON informes_medicos (id_mascota, fecha_actualizacion);
+
+CREATE INDEX IF NOT EXISTS ix_tratamientos_mascota_inicio
+    ON tratamientos (id_mascota, fecha_inicio);
+
+CREATE INDEX IF NOT EXISTS ix_tratamientos_mascota_estado
+    ON tratamientos (id_mascota, estado);
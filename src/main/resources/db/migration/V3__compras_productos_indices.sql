@@ -0,0 +1,35 @@
+-- ╔══════════════════════════════════════════════════╗
+-- ║                     Compras                      ║
+-- ╚══════════════════════════════════════════════════╝
+-- Compras de un cliente (todas, por rango de fechas o la más reciente).
+CREATE INDEX IF NOT EXISTS ix_compras_cliente_fecha
+    ON compras (id_cliente, fecha_compra);
+
+-- Compras de todos los clientes por rango de fechas.
+CREATE INDEX IF NOT EXISTS ix_compras_fecha
+    ON compras (fecha_compra);
+
+CREATE INDEX IF NOT EXISTS ix_detalle_compra_compra_producto
+    ON detalle_compra (id_compra, id_producto);
+
+CREATE INDEX IF NOT EXISTS ix_detalle_compra_producto
+    ON detalle_compra (id_producto);
+
+-- ╔══════════════════════════════════════════════════╗
+-- ║                    Productos                     ║
+-- ╚══════════════════════════════════════════════════╝
+CREATE INDEX IF NOT EXISTS ix_productos_stock
+    ON productos (stock);
+
+CREATE INDEX IF NOT EXISTS ix_productos_categoria
+    ON productos (categoria);
+
+-- Búsqueda por nombre sin distinguir mayúsculas (findByNameIgnoreCase usa upper()).
+CREATE INDEX IF NOT EXISTS ix_productos_nombre_upper
+    ON productos (upper(nombre));
+
+-- ╔══════════════════════════════════════════════════╗
+-- ║              Bandeja de salida de correos        ║
+-- ╚══════════════════════════════════════════════════╝
+CREATE INDEX IF NOT EXISTS ix_correos_salida_estado_intento
+    ON correos_salida (estado, siguiente_intento);
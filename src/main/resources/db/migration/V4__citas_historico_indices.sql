@@ -0,0 +1,18 @@
+-- ╔══════════════════════════════════════════════════╗
+-- ║      Histórico: listados paginados por cursor    ║
+-- ╚══════════════════════════════════════════════════╝
+-- Mismo orden (fecha, hora, id_cita) que los índices de la tabla activa, para que los listados
+-- que continúan en el histórico recorran también un tramo acotado del índice.
+CREATE INDEX IF NOT EXISTS ix_citas_historico_fecha_hora_id
+    ON citas_historico (fecha, hora, id_cita);
+
+CREATE INDEX IF NOT EXISTS ix_citas_historico_empleado_fecha_hora_id
+    ON citas_historico (id_empleado, fecha, hora, id_cita);
+
+CREATE INDEX IF NOT EXISTS ix_citas_historico_mascota_fecha_hora_id
+    ON citas_historico (id_mascota, fecha, hora, id_cita);
+
+-- Traslado por lotes: citas finalizadas anteriores al horizonte de archivo, recorridas por id_cita.
+CREATE INDEX IF NOT EXISTS ix_citas_finalizadas_fecha_id
+    ON citas (fecha, id_cita)
+    WHERE estado IN ('ANULADA', 'CANCELADA', 'COMPLETADA');
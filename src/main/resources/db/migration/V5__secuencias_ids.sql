@@ -0,0 +1,37 @@
+-- ╔══════════════════════════════════════════════════╗
+-- ║      Secuencias para la generación de IDs        ║
+-- ╚══════════════════════════════════════════════════╝
+-- Las entidades obtienen sus IDs de una secuencia por tabla con incremento 50 (allocationSize),
+-- reservando bloques de IDs en memoria para poder insertar por lotes JDBC. Hibernate crea las
+-- secuencias si no existen; aquí se garantizan y se adelantan por encima del mayor ID ya asignado
+-- por las antiguas columnas de identidad, para que los nuevos IDs nunca colisionen con los existentes.
+
+CREATE SEQUENCE IF NOT EXISTS citas_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('citas_seq', COALESCE((SELECT MAX(id_cita) FROM citas), 0) + 50);
+
+CREATE SEQUENCE IF NOT EXISTS compras_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('compras_seq', COALESCE((SELECT MAX(id_compra) FROM compras), 0) + 50);
+
+CREATE SEQUENCE IF NOT EXISTS detalle_compra_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('detalle_compra_seq', COALESCE((SELECT MAX(id_detalle) FROM detalle_compra), 0) + 50);
+
+CREATE SEQUENCE IF NOT EXISTS correos_salida_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('correos_salida_seq', COALESCE((SELECT MAX(id_correo) FROM correos_salida), 0) + 50);
+
+CREATE SEQUENCE IF NOT EXISTS informes_medicos_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('informes_medicos_seq', COALESCE((SELECT MAX(id_informe) FROM informes_medicos), 0) + 50);
+
+CREATE SEQUENCE IF NOT EXISTS mascotas_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('mascotas_seq', COALESCE((SELECT MAX(id) FROM mascotas), 0) + 50);
+
+CREATE SEQUENCE IF NOT EXISTS productos_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('productos_seq', COALESCE((SELECT MAX(id_producto) FROM productos), 0) + 50);
+
+CREATE SEQUENCE IF NOT EXISTS tratamientos_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('tratamientos_seq', COALESCE((SELECT MAX(id_tratamiento) FROM tratamientos), 0) + 50);
+
+CREATE SEQUENCE IF NOT EXISTS usuarios_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('usuarios_seq', COALESCE((SELECT MAX(id) FROM usuarios), 0) + 50);
+
+CREATE SEQUENCE IF NOT EXISTS vacunas_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('vacunas_seq', COALESCE((SELECT MAX(id_vacuna) FROM vacunas), 0) + 50);
@@ -0,0 +1,11 @@
+-- ╔══════════════════════════════════════════════════╗
+-- ║   Secuencia de citas por encima del histórico    ║
+-- ╚══════════════════════════════════════════════════╝
+-- Las citas archivadas conservan su ID al pasar a citas_historico, así que el mayor ID asignado
+-- puede estar solo en el histórico. V5 adelantó citas_seq mirando únicamente la tabla citas; aquí
+-- se vuelve a adelantar por encima del mayor ID de ambas tablas, sin retroceder nunca la secuencia.
+
+SELECT setval('citas_seq', GREATEST(
+        COALESCE((SELECT MAX(id_cita) FROM citas), 0),
+        COALESCE((SELECT MAX(id_cita) FROM citas_historico), 0),
+        (SELECT last_value FROM citas_seq)) + 50);
@@ -0,0 +1,7 @@
+-- ╔══════════════════════════════════════════════════╗
+-- ║       Token de suscripción a calendarios         ║
+-- ╚══════════════════════════════════════════════════╝
+-- Las aplicaciones de calendario consultan el enlace .ics con el token en la URL; la petición se
+-- autentica buscando su huella, que debe ser única.
+CREATE UNIQUE INDEX IF NOT EXISTS ux_usuarios_token_calendario
+    ON usuarios (token_calendario);
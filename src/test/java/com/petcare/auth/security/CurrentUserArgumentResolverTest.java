@@ -0,0 +1,88 @@
+package com.petcare.auth.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import com.petcare.domain.client.Client;
+import com.petcare.domain.employee.Employee;
+import com.petcare.domain.user.UserRepository;
+import com.petcare.enums.Role;
+
+/**
+ * Comprueba que {@link CurrentUserArgumentResolver} entrega el principal sin consultar la base de datos y
+ * que solo carga la entidad cuando el parámetro la pide.
+ */
+class CurrentUserArgumentResolverTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final CurrentUserArgumentResolver resolver =
+            new CurrentUserArgumentResolver(userRepository, mock(UserDetailsService.class));
+
+    private Client client;
+    private AuthenticatedUser principal;
+
+    @BeforeEach
+    void setUp() {
+        client = new Client();
+        client.setId(7L);
+        client.setUsername("cliente@petcare.test");
+        client.setRole(Role.CLIENTE);
+        principal = AuthenticatedUser.from(client);
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.authorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void principalParameterIsResolvedWithoutQueries() throws Exception {
+        MethodParameter parameter = parameterOf("principal", AuthenticatedUser.class);
+
+        assertThat(resolver.supportsParameter(parameter)).isTrue();
+        assertThat(resolver.resolveArgument(parameter, null, null, null)).isSameAs(principal);
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void entityParameterIsLoadedByIdAndCheckedAgainstItsType() throws Exception {
+        when(userRepository.findById(7L)).thenReturn(Optional.of(client));
+
+        assertThat(resolver.resolveArgument(parameterOf("client", Client.class), null, null, null)).isSameAs(client);
+        assertThat(resolver.resolveArgument(parameterOf("employee", Employee.class), null, null, null)).isNull();
+    }
+
+    private static MethodParameter parameterOf(String name, Class<?> type) throws NoSuchMethodException {
+        Method method = Endpoints.class.getDeclaredMethod(name, type);
+        return new MethodParameter(method, 0);
+    }
+
+    @SuppressWarnings("unused")
+    private static final class Endpoints {
+
+        void principal(@CurrentUser AuthenticatedUser principal) {
+        }
+
+        void client(@CurrentUser Client client) {
+        }
+
+        void employee(@CurrentUser Employee employee) {
+        }
+    }
+}
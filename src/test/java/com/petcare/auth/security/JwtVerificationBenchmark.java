@@ -0,0 +1,132 @@
+package com.petcare.auth.security;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.crypto.SecretKey;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.runner.RunnerException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.petcare.support.Benchmarks;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+
+import static com.petcare.utils.constants.SecurityConstants.*;
+
+/**
+ * Mide cuánto cuesta autenticar una petición a partir de su token de acceso.
+ * <ul>
+ * <li>{@code parserPerCall}: camino anterior, que construía un analizador nuevo y verificaba el token tres veces
+ * por petición (usuario, validez y caducidad).</li>
+ * <li>{@code prebuiltParser}: una sola verificación con el analizador compartido, sin caché.</li>
+ * <li>{@code cachedVerify}: {@link JwtUtil#verify(String)}, que reutiliza los tokens ya verificados.</li>
+ * <li>{@code lockedLruVerify}: la caché anterior, un {@code LinkedHashMap} en orden de acceso protegido por
+ * un único cerrojo; junto a {@code cachedVerify} se mide también con varios hilos a la vez.</li>
+ * </ul>
+ * Solo se ejecuta con {@code -Dbenchmark=true}.
+ */
+@State(Scope.Benchmark)
+public class JwtVerificationBenchmark {
+
+    private static final int CONTENDED_THREADS = 8;
+
+    private SecretKey key;
+    private JwtUtil jwtUtil;
+    private String token;
+
+    private final Map<String, VerifiedToken> lockedLru =
+            new LinkedHashMap<String, VerifiedToken>(VERIFIED_TOKEN_CACHE_SIZE, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+                    return size() > VERIFIED_TOKEN_CACHE_SIZE;
+                }
+            };
+
+    @Setup
+    public void setUp() {
+        key = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "key", key);
+        ReflectionTestUtils.setField(jwtUtil, "parser", Jwts.parserBuilder().setSigningKey(key).build());
+
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(TOKEN_TYPE_CLAIM, ACCESS_TOKEN_TYPE);
+        claims.put("role", "CLIENTE");
+        token = jwtUtil.generateToken(claims, "cliente@petcare.test", 3_600_000L);
+    }
+
+    @Benchmark
+    public boolean parserPerCall() {
+        String username = parseWithNewParser().getSubject();
+        boolean valid = username.equals(parseWithNewParser().getSubject());
+        return valid && parseWithNewParser().getExpiration().getTime() > System.currentTimeMillis();
+    }
+
+    @Benchmark
+    public Claims prebuiltParser() {
+        return jwtUtil.extractAllClaims(token);
+    }
+
+    @Benchmark
+    public VerifiedToken cachedVerify() {
+        return jwtUtil.verify(token);
+    }
+
+    @Benchmark
+    @Threads(CONTENDED_THREADS)
+    public VerifiedToken cachedVerifyContended() {
+        return jwtUtil.verify(token);
+    }
+
+    @Benchmark
+    public VerifiedToken lockedLruVerify() {
+        return verifyWithLockedLru();
+    }
+
+    @Benchmark
+    @Threads(CONTENDED_THREADS)
+    public VerifiedToken lockedLruVerifyContended() {
+        return verifyWithLockedLru();
+    }
+
+    private Claims parseWithNewParser() {
+        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+    }
+
+    private VerifiedToken verifyWithLockedLru() {
+        VerifiedToken cached;
+        synchronized (lockedLru) {
+            cached = lockedLru.get(token);
+        }
+        if (cached != null && !cached.isExpired()) {
+            return cached;
+        }
+
+        VerifiedToken verified = jwtUtil.verify(token);
+        synchronized (lockedLru) {
+            lockedLru.put(token, verified);
+        }
+        return verified;
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void runBenchmark() throws RunnerException {
+        Benchmarks.run(JwtVerificationBenchmark.class);
+    }
+}
@@ -0,0 +1,77 @@
+package com.petcare.auth.security;
+
+import static com.petcare.utils.constants.SecurityConstants.LOGIN_IP_BUCKET_CAPACITY;
+import static com.petcare.utils.constants.SecurityConstants.LOGIN_USER_BUCKET_CAPACITY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.petcare.exceptions.TooManyRequestsException;
+
+/**
+ * Comprueba que el limitador de login toma las fichas al comprobarlas, sin dejar pasar más intentos
+ * que fichas hay aunque lleguen a la vez, y que las devuelve tras un login correcto.
+ */
+class LoginThrottleTest {
+
+    private static final String USERNAME = "cliente@petcare.test";
+    private static final String IP = "10.0.0.1";
+
+    private final LoginThrottle throttle = new LoginThrottle();
+
+    @Test
+    void concurrentAttemptsNeverExceedTheBucket() throws Exception {
+        int attempts = 64;
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger allowed = new AtomicInteger();
+
+        for (int i = 0; i < attempts; i++) {
+            pool.execute(() -> {
+                try {
+                    start.await();
+                    throttle.tryAcquire(USERNAME, IP);
+                    allowed.incrementAndGet();
+                } catch (TooManyRequestsException | InterruptedException e) {
+                    // Intento rechazado.
+                }
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        assertThat(pool.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(allowed.get()).isEqualTo(LOGIN_USER_BUCKET_CAPACITY);
+    }
+
+    @Test
+    void successfulLoginGivesTheTokensBack() {
+        for (int i = 0; i < LOGIN_IP_BUCKET_CAPACITY * 2; i++) {
+            throttle.tryAcquire(USERNAME, IP);
+            throttle.recordSuccess(USERNAME, IP);
+        }
+
+        throttle.tryAcquire("otro@petcare.test", IP);
+    }
+
+    @Test
+    void ipRejectionDoesNotConsumeTheUserToken() {
+        for (int i = 0; i < LOGIN_IP_BUCKET_CAPACITY; i++) {
+            throttle.tryAcquire("usuario" + i + "@petcare.test", IP);
+        }
+
+        for (int i = 0; i < LOGIN_USER_BUCKET_CAPACITY; i++) {
+            assertThatThrownBy(() -> throttle.tryAcquire(USERNAME, IP))
+                    .isInstanceOf(TooManyRequestsException.class);
+        }
+
+        throttle.tryAcquire(USERNAME, "10.0.0.2");
+    }
+}
@@ -0,0 +1,91 @@
+package com.petcare.auth.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javax.crypto.SecretKey;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.petcare.domain.client.Client;
+import com.petcare.enums.Role;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * Comprueba que la revocación por usuario distingue milisegundos, que se repite al confirmar la
+ * transacción y que el principal se obtiene de los claims del token de acceso.
+ */
+class TokenRevocationListTest {
+
+    private static final long HOUR_MS = 3_600_000L;
+
+    private final JwtUtil jwtUtil = new JwtUtil();
+    private final TokenRevocationList revocationList = new TokenRevocationList();
+    private final Client client = new Client();
+
+    @BeforeEach
+    void setUp() {
+        SecretKey key = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+        ReflectionTestUtils.setField(jwtUtil, "key", key);
+        ReflectionTestUtils.setField(jwtUtil, "parser", Jwts.parserBuilder().setSigningKey(key).build());
+        ReflectionTestUtils.setField(jwtUtil, "accessExpirationTime", HOUR_MS);
+        ReflectionTestUtils.setField(jwtUtil, "refreshExpirationTime", HOUR_MS);
+        ReflectionTestUtils.setField(revocationList, "refreshExpirationTime", HOUR_MS);
+
+        client.setId(7L);
+        client.setName("Prueba");
+        client.setUsername("cliente@petcare.test");
+        client.setRole(Role.CLIENTE);
+    }
+
+    @Test
+    void tokenIssuedRightAfterRevocationIsAccepted() throws Exception {
+        VerifiedToken before = jwtUtil.verify(jwtUtil.generateAccessToken(client));
+        Thread.sleep(2);
+        revocationList.revokeUser(client.getUsername());
+        Thread.sleep(2);
+        VerifiedToken after = jwtUtil.verify(jwtUtil.generateAccessToken(client));
+
+        assertThat(revocationList.isRevoked(before)).isTrue();
+        assertThat(revocationList.isRevoked(after)).isFalse();
+    }
+
+    @Test
+    void revocationInsideTransactionIsRepeatedAfterCommit() throws Exception {
+        VerifiedToken duringTransaction;
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            revocationList.revokeUser(client.getUsername());
+            Thread.sleep(2);
+            duringTransaction = jwtUtil.verify(jwtUtil.generateAccessToken(client));
+            assertThat(revocationList.isRevoked(duringTransaction)).isFalse();
+
+            Thread.sleep(2);
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCommit();
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(revocationList.isRevoked(duringTransaction)).isTrue();
+    }
+
+    @Test
+    void principalIsBuiltFromAccessTokenClaims() {
+        VerifiedToken token = jwtUtil.verify(jwtUtil.generateAccessToken(client));
+        AuthenticatedUser principal = AuthenticatedUser.from(token);
+
+        assertThat(principal.id()).isEqualTo(7L);
+        assertThat(principal.username()).isEqualTo("cliente@petcare.test");
+        assertThat(principal.role()).isEqualTo(Role.CLIENTE);
+        assertThat(principal.authorities()).extracting("authority").containsExactly("ROLE_CLIENTE");
+    }
+}
@@ -0,0 +1,195 @@
+package com.petcare.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import com.petcare.domain.booking.Booking;
+import com.petcare.domain.booking.BookingRepository;
+import com.petcare.domain.client.Client;
+import com.petcare.domain.employee.Employee;
+import com.petcare.domain.pet.Pet;
+import com.petcare.domain.product.Product;
+import com.petcare.domain.purchase.Item;
+import com.petcare.domain.purchase.Purchase;
+import com.petcare.domain.purchase.PurchaseRepository;
+import com.petcare.domain.user.User;
+import com.petcare.enums.AccountStatus;
+import com.petcare.enums.BookingStatus;
+import com.petcare.enums.BookingType;
+import com.petcare.enums.PetGender;
+import com.petcare.enums.PetType;
+import com.petcare.enums.ProductCategory;
+import com.petcare.enums.Profile;
+import com.petcare.enums.Role;
+import com.petcare.support.EmbeddedPostgresTest;
+import com.petcare.support.JdbcRoundTrips;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Comprueba que las escrituras de varias filas se envían en lotes JDBC gracias a los IDs por secuencia
+ * y a {@code hibernate.jdbc.batch_size}, contando los viajes a la base de datos con {@link JdbcRoundTrips}.
+ * <p>
+ * La comparación de tiempos con y sin lotes solo se ejecuta con {@code -Dbenchmark=true}.
+ */
+@Slf4j
+@Import(JdbcRoundTrips.Config.class)
+class JdbcBatchingTest extends EmbeddedPostgresTest {
+
+    private static final int ITEMS = 20;
+    private static final int SERIES = 52;
+    private static final int BENCHMARK_ROUNDS = 20;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PurchaseRepository purchaseRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    private Client client;
+    private Employee employee;
+    private Pet pet;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        client = new Client();
+        fillUser(client, "cliente@petcare.test", Role.CLIENTE);
+        entityManager.persist(client);
+
+        employee = new Employee();
+        fillUser(employee, "empleado@petcare.test", Role.EMPLEADO);
+        employee.setProfile(Profile.VETERINARIO);
+        entityManager.persist(employee);
+
+        pet = new Pet();
+        pet.setName("Luna");
+        pet.setPetGender(PetGender.HEMBRA);
+        pet.setType(PetType.PERRO);
+        pet.setClient(client);
+        entityManager.persist(pet);
+
+        product = new Product();
+        product.setName("Pienso");
+        product.setSalePrice(10.0);
+        product.setStock(1000);
+        product.setProductCategory(ProductCategory.ALIMENTACION);
+        entityManager.persist(product);
+
+        entityManager.flush();
+        JdbcRoundTrips.clear();
+    }
+
+    // ╔════════════════════════════════════════════════════╗
+    // ║                      LOTES                         ║
+    // ╚════════════════════════════════════════════════════╝
+
+    @Test
+    void purchaseItemsAreInsertedInOneBatch() {
+        purchaseRepository.saveAndFlush(newPurchase(ITEMS));
+
+        assertEquals(1, JdbcRoundTrips.count("insert into compras "));
+        assertEquals(1, JdbcRoundTrips.count("insert into detalle_compra "));
+    }
+
+    @Test
+    void bookingSeriesIsInsertedInBatchesOfFifty() {
+        bookingRepository.saveAllAndFlush(newSeries(LocalDate.of(2030, 1, 7), LocalTime.of(10, 0)));
+
+        assertEquals(2, JdbcRoundTrips.count("insert into citas "));
+    }
+
+    // ╔════════════════════════════════════════════════════╗
+    // ║                   RENDIMIENTO                      ║
+    // ╚════════════════════════════════════════════════════╝
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void compareBatchedAndSingleInserts() {
+        Session session = entityManager.getEntityManager().unwrap(Session.class);
+
+        timeWrites(LocalDate.of(2030, 1, 7));
+        session.setJdbcBatchSize(1);
+        timeWrites(LocalDate.of(2035, 1, 7));
+
+        long single = timeWrites(LocalDate.of(2040, 1, 7));
+        session.setJdbcBatchSize(null);
+        long batched = timeWrites(LocalDate.of(2045, 1, 7));
+
+        log.info("Escrituras de {} compras ({} líneas) y {} series ({} citas): {} ms en lotes, {} ms fila a fila.",
+                BENCHMARK_ROUNDS, ITEMS, BENCHMARK_ROUNDS, SERIES, batched / 1_000_000, single / 1_000_000);
+    }
+
+    // ╔════════════════════════════════════════════════════╗
+    // ║                MÉTODOS AUXILIARES                  ║
+    // ╚════════════════════════════════════════════════════╝
+
+    private long timeWrites(LocalDate firstDate) {
+        long start = System.nanoTime();
+        for (int i = 0; i < BENCHMARK_ROUNDS; i++) {
+            purchaseRepository.saveAndFlush(newPurchase(ITEMS));
+            bookingRepository.saveAllAndFlush(newSeries(firstDate, LocalTime.of(8, 0).plusMinutes(15L * i)));
+            entityManager.clear();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private Purchase newPurchase(int items) {
+        Purchase purchase = new Purchase();
+        purchase.setClient(client);
+        purchase.setPurchaseDate(LocalDateTime.now());
+        purchase.setItem(new ArrayList<>());
+
+        for (int i = 0; i < items; i++) {
+            Item item = new Item();
+            item.setPurchase(purchase);
+            item.setProduct(product);
+            item.setQuantity(1);
+            item.setUnitPrice(10.0);
+            item.setSubtotal(10.0);
+            purchase.getItem().add(item);
+        }
+        purchase.setTotalAmount(items * 10.0);
+        return purchase;
+    }
+
+    private List<Booking> newSeries(LocalDate firstDate, LocalTime time) {
+        List<Booking> bookings = new ArrayList<>(SERIES);
+        for (int week = 0; week < SERIES; week++) {
+            Booking booking = new Booking();
+            booking.setDate(firstDate.plusWeeks(week));
+            booking.setTime(time);
+            booking.setStatus(BookingStatus.CONFIRMADA);
+            booking.setType(BookingType.CONSULTA);
+            booking.setPet(pet);
+            booking.setEmployee(employee);
+            bookings.add(booking);
+        }
+        return bookings;
+    }
+
+    private static void fillUser(User user, String username, Role role) {
+        user.setName("Prueba");
+        user.setRecoveryEmail(username);
+        user.setUsername(username);
+        user.setPassword("secreto");
+        user.setRole(role);
+        user.setAccountStatus(AccountStatus.ACTIVA);
+    }
+}
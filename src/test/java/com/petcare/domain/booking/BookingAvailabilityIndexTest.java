@@ -0,0 +1,74 @@
+package com.petcare.domain.booking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.petcare.domain.booking.event.BookingStatusChanged;
+import com.petcare.enums.BookingStatus;
+
+/**
+ * Comprueba que la reconstrucción del índice no pisa los cambios confirmados mientras se carga.
+ */
+class BookingAvailabilityIndexTest {
+
+    private static final Long EMPLOYEE_ID = 1L;
+    private static final LocalDate DATE = LocalDate.now().plusDays(7);
+    private static final LocalTime TIME = BookingSlots.timeOf(0);
+
+    private final BookingRepository bookingRepository = mock(BookingRepository.class);
+    private final BookingAvailabilityIndex index = new BookingAvailabilityIndex(bookingRepository);
+
+    @Test
+    void cancellationDuringRebuildIsNotOverwrittenBySnapshot() {
+        BookingSlot stale = slot();
+        when(bookingRepository.findSlotsFrom(any())).thenAnswer(invocation -> {
+            // La cancelación se confirma después de leer la foto, que aún ve la cita confirmada.
+            index.onBookingStatusChanged(new BookingStatusChanged(10L, EMPLOYEE_ID, DATE, TIME,
+                    BookingStatus.CONFIRMADA, BookingStatus.CANCELADA));
+            return List.of(stale);
+        });
+        when(bookingRepository.existsByEmployeeIdAndDateAndTimeAndStatus(EMPLOYEE_ID, DATE, TIME,
+                BookingStatus.CONFIRMADA)).thenReturn(false);
+
+        index.rebuild();
+
+        assertThat(index.isOccupied(EMPLOYEE_ID, DATE, TIME)).isFalse();
+    }
+
+    @Test
+    void untouchedDaysAreServedFromTheIndex() {
+        when(bookingRepository.findSlotsFrom(any())).thenReturn(List.of(slot()));
+
+        index.rebuild();
+
+        assertThat(index.isOccupied(EMPLOYEE_ID, DATE, TIME)).isTrue();
+        assertThat(index.isOccupied(EMPLOYEE_ID, DATE, BookingSlots.timeOf(1))).isFalse();
+    }
+
+    private static BookingSlot slot() {
+        return new BookingSlot() {
+            @Override
+            public Long getEmployeeId() {
+                return EMPLOYEE_ID;
+            }
+
+            @Override
+            public LocalDate getDate() {
+                return DATE;
+            }
+
+            @Override
+            public LocalTime getTime() {
+                return TIME;
+            }
+        };
+    }
+}
@@ -0,0 +1,87 @@
+package com.petcare.domain.booking;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import com.petcare.enums.BookingStatus;
+import com.petcare.enums.Profile;
+import com.petcare.support.QueryPlanTest;
+
+/**
+ * Comprueba que las consultas más frecuentes sobre {@code citas} (listados paginados y comprobaciones
+ * de disponibilidad) se resuelven con los índices de las migraciones y nunca con un recorrido secuencial.
+ */
+class BookingQueryPlanTest extends QueryPlanTest {
+
+    private static final LocalDate DATE = LocalDate.of(2030, 1, 15);
+    private static final LocalTime TIME = LocalTime.of(10, 0);
+    private static final Pageable PAGE = PageRequest.of(0, 20);
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    // ╔════════════════════════════════════════════════════╗
+    // ║          LISTADOS PAGINADOS POR CURSOR             ║
+    // ╚════════════════════════════════════════════════════╝
+
+    @Test
+    void pageOfAllBookingsSeeksCursor() {
+        assertSeeksCursor(() -> bookingRepository.findPage(DATE, TIME, Long.MAX_VALUE, PAGE));
+    }
+
+    @Test
+    void employeePageSeeksCursor() {
+        assertSeeksCursor(() -> bookingRepository.findPageByEmployeeId(1L, DATE, TIME, Long.MAX_VALUE, PAGE));
+    }
+
+    @Test
+    void clientPageSeeksCursor() {
+        assertSeeksCursor(() -> bookingRepository.findPageByClientId(1L, DATE, TIME, Long.MAX_VALUE, PAGE));
+    }
+
+    @Test
+    void clientPastPageSeeksCursor() {
+        assertSeeksCursor(() -> bookingRepository.findPastPageByClientId(1L, DATE, TIME, Long.MAX_VALUE, PAGE));
+    }
+
+    @Test
+    void petHistoryPageSeeksCursor() {
+        assertSeeksCursor(() -> bookingRepository.findHistoryPageByPetId(1L, 1L, DATE, TIME, Long.MAX_VALUE, PAGE));
+    }
+
+    // ╔════════════════════════════════════════════════════╗
+    // ║                  DISPONIBILIDAD                    ║
+    // ╚════════════════════════════════════════════════════╝
+
+    @Test
+    void slotOccupancyCheckUsesIndex() {
+        assertUsesIndexes(() -> bookingRepository.existsByEmployeeIdAndDateAndTimeAndStatus(1L, DATE, TIME,
+                BookingStatus.CONFIRMADA));
+    }
+
+    @Test
+    void employeeDayUsesIndex() {
+        assertUsesIndexes(() -> bookingRepository.findByEmployeeIdAndDateAndStatus(1L, DATE, BookingStatus.CONFIRMADA));
+    }
+
+    @Test
+    void employeeRangeSlotsUseIndex() {
+        assertUsesIndexes(() -> bookingRepository.findSlotsByEmployeeBetween(1L, DATE, DATE.plusDays(31)));
+    }
+
+    @Test
+    void profileRangeSlotsUseIndex() {
+        assertUsesIndexes(() -> bookingRepository.findSlotsByProfileBetween(Profile.VETERINARIO, DATE,
+                DATE.plusDays(31)));
+    }
+
+    @Test
+    void slotsFromDateUseIndex() {
+        assertUsesIndexes(() -> bookingRepository.findSlotsFrom(DATE));
+    }
+}
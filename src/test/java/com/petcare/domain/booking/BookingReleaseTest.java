@@ -0,0 +1,70 @@
+package com.petcare.domain.booking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.petcare.domain.booking.archive.ArchivedBookingRepository;
+import com.petcare.domain.booking.archive.BookingArchive;
+import com.petcare.domain.booking.dto.BookingReleaseRequest;
+import com.petcare.domain.booking.dto.BookingReleaseResponse;
+import com.petcare.domain.employee.Employee;
+import com.petcare.domain.employee.EmployeeRepository;
+import com.petcare.domain.pet.PetRepository;
+import com.petcare.enums.BookingType;
+import com.petcare.enums.Profile;
+
+/**
+ * Comprueba que liberar la agenda de un empleado desde hoy no anula las citas de hoy cuya hora ya ha pasado.
+ */
+class BookingReleaseTest {
+
+    @Test
+    void bookingsEarlierTodayAreLeftUntouched() {
+        LocalDate today = LocalDate.now();
+        AffectedBooking past = affected(1L, today, LocalTime.MIDNIGHT);
+        AffectedBooking upcoming = affected(2L, today, LocalTime.MAX);
+        AffectedBooking tomorrow = affected(3L, today.plusDays(1), LocalTime.MIDNIGHT);
+
+        Employee employee = new Employee();
+        employee.setId(5L);
+        employee.setProfile(Profile.VETERINARIO);
+
+        BookingRepository bookingRepository = mock(BookingRepository.class);
+        EmployeeRepository employeeRepository = mock(EmployeeRepository.class);
+        when(employeeRepository.findById(5L)).thenReturn(Optional.of(employee));
+        when(bookingRepository.findAffectedByEmployeeBetween(eq(5L), any(), any()))
+                .thenReturn(new ArrayList<>(List.of(past, upcoming, tomorrow)));
+
+        BookingServiceImpl service = new BookingServiceImpl(bookingRepository, mock(PetRepository.class),
+                employeeRepository, mock(ApplicationEventPublisher.class), mock(BookingAvailabilityIndex.class),
+                new BookingSlotLocks(), mock(ArchivedBookingRepository.class), mock(BookingArchive.class));
+
+        BookingReleaseRequest request = new BookingReleaseRequest();
+        request.setFromDate(today.minusDays(3));
+        request.setToDate(today.plusDays(1));
+        request.setReassign(false);
+
+        BookingReleaseResponse response = service.releaseEmployeeBookings(5L, request);
+
+        assertThat(response.getFromDate()).isEqualTo(today);
+        assertThat(response.getAbortedIds()).containsExactly(2L, 3L);
+        verify(bookingRepository).abortAll(eq(List.of(2L, 3L)), any());
+    }
+
+    private static AffectedBooking affected(Long id, LocalDate date, LocalTime time) {
+        return new AffectedBooking(id, date, time, BookingType.CONSULTA, "Luna", "Cliente", "cliente@petcare.test");
+    }
+}
@@ -0,0 +1,74 @@
+package com.petcare.domain.booking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Comprueba que los cerrojos de franjas bloquean solo el par exacto (empleado, día).
+ */
+class BookingSlotLocksTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2030, 1, 7);
+
+    private final BookingSlotLocks locks = new BookingSlotLocks();
+
+    @Test
+    void yearlySeriesDoesNotBlockOtherSlots() throws Exception {
+        List<LocalDate> weekly = new ArrayList<>();
+        for (int week = 0; week < 52; week++) {
+            weekly.add(MONDAY.plusWeeks(week));
+        }
+
+        try (BookingSlotLocks.SlotLock series = locks.lock(1L, weekly)) {
+            for (long employeeId = 1; employeeId <= 20; employeeId++) {
+                for (int day = 1; day <= 6; day++) {
+                    final long id = employeeId;
+                    final LocalDate date = MONDAY.plusDays(day);
+                    assertThat(lockInOtherThread(id, date).get(1, TimeUnit.SECONDS)).isTrue();
+                }
+            }
+        }
+    }
+
+    @Test
+    void sameSlotWaitsUntilReleased() throws Exception {
+        CompletableFuture<Boolean> waiting;
+
+        try (BookingSlotLocks.SlotLock held = locks.lock(1L, MONDAY)) {
+            waiting = lockInOtherThread(1L, MONDAY);
+            Thread.sleep(200);
+            assertThat(waiting).isNotDone();
+        }
+
+        assertThat(waiting.get(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void tryLockGivesUpWithoutKeepingPartialLocks() throws Exception {
+        try (BookingSlotLocks.SlotLock held = locks.lock(2L, MONDAY)) {
+            CompletableFuture<Boolean> attempt = CompletableFuture.supplyAsync(() -> {
+                BookingSlotLocks.SlotLock lock = locks.tryLock(Map.of(1L, List.of(MONDAY), 2L, List.of(MONDAY)), 100);
+                return lock != null;
+            });
+            assertThat(attempt.get(1, TimeUnit.SECONDS)).isFalse();
+        }
+
+        assertThat(lockInOtherThread(1L, MONDAY).get(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private CompletableFuture<Boolean> lockInOtherThread(Long employeeId, LocalDate date) {
+        return CompletableFuture.supplyAsync(() -> {
+            try (BookingSlotLocks.SlotLock lock = locks.lock(employeeId, date)) {
+                return true;
+            }
+        });
+    }
+}
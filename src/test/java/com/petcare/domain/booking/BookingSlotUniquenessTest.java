@@ -0,0 +1,147 @@
+package com.petcare.domain.booking;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.petcare.domain.booking.archive.ArchivedBookingRepository;
+import com.petcare.domain.booking.archive.BookingArchive;
+import com.petcare.domain.booking.dto.BookingRequest;
+import com.petcare.domain.client.Client;
+import com.petcare.domain.employee.Employee;
+import com.petcare.domain.employee.EmployeeRepository;
+import com.petcare.domain.pet.Pet;
+import com.petcare.domain.pet.PetRepository;
+import com.petcare.domain.user.User;
+import com.petcare.enums.AccountStatus;
+import com.petcare.enums.BookingStatus;
+import com.petcare.enums.BookingType;
+import com.petcare.enums.PetGender;
+import com.petcare.enums.PetType;
+import com.petcare.enums.Profile;
+import com.petcare.enums.Role;
+import com.petcare.exceptions.BookingException;
+import com.petcare.support.EmbeddedPostgresTest;
+
+/**
+ * Comprueba el índice único parcial {@code ux_citas_empleado_fecha_hora_activa}: un empleado no puede tener
+ * dos citas confirmadas en la misma franja, las citas canceladas no la ocupan y el conflicto llega al cliente
+ * como {@link BookingException} aunque el índice de disponibilidad en memoria no lo haya detectado.
+ */
+class BookingSlotUniquenessTest extends EmbeddedPostgresTest {
+
+    private static final LocalDate DATE = LocalDate.now().plusWeeks(1).with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+    private static final LocalTime TIME = LocalTime.of(10, 0);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private PetRepository petRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    private Client client;
+    private Employee employee;
+    private Pet pet;
+
+    @BeforeEach
+    void setUp() {
+        client = new Client();
+        fillUser(client, "cliente@petcare.test", Role.CLIENTE);
+        entityManager.persist(client);
+
+        employee = new Employee();
+        fillUser(employee, "empleado@petcare.test", Role.EMPLEADO);
+        employee.setProfile(Profile.VETERINARIO);
+        entityManager.persist(employee);
+
+        pet = new Pet();
+        pet.setName("Luna");
+        pet.setPetGender(PetGender.HEMBRA);
+        pet.setType(PetType.PERRO);
+        pet.setClient(client);
+        entityManager.persist(pet);
+
+        entityManager.flush();
+    }
+
+    @Test
+    void secondConfirmedBookingInSameSlotIsRejected() {
+        bookingRepository.saveAndFlush(newBooking(BookingStatus.CONFIRMADA));
+
+        assertThatThrownBy(() -> bookingRepository.saveAndFlush(newBooking(BookingStatus.CONFIRMADA)))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void cancelledBookingDoesNotBlockTheSlot() {
+        bookingRepository.saveAndFlush(newBooking(BookingStatus.CANCELADA));
+
+        assertThatCode(() -> bookingRepository.saveAndFlush(newBooking(BookingStatus.CONFIRMADA)))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void constraintViolationSurfacesAsBookingException() {
+        bookingRepository.saveAndFlush(newBooking(BookingStatus.CONFIRMADA));
+
+        // Índice en memoria desfasado (por ejemplo, otra instancia acaba de reservar la franja).
+        BookingAvailabilityIndex staleIndex = mock(BookingAvailabilityIndex.class);
+        when(staleIndex.isOccupied(any(), any(), any())).thenReturn(false);
+
+        BookingServiceImpl service = new BookingServiceImpl(bookingRepository, petRepository, employeeRepository,
+                mock(ApplicationEventPublisher.class), staleIndex, new BookingSlotLocks(),
+                mock(ArchivedBookingRepository.class), mock(BookingArchive.class));
+
+        BookingRequest request = new BookingRequest();
+        request.setDate(DATE);
+        request.setTime(TIME);
+        request.setType(BookingType.CONSULTA);
+        request.setReminderRequest(false);
+        request.setPetId(pet.getId());
+        request.setEmployeeId(employee.getId());
+
+        assertThatThrownBy(() -> service.createBooking(request, client))
+                .isInstanceOf(BookingException.class)
+                .hasMessageContaining("ya tiene una cita");
+    }
+
+    private Booking newBooking(BookingStatus status) {
+        Booking booking = new Booking();
+        booking.setDate(DATE);
+        booking.setTime(TIME);
+        booking.setStatus(status);
+        booking.setType(BookingType.CONSULTA);
+        booking.setPet(pet);
+        booking.setEmployee(employee);
+        return booking;
+    }
+
+    private static void fillUser(User user, String username, Role role) {
+        user.setName("Prueba");
+        user.setRecoveryEmail(username);
+        user.setUsername(username);
+        user.setPassword("secreto");
+        user.setRole(role);
+        user.setAccountStatus(AccountStatus.ACTIVA);
+    }
+}
@@ -0,0 +1,46 @@
+package com.petcare.domain.booking.archive;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import com.petcare.support.QueryPlanTest;
+
+/**
+ * Comprueba que los listados paginados del histórico ({@code citas_historico}), la tabla que no deja
+ * de crecer, recorren sus índices a partir del cursor.
+ */
+class ArchivedBookingQueryPlanTest extends QueryPlanTest {
+
+    private static final LocalDate DATE = LocalDate.of(2024, 1, 15);
+    private static final LocalTime TIME = LocalTime.of(10, 0);
+    private static final Pageable PAGE = PageRequest.of(0, 20);
+
+    @Autowired
+    private ArchivedBookingRepository archivedBookingRepository;
+
+    @Test
+    void pageOfAllArchivedBookingsSeeksCursor() {
+        assertSeeksCursor(() -> archivedBookingRepository.findPage(DATE, TIME, Long.MAX_VALUE, PAGE));
+    }
+
+    @Test
+    void employeePageSeeksCursor() {
+        assertSeeksCursor(() -> archivedBookingRepository.findPageByEmployeeId(1L, DATE, TIME, Long.MAX_VALUE, PAGE));
+    }
+
+    @Test
+    void clientPageSeeksCursor() {
+        assertSeeksCursor(() -> archivedBookingRepository.findPageByClientId(1L, DATE, TIME, Long.MAX_VALUE, PAGE));
+    }
+
+    @Test
+    void petHistoryPageSeeksCursor() {
+        assertSeeksCursor(() -> archivedBookingRepository.findHistoryPageByPetId(1L, 1L, DATE, TIME, Long.MAX_VALUE,
+                PAGE));
+    }
+}
@@ -0,0 +1,134 @@
+package com.petcare.domain.user;
+
+import static com.petcare.utils.constants.SecurityConstants.MAX_LOGIN_ATTEMPTS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.petcare.domain.client.Client;
+import com.petcare.enums.AccountStatus;
+import com.petcare.enums.Role;
+import com.petcare.support.EmbeddedPostgresTest;
+
+/**
+ * Comprueba las sentencias atómicas del contador de intentos de login fallidos de {@link UserRepository}.
+ * <p>
+ * Las pruebas concurrentes necesitan que cada sentencia se confirme por separado, así que la clase no se
+ * ejecuta dentro de la transacción de la prueba y borra su usuario al terminar.
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class FailedLoginCounterTest extends EmbeddedPostgresTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        Client client = new Client();
+        client.setName("Prueba");
+        client.setUsername("bloqueo@petcare.test");
+        client.setRecoveryEmail("bloqueo@petcare.test");
+        client.setPassword("secreto");
+        client.setRole(Role.CLIENTE);
+        client.setAccountStatus(AccountStatus.ACTIVA);
+        client.setFailedLoginAttempts(0);
+        userId = userRepository.save(client).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteById(userId);
+    }
+
+    @Test
+    void incrementReturnsTheNewTotal() {
+        assertThat(userRepository.incrementFailedLoginAttempts(userId)).isEqualTo(1);
+        assertThat(userRepository.incrementFailedLoginAttempts(userId)).isEqualTo(2);
+    }
+
+    @Test
+    void concurrentIncrementsAreNotLost() throws Exception {
+        List<Integer> totals = runConcurrently(() -> userRepository.incrementFailedLoginAttempts(userId));
+
+        assertThat(totals).containsExactlyInAnyOrder(1, 2, 3, 4, 5, 6, 7, 8);
+    }
+
+    @Test
+    void resetIsNoOpAtZero() {
+        assertThat(userRepository.resetFailedLoginAttempts(userId)).isEmpty();
+
+        userRepository.incrementFailedLoginAttempts(userId);
+        assertThat(userRepository.resetFailedLoginAttempts(userId)).containsExactly(userId);
+        assertThat(userRepository.resetFailedLoginAttempts(userId)).isEmpty();
+    }
+
+    @Test
+    void blockBelowThresholdDoesNothing() {
+        userRepository.incrementFailedLoginAttempts(userId);
+
+        assertThat(userRepository.blockAtFailedLoginThreshold(userId, MAX_LOGIN_ATTEMPTS, "token",
+                LocalDateTime.now().plusHours(1))).isEmpty();
+    }
+
+    @Test
+    void onlyOneConcurrentCallerBlocksTheAccount() throws Exception {
+        for (int i = 0; i < MAX_LOGIN_ATTEMPTS; i++) {
+            userRepository.incrementFailedLoginAttempts(userId);
+        }
+
+        LocalDateTime expiration = LocalDateTime.now().plusHours(1);
+        List<List<Long>> results = runConcurrently(
+                () -> userRepository.blockAtFailedLoginThreshold(userId, MAX_LOGIN_ATTEMPTS, "token", expiration));
+
+        int blocked = 0;
+        for (List<Long> result : results) {
+            if (!result.isEmpty()) {
+                blocked++;
+            }
+        }
+        assertThat(blocked).isEqualTo(1);
+        assertThat(userRepository.findById(userId).orElseThrow().getAccountStatus()).isEqualTo(AccountStatus.BLOQUEADA);
+    }
+
+    private <T> List<T> runConcurrently(Callable<T> task) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<T>> futures = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.petcare.notification;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.RunnerException;
+import org.springframework.core.io.ClassPathResource;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import com.petcare.enums.EmailTemplate;
+import com.petcare.support.Benchmarks;
+import com.petcare.utils.constants.EmailConstants;
+
+/**
+ * Mide el renderizado de un recordatorio de cita, el correo que más se envía en los procesos masivos
+ * como {@code ReminderTask}.
+ * <p>
+ * Compara {@link TemplateRenderer}, con las plantillas precargadas y los estilos ya incorporados, frente al
+ * renderizado anterior, que leía la hoja de estilos del classpath e insertaba los estilos en cada correo.
+ * Solo se ejecuta con {@code -Dbenchmark=true}.
+ */
+@State(Scope.Benchmark)
+public class TemplateRendererBenchmark {
+
+    private static final Map<String, Object> VARIABLES = Map.of(
+            "name", "Laura",
+            "petName", "Luna",
+            "date", "15/01/2030",
+            "time", "10:00",
+            "location", "PetCare - Consulta 2");
+
+    private TemplateRenderer renderer;
+    private TemplateEngine previousEngine;
+
+    @Setup
+    public void setUp() {
+        renderer = new TemplateRenderer();
+
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix(EmailConstants.TEMPLATE_FOLDER);
+        resolver.setSuffix(EmailConstants.TEMPLATE_SUFFIX);
+        resolver.setTemplateMode(EmailConstants.TEMPLATE_MODE);
+        resolver.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        resolver.setCheckExistence(true);
+
+        previousEngine = new SpringTemplateEngine();
+        previousEngine.setTemplateResolver(resolver);
+    }
+
+    @Benchmark
+    public String precompiledTemplate() {
+        return renderer.render(EmailTemplate.BOOKING_REMINDER, VARIABLES);
+    }
+
+    @Benchmark
+    public String stylesInlinedPerMessage() throws IOException {
+        Context context = new Context(Locale.getDefault());
+        context.setVariables(VARIABLES);
+        String html = previousEngine.process(EmailTemplate.BOOKING_REMINDER.getFileName(), context);
+
+        try (InputStream input = new ClassPathResource(EmailConstants.STYLESHEET_PATH).getInputStream()) {
+            String styles = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+            return html.replace(EmailConstants.STYLES_PLACEHOLDER, styles);
+        }
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void runBenchmark() throws RunnerException {
+        Benchmarks.run(TemplateRendererBenchmark.class);
+    }
+}
@@ -0,0 +1,48 @@
+package com.petcare.support;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Lanza las pruebas de rendimiento JMH desde JUnit.
+ * <p>
+ * Las pruebas que lo usan solo se ejecutan con {@code -Dbenchmark=true}, por ejemplo
+ * {@code mvn test -Dbenchmark=true -Dtest=TemplateRendererBenchmark}, para no alargar la compilación habitual.
+ * Los resultados se muestran por consola y se guardan en {@code target/jmh-<clase>.json}.
+ */
+public final class Benchmarks {
+
+    private Benchmarks() {
+    }
+
+    /**
+     * Ejecuta todos los métodos {@code @Benchmark} de una clase con una configuración corta pero estable.
+     *
+     * @param benchmark Clase con los métodos de la prueba.
+     * @throws RunnerException si JMH no puede completar la ejecución.
+     */
+    public static void run(Class<?> benchmark) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(benchmark.getName().replace("$", "\\$") + "\\.")
+                .mode(Mode.AverageTime)
+                .timeUnit(TimeUnit.MICROSECONDS)
+                .forks(1)
+                .warmupIterations(3)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .shouldFailOnError(true)
+                .resultFormat(ResultFormatType.JSON)
+                .result("target/jmh-" + benchmark.getSimpleName() + ".json")
+                .build();
+
+        new Runner(options).run();
+    }
+}
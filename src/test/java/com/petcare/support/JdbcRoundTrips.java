@@ -0,0 +1,128 @@
+package com.petcare.support;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Cuenta las idas y vueltas a la base de datos: cada {@code executeBatch()} o cada ejecución suelta de una
+ * sentencia preparada cuenta como una.
+ * <p>
+ * Con lotes JDBC, Hibernate prepara la sentencia {@code INSERT} una sola vez y la reutiliza en todos los lotes,
+ * así que contar sentencias preparadas no basta para saber cuántos viajes se hacen. Para usarlo, la prueba
+ * importa {@link Config}, que envuelve el {@link DataSource} de la aplicación.
+ */
+public final class JdbcRoundTrips {
+
+    private static final List<String> EXECUTIONS = new ArrayList<>();
+
+    private JdbcRoundTrips() {
+    }
+
+    /**
+     * Descarta las ejecuciones registradas hasta ahora.
+     */
+    public static void clear() {
+        synchronized (EXECUTIONS) {
+            EXECUTIONS.clear();
+        }
+    }
+
+    /**
+     * Cuenta las ejecuciones de sentencias que empiezan por el prefijo indicado, sin distinguir mayúsculas.
+     *
+     * @param prefix Comienzo de la sentencia, por ejemplo {@code "insert into citas "}.
+     * @return Número de viajes a la base de datos.
+     */
+    public static long count(String prefix) {
+        synchronized (EXECUTIONS) {
+            return EXECUTIONS.stream()
+                    .filter(sql -> sql.stripLeading().regionMatches(true, 0, prefix, 0, prefix.length()))
+                    .count();
+        }
+    }
+
+    private static void record(String sql) {
+        synchronized (EXECUTIONS) {
+            EXECUTIONS.add(sql);
+        }
+    }
+
+    // ╔════════════════════════════════════════════════════╗
+    // ║                    PROXIES                         ║
+    // ╚════════════════════════════════════════════════════╝
+
+    private static DataSource wrap(DataSource dataSource) {
+        return proxy(DataSource.class, dataSource, (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            return result instanceof Connection connection ? wrap(connection) : result;
+        });
+    }
+
+    private static Connection wrap(Connection connection) {
+        return proxy(Connection.class, connection, (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (result instanceof PreparedStatement statement && method.getName().equals("prepareStatement")) {
+                return wrap(statement, (String) args[0]);
+            }
+            return result;
+        });
+    }
+
+    private static PreparedStatement wrap(PreparedStatement statement, String sql) {
+        return proxy(PreparedStatement.class, statement, (target, method, args) -> {
+            String name = method.getName();
+            if (name.equals("executeBatch") || name.equals("executeLargeBatch")
+                    || (name.startsWith("execute") && (args == null || args.length == 0))) {
+                record(sql);
+            }
+            return invoke(target, method, args);
+        });
+    }
+
+    private static <T> T proxy(Class<T> type, T target, Handler<T> handler) {
+        InvocationHandler invocationHandler = (proxy, method, args) -> handler.handle(target, method, args);
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, invocationHandler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Handler<T> {
+        Object handle(T target, Method method, Object[] args) throws Throwable;
+    }
+
+    /**
+     * Envuelve el {@link DataSource} de la aplicación para registrar sus ejecuciones.
+     */
+    @TestConfiguration
+    public static class Config {
+
+        @Bean
+        static BeanPostProcessor jdbcRoundTripsPostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+}
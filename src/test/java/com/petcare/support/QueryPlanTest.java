@@ -0,0 +1,41 @@
+package com.petcare.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Base de las pruebas que comprueban el plan de ejecución de las consultas de un repositorio.
+ */
+public abstract class QueryPlanTest extends EmbeddedPostgresTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Ejecuta una consulta de repositorio y comprueba que su plan no contiene ningún recorrido secuencial.
+     *
+     * @param query Llamada al repositorio.
+     * @return Plan de ejecución.
+     */
+    protected String assertUsesIndexes(Runnable query) {
+        RecordingStatementInspector.clear();
+        query.run();
+
+        String plan = QueryPlans.explain(jdbcTemplate, RecordingStatementInspector.lastSelect());
+        assertThat(plan).as("Plan de ejecución").doesNotContain("Seq Scan");
+        return plan;
+    }
+
+    /**
+     * Además de usar índices, el cursor (fecha, hora, id_cita) de un listado paginado debe ser una condición
+     * del recorrido del índice y no un filtro aplicado después sobre cada fila leída.
+     *
+     * @param query Llamada al repositorio.
+     */
+    protected void assertSeeksCursor(Runnable query) {
+        String plan = assertUsesIndexes(query);
+        assertThat(plan).as("Plan de ejecución").containsPattern("Index Cond: .*ROW\\(fecha, hora, id_cita\\) <");
+    }
+}
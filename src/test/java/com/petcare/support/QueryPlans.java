@@ -0,0 +1,51 @@
+package com.petcare.support;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Utilidades para obtener el plan de ejecución de una consulta generada por Hibernate.
+ * Esta clase no es instanciable.
+ */
+public final class QueryPlans {
+
+    private QueryPlans() { }
+
+    /**
+     * Devuelve el plan genérico de una consulta, con los recorridos secuenciales desactivados.
+     * <p>
+     * Con {@code enable_seqscan = off} el planificador solo recurre a un recorrido secuencial cuando
+     * no existe ningún índice aplicable, de modo que el resultado no depende del tamaño de las tablas.
+     * El plan es genérico ({@code GENERIC_PLAN}), así que no hace falta dar valor a los parámetros.
+     *
+     * @param jdbcTemplate Acceso JDBC dentro de la transacción de la prueba.
+     * @param sql Consulta con parámetros {@code ?}.
+     * @return Plan en formato texto, una línea por nodo.
+     */
+    public static String explain(JdbcTemplate jdbcTemplate, String sql) {
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+        List<String> lines = jdbcTemplate.queryForList("EXPLAIN (GENERIC_PLAN) " + numberParameters(sql), String.class);
+        return String.join("\n", lines);
+    }
+
+    /** Sustituye los parámetros posicionales {@code ?} de JDBC por los numerados {@code $n} de PostgreSQL. */
+    private static String numberParameters(String sql) {
+        StringBuilder numbered = new StringBuilder(sql.length() + 16);
+        boolean inLiteral = false;
+        int parameter = 0;
+
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (c == '\'') {
+                inLiteral = !inLiteral;
+            }
+            if (c == '?' && !inLiteral) {
+                numbered.append('$').append(++parameter);
+            } else {
+                numbered.append(c);
+            }
+        }
+        return numbered.toString();
+    }
+}
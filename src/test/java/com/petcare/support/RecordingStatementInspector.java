@@ -0,0 +1,53 @@
+package com.petcare.support;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Registra el SQL que Hibernate genera para cada consulta, sin modificarlo.
+ * <p>
+ * Permite a las pruebas obtener el SQL real de un método de repositorio y analizar su plan de ejecución.
+ */
+public class RecordingStatementInspector implements StatementInspector {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final List<String> STATEMENTS = new ArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        synchronized (STATEMENTS) {
+            STATEMENTS.add(sql);
+        }
+        return sql;
+    }
+
+    /**
+     * Descarta las sentencias registradas hasta ahora.
+     */
+    public static void clear() {
+        synchronized (STATEMENTS) {
+            STATEMENTS.clear();
+        }
+    }
+
+    /**
+     * Devuelve la última consulta {@code SELECT} registrada.
+     *
+     * @return SQL de la consulta.
+     * @throws IllegalStateException si no se ha registrado ninguna.
+     */
+    public static String lastSelect() {
+        synchronized (STATEMENTS) {
+            for (int i = STATEMENTS.size() - 1; i >= 0; i--) {
+                String sql = STATEMENTS.get(i);
+                if (sql.stripLeading().regionMatches(true, 0, "select", 0, 6)) {
+                    return sql;
+                }
+            }
+        }
+        throw new IllegalStateException("No se ha registrado ninguna consulta SELECT.");
+    }
+}